@@ -0,0 +1,394 @@
+package com.sendly;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit for outbound calls that adapts to how the API responds.
+ * <p>
+ * The limit grows additively, by one for every limit's worth of successful calls made
+ * while the limit is actually in use and latency stays close to the lowest recently
+ * observed round trip. It is cut multiplicatively when a call is rate limited, times
+ * out, fails with a 5xx, or takes longer than {@code latencyTolerance} times that
+ * baseline, but at most once per round trip: calls that were already in flight when
+ * the limit was cut do not cut it again. Baselines are kept per operation, so a slow
+ * endpoint sharing a bulkhead with a fast one is not mistaken for latency growth.
+ * Callers beyond the limit wait for a slot, so fan-outs such as {@code Messages.getAll},
+ * paging and batch chunking settle on the parallelism the API can sustain without tuning.
+ * </p>
+ *
+ * <pre>{@code
+ * Sendly client = new Sendly(apiKey, new Sendly.Builder()
+ *     .adaptiveConcurrency(AdaptiveConcurrencyLimiter.builder().initialLimit(10).maxLimit(100)));
+ *
+ * int limit = client.getConcurrencyLimiter(Bulkhead.DEFAULT).getLimit();
+ * }</pre>
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long baselineWindowNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private final Map<String, Baseline> baselines = new HashMap<>();
+    private boolean everCut;
+    private long lastCutNanos;
+    private long successCount;
+    private long dropCount;
+
+    private AdaptiveConcurrencyLimiter(Builder builder) {
+        this.minLimit = builder.minLimit;
+        this.maxLimit = Math.max(builder.maxLimit, builder.minLimit);
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.baselineWindowNanos = builder.baselineWindow.toNanos();
+        this.limit = Math.min(Math.max(builder.initialLimit, minLimit), maxLimit);
+    }
+
+    /**
+     * Create a builder for AdaptiveConcurrencyLimiter.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Wait for a slot under the current limit.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                slotFreed.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait for a slot under the current limit, giving up after the timeout.
+     *
+     * @return true if a slot was acquired, false if the timeout passed first
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean tryAcquire(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = slotFreed.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release a slot after a call that completed normally.
+     *
+     * @param rttNanos Round-trip time of the call
+     */
+    public void onSuccess(long rttNanos) {
+        onSuccess("", rttNanos);
+    }
+
+    /**
+     * Release a slot after a call that completed normally, comparing its latency with
+     * the baseline of its own operation, such as {@code "GET messages"}.
+     *
+     * @param operation Kind of call the round trip belongs to
+     * @param rttNanos  Round-trip time of the call
+     */
+    public void onSuccess(String operation, long rttNanos) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight * 2 >= (int) limit;
+            release();
+            successCount++;
+            long baseline = baselines.computeIfAbsent(operation, op -> new Baseline()).sample(rttNanos);
+            if (rttNanos > baseline * latencyTolerance) {
+                decrease(System.nanoTime() - rttNanos);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release a slot after a call that was rate limited, timed out or failed on the server.
+     * Without the call's round trip, the limit is cut at most once per baseline round trip.
+     */
+    public void onDropped() {
+        lock.lock();
+        try {
+            release();
+            dropCount++;
+            long baseline = lowestBaseline();
+            decrease(System.nanoTime() - (baseline == Long.MAX_VALUE ? 0 : baseline));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release a slot after a call that was rate limited, timed out or failed on the server.
+     * The limit is only cut if the call started after the last cut.
+     *
+     * @param rttNanos Round-trip time of the call
+     */
+    public void onDropped(long rttNanos) {
+        lock.lock();
+        try {
+            release();
+            dropCount++;
+            decrease(System.nanoTime() - rttNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release a slot after a call whose outcome says nothing about capacity,
+     * such as a validation error.
+     */
+    public void onIgnored() {
+        lock.lock();
+        try {
+            release();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the current concurrency limit.
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of calls currently holding a slot.
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the lowest baseline round-trip time across operations.
+     *
+     * @return The baseline, or null if no call has completed yet
+     */
+    public Duration getBaselineRtt() {
+        lock.lock();
+        try {
+            long baseline = lowestBaseline();
+            return baseline == Long.MAX_VALUE ? null : Duration.ofNanos(baseline);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the baseline round-trip time of one operation.
+     *
+     * @param operation Operation passed to {@link #onSuccess(String, long)}
+     * @return The baseline, or null if no call of that operation has completed yet
+     */
+    public Duration getBaselineRtt(String operation) {
+        lock.lock();
+        try {
+            Baseline baseline = baselines.get(operation);
+            return baseline == null ? null : Duration.ofNanos(baseline.baselineNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of calls that completed normally.
+     */
+    public long getSuccessCount() {
+        lock.lock();
+        try {
+            return successCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of calls that were rate limited, timed out or failed on the server.
+     */
+    public long getDropCount() {
+        lock.lock();
+        try {
+            return dropCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release() {
+        inFlight--;
+        slotFreed.signalAll();
+    }
+
+    /**
+     * Cut the limit for a call that started at the given time, unless it was already in
+     * flight at the last cut and so reflects load the limit has already reacted to.
+     */
+    private void decrease(long startedNanos) {
+        if (everCut && startedNanos - lastCutNanos < 0) {
+            return;
+        }
+        limit = Math.max(minLimit, limit * backoffRatio);
+        everCut = true;
+        lastCutNanos = System.nanoTime();
+    }
+
+    private long lowestBaseline() {
+        long lowest = Long.MAX_VALUE;
+        for (Baseline baseline : baselines.values()) {
+            lowest = Math.min(lowest, baseline.baselineNanos);
+        }
+        return lowest;
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            long baseline = lowestBaseline();
+            return "AdaptiveConcurrencyLimiter{limit=" + (int) limit + ", inFlight=" + inFlight +
+                    ", baselineRttMs=" + (baseline == Long.MAX_VALUE ? "n/a" :
+                    TimeUnit.NANOSECONDS.toMillis(baseline)) + '}';
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lowest round trip of one operation. It is tracked per window and the baseline is
+     * the lowest of the current and previous window, so it follows the API if it gets
+     * slower for good.
+     */
+    private final class Baseline {
+        long baselineNanos = Long.MAX_VALUE;
+        long windowMinNanos = Long.MAX_VALUE;
+        long windowStartNanos = System.nanoTime();
+
+        long sample(long rttNanos) {
+            long now = System.nanoTime();
+            if (now - windowStartNanos > baselineWindowNanos) {
+                baselineNanos = windowMinNanos;
+                windowMinNanos = Long.MAX_VALUE;
+                windowStartNanos = now;
+            }
+            windowMinNanos = Math.min(windowMinNanos, rttNanos);
+            baselineNanos = Math.min(baselineNanos, rttNanos);
+            return baselineNanos;
+        }
+    }
+
+    /**
+     * Builder for AdaptiveConcurrencyLimiter.
+     */
+    public static class Builder {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private double latencyTolerance = 2.0;
+        private Duration baselineWindow = Duration.ofMinutes(1);
+
+        /**
+         * Limit to start from. Default 20.
+         */
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        /**
+         * Lowest the limit may fall to. Default 1.
+         */
+        public Builder minLimit(int minLimit) {
+            this.minLimit = Math.max(minLimit, 1);
+            return this;
+        }
+
+        /**
+         * Highest the limit may grow to. Default 200.
+         */
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * Factor the limit is multiplied by when a call is dropped. Default 0.9.
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * How many times the baseline round trip a call may take before it counts as
+         * latency growth and cuts the limit. Default 2.0.
+         */
+        public Builder latencyTolerance(double latencyTolerance) {
+            if (latencyTolerance < 1) {
+                throw new IllegalArgumentException("latencyTolerance must be at least 1");
+            }
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        /**
+         * How long a baseline round trip is remembered before it is re-measured. Default 1 minute.
+         */
+        public Builder baselineWindow(Duration baselineWindow) {
+            this.baselineWindow = baselineWindow;
+            return this;
+        }
+
+        public AdaptiveConcurrencyLimiter build() {
+            return new AdaptiveConcurrencyLimiter(this);
+        }
+    }
+}
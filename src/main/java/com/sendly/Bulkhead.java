@@ -0,0 +1,112 @@
+package com.sendly;
+
+/**
+ * A named traffic class with its own concurrency limit and, optionally, its own
+ * connection pool and dispatcher.
+ * <p>
+ * Requests are assigned to a bulkhead by route (see {@link Sendly.Builder#route(String, String)})
+ * or per call with {@link Sendly#withBulkhead(String)}. By default verification
+ * traffic runs in {@link #VERIFY}, batch and campaign sends run in {@link #BULK},
+ * and everything else runs in {@link #DEFAULT}, so a large batch going out never
+ * makes a login OTP wait for a connection or a concurrency slot.
+ * </p>
+ *
+ * <pre>{@code
+ * Sendly client = new Sendly(apiKey, new Sendly.Builder()
+ *     .bulkhead(Bulkhead.builder(Bulkhead.BULK).maxConcurrentRequests(4).build())
+ *     .route("/contacts/**", Bulkhead.BULK));
+ *
+ * client.withBulkhead(Bulkhead.VERIFY).messages().send("+15551234567", "Your code is 123456");
+ * }</pre>
+ */
+public class Bulkhead {
+    /** Traffic that is not routed anywhere else. */
+    public static final String DEFAULT = "default";
+    /** Latency-critical verification traffic. */
+    public static final String VERIFY = "verify";
+    /** Batch and campaign sends. */
+    public static final String BULK = "bulk";
+
+    private final String name;
+    private final int maxConcurrentRequests;
+    private final boolean isolatedConnections;
+
+    private Bulkhead(Builder builder) {
+        this.name = builder.name;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.isolatedConnections = builder.isolatedConnections;
+    }
+
+    /**
+     * Create a builder for a bulkhead with the given name.
+     *
+     * @param name Bulkhead name
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the cap on concurrent requests per client in this bulkhead.
+     *
+     * @return The cap, or 0 if uncapped
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Check if this bulkhead uses its own connection pool and dispatcher.
+     */
+    public boolean isIsolatedConnections() {
+        return isolatedConnections;
+    }
+
+    @Override
+    public String toString() {
+        return "Bulkhead{name='" + name + "', maxConcurrentRequests=" + maxConcurrentRequests +
+                ", isolatedConnections=" + isolatedConnections + '}';
+    }
+
+    /**
+     * Builder for Bulkhead.
+     */
+    public static class Builder {
+        private final String name;
+        private int maxConcurrentRequests;
+        private boolean isolatedConnections = true;
+
+        private Builder(String name) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Bulkhead name is required");
+            }
+            this.name = name;
+        }
+
+        /**
+         * Cap the number of requests each client runs at once in this bulkhead;
+         * 0 means uncapped. Default 0.
+         */
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = Math.max(maxConcurrentRequests, 0);
+            return this;
+        }
+
+        /**
+         * Whether requests in this bulkhead get their own connection pool and
+         * dispatcher on the transport. Default true.
+         */
+        public Builder isolatedConnections(boolean isolatedConnections) {
+            this.isolatedConnections = isolatedConnections;
+            return this;
+        }
+
+        public Bulkhead build() {
+            return new Bulkhead(this);
+        }
+    }
+}
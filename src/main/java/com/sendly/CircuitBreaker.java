@@ -0,0 +1,284 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+import com.sendly.exceptions.SendlyException;
+
+import java.time.Duration;
+
+/**
+ * Stops calling an endpoint group while the API is failing, so callers fail fast
+ * instead of each waiting through timeouts and retries.
+ * <p>
+ * The breaker tracks the outcome of the last {@code window} attempts. Once at least
+ * {@code minimumCalls} have been seen and the share of failures (network errors,
+ * timeouts and 5xx responses) reaches {@code failureRateThreshold}, the circuit opens.
+ * Every call is then rejected with a
+ * {@link com.sendly.exceptions.CircuitOpenException} without touching the network, or
+ * handed to the fallback. After {@code openDuration} the circuit half-opens and lets
+ * {@code halfOpenProbes} calls through. If they all succeed it closes again; if any
+ * fails it opens for another {@code openDuration}.
+ * </p>
+ *
+ * <pre>{@code
+ * Sendly client = new Sendly(apiKey, new Sendly.Builder()
+ *     .circuitBreaker(CircuitBreaker.builder().failureRateThreshold(0.5).openDuration(Duration.ofSeconds(10)))
+ *     .circuitBreakerFallback((method, path, body) -> outbox.enqueue(path, body)));
+ *
+ * CircuitBreaker.State state = client.getCircuitBreaker("messages").getState();
+ * }</pre>
+ *
+ * The client keeps one breaker per endpoint group, the first segment of the request
+ * path, such as {@code messages} or {@code verify}, so a failing endpoint does not
+ * stop calls to the others.
+ */
+public class CircuitBreaker {
+    /**
+     * Whether calls are let through.
+     */
+    public enum State {
+        /** Calls go through and their outcomes are tracked. */
+        CLOSED,
+        /** Calls are rejected until the open duration has passed. */
+        OPEN,
+        /** A few probe calls go through to test whether the API has recovered. */
+        HALF_OPEN
+    }
+
+    static final int REJECTED = -1;
+    static final int PERMITTED = 0;
+    static final int PROBE = 1;
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int nextOutcome;
+    private int failureCount;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long rejectedCount;
+
+    private CircuitBreaker(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.window);
+        this.openNanos = builder.openDuration.toNanos();
+        this.halfOpenProbes = builder.halfOpenProbes;
+        this.outcomes = new boolean[builder.window];
+    }
+
+    /**
+     * Create a builder for CircuitBreaker.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Ask to make a call.
+     *
+     * @return {@link #REJECTED}, {@link #PERMITTED}, or {@link #PROBE} for a half-open probe
+     */
+    synchronized int tryAcquire() {
+        if (state == State.CLOSED) {
+            return PERMITTED;
+        }
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                rejectedCount++;
+                return REJECTED;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (probesInFlight >= halfOpenProbes) {
+            rejectedCount++;
+            return REJECTED;
+        }
+        probesInFlight++;
+        return PROBE;
+    }
+
+    /**
+     * Record a call the API answered without a server error.
+     */
+    synchronized void onSuccess(int permit) {
+        if (permit == PROBE) {
+            if (state == State.HALF_OPEN) {
+                probesInFlight = Math.max(probesInFlight - 1, 0);
+                if (++probeSuccesses >= halfOpenProbes) {
+                    close();
+                }
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Record a call that failed with a network error, a timeout or a 5xx response.
+     */
+    synchronized void onFailure(int permit) {
+        if (permit == PROBE) {
+            if (state == State.HALF_OPEN) {
+                open();
+            }
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (outcomeCount >= minimumCalls && failureCount >= failureRateThreshold * outcomeCount) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Return the permit of a call that ended without an outcome worth recording.
+     */
+    synchronized void onIgnored(int permit) {
+        if (permit == PROBE && state == State.HALF_OPEN) {
+            probesInFlight = Math.max(probesInFlight - 1, 0);
+        }
+    }
+
+    private void record(boolean failure) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[nextOutcome]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[nextOutcome] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        nextOutcome = (nextOutcome + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        outcomeCount = 0;
+        nextOutcome = 0;
+        failureCount = 0;
+    }
+
+    /**
+     * Get the current state. An open circuit whose open duration has passed reports
+     * {@link State#OPEN} until the next call half-opens it.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Get the share of failures among the tracked calls.
+     *
+     * @return A rate between 0 and 1, or 0 if no calls have been tracked
+     */
+    public synchronized double getFailureRate() {
+        return outcomeCount == 0 ? 0 : (double) failureCount / outcomeCount;
+    }
+
+    /**
+     * Get the number of calls rejected without being sent.
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "CircuitBreaker{state=" + state + ", failureRate=" + getFailureRate() +
+                ", rejected=" + rejectedCount + '}';
+    }
+
+    /**
+     * Handles sends rejected by an open circuit, for example by saving them to an
+     * outbox to be sent later.
+     */
+    @FunctionalInterface
+    public interface Fallback {
+        /**
+         * Handle a rejected POST or PATCH.
+         *
+         * @param method HTTP method
+         * @param path   API endpoint path
+         * @param body   Request body
+         * @return The response to hand to the caller instead
+         * @throws SendlyException to fail the call
+         */
+        JsonObject call(String method, String path, Object body) throws SendlyException;
+    }
+
+    /**
+     * Builder for CircuitBreaker.
+     */
+    public static class Builder {
+        private double failureRateThreshold = 0.5;
+        private int minimumCalls = 20;
+        private int window = 100;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 1;
+
+        /**
+         * Share of failed calls in the window that opens the circuit. Default 0.5.
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+                throw new IllegalArgumentException("failureRateThreshold must be between 0 and 1");
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Number of calls to track before the failure rate can open the circuit. Default 20.
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            this.minimumCalls = Math.max(minimumCalls, 1);
+            return this;
+        }
+
+        /**
+         * Number of recent calls the failure rate is taken over. Default 100.
+         */
+        public Builder window(int window) {
+            this.window = Math.max(window, 1);
+            return this;
+        }
+
+        /**
+         * How long an open circuit rejects calls before probing. Default 30 seconds.
+         */
+        public Builder openDuration(Duration openDuration) {
+            if (openDuration == null || openDuration.isNegative()) {
+                throw new IllegalArgumentException("openDuration must not be negative");
+            }
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Number of probe calls a half-open circuit lets through, all of which must
+         * succeed to close it. Default 1.
+         */
+        public Builder halfOpenProbes(int halfOpenProbes) {
+            this.halfOpenProbes = Math.max(halfOpenProbes, 1);
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
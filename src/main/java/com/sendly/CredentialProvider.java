@@ -0,0 +1,29 @@
+package com.sendly;
+
+/**
+ * Supplies the API key sent with each request.
+ * <p>
+ * The key is read again for every attempt, so a provider that changes its answer
+ * at runtime rotates credentials without rebuilding the client or dropping its
+ * pooled connections. See {@link RotatingCredentials} for a ready-made implementation.
+ * </p>
+ */
+@FunctionalInterface
+public interface CredentialProvider {
+
+    /**
+     * Get the API key to use for the next request attempt.
+     *
+     * @return The current API key
+     */
+    String getApiKey();
+
+    /**
+     * Create a provider that always returns the same key.
+     *
+     * @param apiKey Your Sendly API key
+     */
+    static CredentialProvider of(String apiKey) {
+        return () -> apiKey;
+    }
+}
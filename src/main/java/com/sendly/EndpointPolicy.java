@@ -0,0 +1,224 @@
+package com.sendly;
+
+import java.time.Duration;
+
+/**
+ * How the client handles calls to one kind of endpoint: their deadline and per-attempt
+ * timeout, how many times they are retried, whether they are safe to resend, how long
+ * their responses are cached and which bulkhead they run in.
+ * <p>
+ * Policies are registered against request patterns with
+ * {@link Sendly.Builder#endpoint(String, EndpointPolicy)}. A setting left unset falls
+ * through to the next matching pattern, then to the built-in policies, then to the
+ * client's own settings, so a policy only has to name what it changes. Built in,
+ * verification traffic runs in {@link Bulkhead#VERIFY}, batch and campaign sends run in
+ * {@link Bulkhead#BULK}, campaign sends are not idempotent, and read-mostly endpoints
+ * are cacheable (see {@link Sendly.Builder#responseCache(ResponseCache)}).
+ * </p>
+ *
+ * <pre>{@code
+ * Sendly client = new Sendly(apiKey, new Sendly.Builder()
+ *     .endpoint("GET /verify/*", EndpointPolicy.builder()
+ *         .callTimeout(Duration.ofSeconds(2))
+ *         .build())
+ *     .endpoint("POST /messages/batch", EndpointPolicy.builder()
+ *         .maxRetries(1)
+ *         .idempotent(false)
+ *         .build()));
+ * }</pre>
+ */
+public class EndpointPolicy {
+    static final EndpointPolicy NONE = builder().build();
+
+    private final Integer maxRetries;
+    private final Duration callTimeout;
+    private final Duration attemptTimeout;
+    private final Boolean idempotent;
+    private final Duration cacheTtl;
+    private final String bulkhead;
+
+    private EndpointPolicy(Integer maxRetries, Duration callTimeout, Duration attemptTimeout,
+                           Boolean idempotent, Duration cacheTtl, String bulkhead) {
+        this.maxRetries = maxRetries;
+        this.callTimeout = callTimeout;
+        this.attemptTimeout = attemptTimeout;
+        this.idempotent = idempotent;
+        this.cacheTtl = cacheTtl;
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * Create a builder for a policy with nothing set.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the number of retries after the first attempt.
+     *
+     * @return The retry count, or null to use the client's
+     */
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Get the deadline for a whole call, retries and backoff included.
+     *
+     * @return The deadline, or null to use the client's
+     */
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    /**
+     * Get the time limit for each attempt, on top of the transport's own timeouts.
+     *
+     * @return The limit, or null for none
+     */
+    public Duration getAttemptTimeout() {
+        return attemptTimeout;
+    }
+
+    /**
+     * Check if a call can be resent after a failure the server may already have acted on.
+     *
+     * @return Whether it is idempotent, or null if not set (treated as idempotent)
+     */
+    public Boolean getIdempotent() {
+        return idempotent;
+    }
+
+    /**
+     * Get how long GET responses stay fresh in the response cache.
+     *
+     * @return The TTL, zero if not cached, or null if not set
+     */
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    /**
+     * Get the bulkhead calls run in.
+     *
+     * @return The bulkhead name, or null for {@link Bulkhead#DEFAULT}
+     */
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * Combine this policy with a lower-priority one, taking each setting this policy
+     * leaves unset from {@code fallback}.
+     */
+    EndpointPolicy orElse(EndpointPolicy fallback) {
+        return new EndpointPolicy(
+                maxRetries != null ? maxRetries : fallback.maxRetries,
+                callTimeout != null ? callTimeout : fallback.callTimeout,
+                attemptTimeout != null ? attemptTimeout : fallback.attemptTimeout,
+                idempotent != null ? idempotent : fallback.idempotent,
+                cacheTtl != null ? cacheTtl : fallback.cacheTtl,
+                bulkhead != null ? bulkhead : fallback.bulkhead);
+    }
+
+    boolean isIdempotent() {
+        return idempotent == null || idempotent;
+    }
+
+    @Override
+    public String toString() {
+        return "EndpointPolicy{maxRetries=" + maxRetries + ", callTimeout=" + callTimeout +
+                ", attemptTimeout=" + attemptTimeout + ", idempotent=" + idempotent +
+                ", cacheTtl=" + cacheTtl + ", bulkhead='" + bulkhead + "'}";
+    }
+
+    /**
+     * Builder for EndpointPolicy.
+     */
+    public static class Builder {
+        private Integer maxRetries;
+        private Duration callTimeout;
+        private Duration attemptTimeout;
+        private Boolean idempotent;
+        private Duration cacheTtl;
+        private String bulkhead;
+
+        private Builder() {
+        }
+
+        /**
+         * Retry failed calls up to this many times.
+         */
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("maxRetries must not be negative");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Fail calls that cannot finish within this time, retries and backoff included.
+         * A deadline set per call with {@link Sendly#withCallTimeout(Duration)} takes
+         * precedence.
+         */
+        public Builder callTimeout(Duration callTimeout) {
+            this.callTimeout = requirePositive(callTimeout, "callTimeout");
+            return this;
+        }
+
+        /**
+         * Give up on a single attempt after this time and retry it if retries are left.
+         * Can only shorten the transport's own timeouts.
+         */
+        public Builder attemptTimeout(Duration attemptTimeout) {
+            this.attemptTimeout = requirePositive(attemptTimeout, "attemptTimeout");
+            return this;
+        }
+
+        /**
+         * Whether a call may be resent after a server error or a network failure, when
+         * the server may already have acted on it. Non-idempotent calls are only retried
+         * after a 429, which the API returns before doing any work. Default true.
+         */
+        public Builder idempotent(boolean idempotent) {
+            this.idempotent = idempotent;
+            return this;
+        }
+
+        /**
+         * Cache GET responses for this long, or not at all for a zero TTL. Only used with
+         * {@link Sendly.Builder#responseCache(ResponseCache)}.
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            if (cacheTtl == null || cacheTtl.isNegative()) {
+                throw new IllegalArgumentException("cacheTtl must not be negative");
+            }
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        /**
+         * Run calls in the named bulkhead.
+         */
+        public Builder bulkhead(String bulkhead) {
+            if (bulkhead == null || bulkhead.isEmpty()) {
+                throw new IllegalArgumentException("Bulkhead name is required");
+            }
+            this.bulkhead = bulkhead;
+            return this;
+        }
+
+        public EndpointPolicy build() {
+            return new EndpointPolicy(maxRetries, callTimeout, attemptTimeout, idempotent, cacheTtl, bulkhead);
+        }
+
+        private static Duration requirePositive(Duration value, String name) {
+            if (value == null || value.isNegative() || value.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.sendly;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link JsonCodec} on Gson. The default: every model has a streaming adapter registered
+ * on the transport's Gson, so no reflection is involved.
+ */
+public final class GsonCodec implements JsonCodec {
+    private final Gson gson;
+
+    /**
+     * @param gson Gson with the SDK's model adapters, such as {@link SendlyTransport#getGson()}
+     */
+    public GsonCodec(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Get the Gson instance this codec runs on.
+     */
+    public Gson getGson() {
+        return gson;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return gson.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void encode(Object value, OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        gson.toJson(value, writer);
+        writer.flush();
+    }
+
+    @Override
+    public JsonObject decode(String json) {
+        return gson.fromJson(json, JsonObject.class);
+    }
+
+    @Override
+    public <T> T bind(JsonObject json, Class<T> type) {
+        return gson.fromJson(json, type);
+    }
+}
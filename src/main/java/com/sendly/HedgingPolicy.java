@@ -0,0 +1,226 @@
+package com.sendly;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * When to send a second copy of a slow GET request.
+ * <p>
+ * If a GET has not answered within the rolling {@code percentile} of recent GET
+ * latencies, the client sends the same request again and uses whichever response
+ * arrives first, cancelling the other. Hedges are capped by a budget: each GET
+ * earns {@code budget} of a hedge, up to {@code maxBurst} saved up, so with the
+ * default 0.1 hedging adds at most about 10% extra requests.
+ * </p>
+ *
+ * <pre>{@code
+ * HedgingPolicy hedging = HedgingPolicy.builder().percentile(0.95).budget(0.05).build();
+ * Sendly client = new Sendly(apiKey, new Sendly.Builder().hedging(hedging));
+ * }</pre>
+ *
+ * Only GET requests are hedged, since they are safe to send twice. A policy may be
+ * shared by several clients; its latency window and budget are then shared too.
+ */
+public class HedgingPolicy {
+    private static final int RECOMPUTE_EVERY = 16;
+
+    private final double percentile;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+    private final int minSamples;
+    private final double budget;
+    private final double maxBurst;
+
+    private final long[] samples;
+    private int sampleCount;
+    private int nextSample;
+    private long delayNanos;
+    private int sinceRecompute;
+    private double tokens;
+    private long requestCount;
+    private long hedgeCount;
+    private long hedgeWinCount;
+
+    private HedgingPolicy(Builder builder) {
+        this.percentile = builder.percentile;
+        this.initialDelayNanos = builder.initialDelay.toNanos();
+        this.minDelayNanos = builder.minDelay.toNanos();
+        this.minSamples = Math.min(builder.minSamples, builder.window);
+        this.budget = builder.budget;
+        this.maxBurst = builder.maxBurst;
+        this.samples = new long[builder.window];
+        this.delayNanos = initialDelayNanos;
+        this.tokens = builder.maxBurst;
+    }
+
+    /**
+     * Create a builder for HedgingPolicy.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Count a GET request and earn its share of the hedging budget.
+     */
+    synchronized void onRequest() {
+        requestCount++;
+        tokens = Math.min(maxBurst, tokens + budget);
+    }
+
+    /**
+     * Take one hedge from the budget.
+     *
+     * @return true if a hedge may be sent
+     */
+    synchronized boolean tryAcquireHedge() {
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        hedgeCount++;
+        return true;
+    }
+
+    /**
+     * Record which copy of a hedged request answered first.
+     */
+    synchronized void onHedgeWon() {
+        hedgeWinCount++;
+    }
+
+    /**
+     * Record the latency of a completed GET.
+     */
+    synchronized void record(long latencyNanos) {
+        samples[nextSample] = latencyNanos;
+        nextSample = (nextSample + 1) % samples.length;
+        if (sampleCount < samples.length) {
+            sampleCount++;
+        }
+        sinceRecompute++;
+        if (sampleCount >= minSamples && (sinceRecompute >= RECOMPUTE_EVERY || sampleCount == minSamples)) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sampleCount) - 1;
+            delayNanos = Math.max(minDelayNanos, sorted[Math.max(index, 0)]);
+        }
+    }
+
+    /**
+     * Get how long to wait for a response before hedging.
+     *
+     * @return The rolling percentile latency, or the initial delay until enough GETs have completed
+     */
+    public synchronized Duration getHedgeDelay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    synchronized long hedgeDelayNanos() {
+        return delayNanos;
+    }
+
+    /**
+     * Get the number of GET requests seen.
+     */
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Get the number of hedges sent.
+     */
+    public synchronized long getHedgeCount() {
+        return hedgeCount;
+    }
+
+    /**
+     * Get the number of hedges that answered before the original request.
+     */
+    public synchronized long getHedgeWinCount() {
+        return hedgeWinCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "HedgingPolicy{percentile=" + percentile + ", delayMs=" + Duration.ofNanos(delayNanos).toMillis() +
+                ", requests=" + requestCount + ", hedges=" + hedgeCount + ", hedgeWins=" + hedgeWinCount + '}';
+    }
+
+    /**
+     * Builder for HedgingPolicy.
+     */
+    public static class Builder {
+        private double percentile = 0.95;
+        private Duration initialDelay = Duration.ofSeconds(1);
+        private Duration minDelay = Duration.ofMillis(10);
+        private int window = 200;
+        private int minSamples = 20;
+        private double budget = 0.1;
+        private int maxBurst = 10;
+
+        /**
+         * Latency percentile after which a hedge is sent. Default 0.95.
+         */
+        public Builder percentile(double percentile) {
+            if (percentile <= 0 || percentile > 1) {
+                throw new IllegalArgumentException("percentile must be between 0 and 1");
+            }
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Delay used until {@code minSamples} GETs have completed. Default 1 second.
+         */
+        public Builder initialDelay(Duration initialDelay) {
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        /**
+         * Shortest delay before hedging, however fast recent GETs were. Default 10ms.
+         */
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Number of recent GET latencies the percentile is taken over. Default 200.
+         */
+        public Builder window(int window) {
+            this.window = Math.max(window, 1);
+            return this;
+        }
+
+        /**
+         * Number of GETs to observe before the percentile replaces the initial delay. Default 20.
+         */
+        public Builder minSamples(int minSamples) {
+            this.minSamples = Math.max(minSamples, 1);
+            return this;
+        }
+
+        /**
+         * Hedges earned per GET request, i.e. the maximum share of extra requests. Default 0.1.
+         */
+        public Builder budget(double budget) {
+            this.budget = Math.max(budget, 0);
+            return this;
+        }
+
+        /**
+         * Maximum number of unused hedges that can be saved up. Default 10.
+         */
+        public Builder maxBurst(int maxBurst) {
+            this.maxBurst = Math.max(maxBurst, 0);
+            return this;
+        }
+
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sendly;
+
+/**
+ * HTTP protocol spoken to the API or to a gateway in front of it.
+ * <p>
+ * Over HTTP/2 every concurrent call is a stream on a shared connection, so parallel
+ * lookups, chunked batches and hedged reads need one connection instead of one each.
+ * How many run at once is bounded by {@code maxConcurrentRequests} and the bulkheads;
+ * {@code maxConcurrentStreams} only limits the asynchronous hedged reads and warm-up
+ * requests.
+ * </p>
+ */
+public enum HttpProtocol {
+    /**
+     * HTTP/1.1 only: one call per connection at a time.
+     */
+    HTTP_1_1,
+
+    /**
+     * HTTP/2 when the server agrees to it during the TLS handshake, HTTP/1.1 otherwise.
+     * The default.
+     */
+    HTTP_2,
+
+    /**
+     * HTTP/2 over cleartext without negotiation ("h2c prior knowledge"), for a local
+     * gateway or proxy at an {@code http://} base URL that is known to speak HTTP/2.
+     * Not supported by {@link JdkHttpTransport}.
+     */
+    H2_PRIOR_KNOWLEDGE
+}
@@ -0,0 +1,271 @@
+package com.sendly;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * HTTP engine that carries the client's requests.
+ * <p>
+ * {@link SendlyTransport} creates one per connection pool through a {@link Factory}:
+ * one for the default pool and one for each isolated {@link Bulkhead}. Two engines ship
+ * with the SDK: {@link OkHttpTransport} (the default) and {@link JdkHttpTransport}, built on
+ * {@code java.net.http.HttpClient}. Authentication, retries, limits and JSON stay in
+ * {@link Sendly}; an engine only moves bytes.
+ * </p>
+ *
+ * <pre>{@code
+ * SendlyTransport transport = SendlyTransport.builder()
+ *     .httpTransport(JdkHttpTransport.FACTORY)
+ *     .build();
+ * }</pre>
+ */
+public interface HttpTransport {
+
+    /**
+     * Send a request and wait for the full response.
+     *
+     * @throws IOException if the request could not be sent or the response not read
+     */
+    Response execute(Request request) throws IOException;
+
+    /**
+     * Send a request without blocking. Cancelling the returned future cancels the call.
+     *
+     * @return A future completed with the response, or exceptionally with an {@link IOException}
+     */
+    CompletableFuture<Response> executeAsync(Request request);
+
+    /**
+     * Get an engine sharing this one's connections but using different timeouts.
+     */
+    HttpTransport withTimeouts(Duration connectTimeout, Duration readTimeout, Duration writeTimeout);
+
+    /**
+     * Get the number of pooled connections, idle or in use.
+     *
+     * @return The count, or -1 if the engine does not expose its pool
+     */
+    default int getConnectionCount() {
+        return -1;
+    }
+
+    /**
+     * Get the number of idle pooled connections.
+     *
+     * @return The count, or -1 if the engine does not expose its pool
+     */
+    default int getIdleConnectionCount() {
+        return -1;
+    }
+
+    /**
+     * Cancel the calls still running and release this engine's connections and threads.
+     * Engines made with {@link #withTimeouts} share them and stop working too. The default
+     * does nothing, leaving connections to close once idle.
+     */
+    default void close() {
+    }
+
+    /**
+     * Creates an engine with its own connection pool.
+     */
+    @FunctionalInterface
+    interface Factory {
+        HttpTransport create(Config config);
+    }
+
+    /**
+     * Pool and timeout settings from {@link SendlyTransport.Builder}. Engines apply the
+     * ones they support.
+     */
+    final class Config {
+        private final Duration connectTimeout;
+        private final Duration readTimeout;
+        private final Duration writeTimeout;
+        private final int maxIdleConnections;
+        private final Duration keepAlive;
+        private final int maxRequests;
+        private final HttpProtocol protocol;
+        private final int maxConcurrentStreams;
+
+        Config(Duration connectTimeout, Duration readTimeout, Duration writeTimeout,
+               int maxIdleConnections, Duration keepAlive, int maxRequests,
+               HttpProtocol protocol, int maxConcurrentStreams) {
+            this.connectTimeout = connectTimeout;
+            this.readTimeout = readTimeout;
+            this.writeTimeout = writeTimeout;
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAlive = keepAlive;
+            this.maxRequests = maxRequests;
+            this.protocol = protocol;
+            this.maxConcurrentStreams = maxConcurrentStreams;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public Duration getWriteTimeout() {
+            return writeTimeout;
+        }
+
+        public int getMaxIdleConnections() {
+            return maxIdleConnections;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        /**
+         * Get the maximum number of asynchronous calls running at once.
+         */
+        public int getMaxRequests() {
+            return maxRequests;
+        }
+
+        public HttpProtocol getProtocol() {
+            return protocol;
+        }
+
+        /**
+         * Get the maximum number of asynchronous calls running at once to one host, which
+         * over HTTP/2 are streams sharing a connection. Never more than
+         * {@link #getMaxRequests()}.
+         */
+        public int getMaxConcurrentStreams() {
+            return maxConcurrentStreams;
+        }
+    }
+
+    /**
+     * An outgoing request. Immutable; {@link #withHeader} returns a copy.
+     */
+    final class Request {
+        private final String method;
+        private final String url;
+        private final Map<String, String> headers;
+        private final byte[] body;
+        private final Duration timeout;
+
+        /**
+         * @param method  HTTP method
+         * @param url     Absolute URL, query included
+         * @param headers Header names and values
+         * @param body    Request body, or null for none
+         */
+        public Request(String method, String url, Map<String, String> headers, byte[] body) {
+            this(method, url, headers, body, null);
+        }
+
+        /**
+         * @param timeout Limit on the whole call, or null for the engine's timeouts only
+         */
+        public Request(String method, String url, Map<String, String> headers, byte[] body, Duration timeout) {
+            this.method = method;
+            this.url = url;
+            this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+            this.body = body;
+            this.timeout = timeout;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        /**
+         * Get the request body.
+         *
+         * @return The body, or null if the request has none
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Get the limit on the whole call: connecting, sending and reading the response.
+         * Engines apply it on top of their own timeouts.
+         *
+         * @return The limit, or null if there is none
+         */
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        /**
+         * Get a copy of this request with a header set, replacing any previous value.
+         */
+        public Request withHeader(String name, String value) {
+            Map<String, String> copy = new LinkedHashMap<>(headers);
+            copy.put(name, value);
+            return new Request(method, url, copy, body, timeout);
+        }
+
+        /**
+         * Get a copy of this request with a limit on the whole call.
+         */
+        public Request withTimeout(Duration timeout) {
+            return new Request(method, url, headers, body, timeout);
+        }
+    }
+
+    /**
+     * A fully read response.
+     */
+    final class Response {
+        private final int code;
+        private final Map<String, String> headers;
+        private final String body;
+
+        /**
+         * @param code    HTTP status code
+         * @param headers Header names and values; for repeated headers, the last value
+         * @param body    Response body, empty if there was none
+         */
+        public Response(int code, Map<String, String> headers, String body) {
+            this.code = code;
+            TreeMap<String, String> caseInsensitive = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            caseInsensitive.putAll(headers);
+            this.headers = Collections.unmodifiableMap(caseInsensitive);
+            this.body = body;
+        }
+
+        public int getCode() {
+            return code;
+        }
+
+        /**
+         * Get a header value, matching the name case-insensitively.
+         *
+         * @return The value, or null if absent
+         */
+        public String header(String name) {
+            return headers.get(name);
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public String getBody() {
+            return body;
+        }
+    }
+}
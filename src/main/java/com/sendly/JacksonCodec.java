@@ -0,0 +1,189 @@
+package com.sendly;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * {@link JsonCodec} on Jackson's streaming parser and generator ({@code jackson-core}).
+ * <p>
+ * Response bodies are parsed token by token into the Gson {@link JsonObject} tree, and
+ * request bodies are generated from a tree. Models still go through Gson: a request model
+ * is converted to a tree with Gson before it is generated, and a response tree is bound
+ * to a model with Gson. This codec is therefore tree-compatible with {@link GsonCodec}
+ * rather than faster than it; choose it to put Jackson's parser and generator on the
+ * wire, for example to share an application's configured {@link JsonFactory}.
+ * {@code jackson-core} is an optional dependency of the SDK: add it to use this codec.
+ * </p>
+ * <p>
+ * Like the Gson codec, null members of an encoded object are omitted. Unlike it, HTML
+ * characters in strings are not escaped.
+ * </p>
+ */
+public final class JacksonCodec implements JsonCodec {
+    private final JsonFactory factory;
+    private final Gson binder;
+
+    /**
+     * Create a codec with a default Jackson factory.
+     */
+    public JacksonCodec() {
+        this(new JsonFactory());
+    }
+
+    /**
+     * Create a codec sharing an application's Jackson factory, e.g. {@code objectMapper.getFactory()}.
+     */
+    public JacksonCodec(JsonFactory factory) {
+        this.factory = factory;
+        this.binder = SendlyTransport.newGson();
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try {
+            encode(value, out);
+        } catch (IOException e) {
+            throw new JsonParseException("Failed to encode JSON: " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public void encode(Object value, OutputStream out) throws IOException {
+        JsonElement tree = value instanceof JsonElement ? (JsonElement) value : binder.toJsonTree(value);
+        try (JsonGenerator generator = factory.createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            write(generator, tree);
+        }
+    }
+
+    @Override
+    public JsonObject decode(String json) {
+        try (JsonParser parser = factory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException("Expected a JSON object");
+            }
+            return readObject(parser);
+        } catch (IOException e) {
+            throw new JsonParseException("Failed to parse JSON: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T bind(JsonObject json, Class<T> type) {
+        return binder.fromJson(json, type);
+    }
+
+    private static JsonObject readObject(JsonParser parser) throws IOException {
+        JsonObject object = new JsonObject();
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            object.add(name, read(parser, parser.nextToken()));
+        }
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException("Unterminated object");
+        }
+        return object;
+    }
+
+    private static JsonArray readArray(JsonParser parser) throws IOException {
+        JsonArray array = new JsonArray();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException("Unterminated array");
+            }
+            array.add(read(parser, token));
+        }
+        return array;
+    }
+
+    private static JsonElement read(JsonParser parser, JsonToken token) throws IOException {
+        if (token == null) {
+            throw new JsonParseException("Unexpected end of input");
+        }
+        switch (token) {
+            case START_OBJECT:
+                return readObject(parser);
+            case START_ARRAY:
+                return readArray(parser);
+            case VALUE_STRING:
+                return new JsonPrimitive(parser.getText());
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return new JsonPrimitive(parser.getNumberValue());
+            case VALUE_TRUE:
+                return new JsonPrimitive(true);
+            case VALUE_FALSE:
+                return new JsonPrimitive(false);
+            case VALUE_NULL:
+                return JsonNull.INSTANCE;
+            default:
+                throw new JsonParseException("Unexpected token " + token);
+        }
+    }
+
+    private static void write(JsonGenerator generator, JsonElement element) throws IOException {
+        if (element == null || element.isJsonNull()) {
+            generator.writeNull();
+        } else if (element.isJsonObject()) {
+            generator.writeStartObject();
+            for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+                if (!member.getValue().isJsonNull()) {
+                    generator.writeFieldName(member.getKey());
+                    write(generator, member.getValue());
+                }
+            }
+            generator.writeEndObject();
+        } else if (element.isJsonArray()) {
+            generator.writeStartArray();
+            for (JsonElement item : element.getAsJsonArray()) {
+                write(generator, item);
+            }
+            generator.writeEndArray();
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isString()) {
+                generator.writeString(primitive.getAsString());
+            } else if (primitive.isBoolean()) {
+                generator.writeBoolean(primitive.getAsBoolean());
+            } else {
+                writeNumber(generator, primitive.getAsNumber());
+            }
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, Number number) throws IOException {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            generator.writeNumber(number.intValue());
+        } else if (number instanceof Long) {
+            generator.writeNumber(number.longValue());
+        } else if (number instanceof Double || number instanceof Float) {
+            generator.writeNumber(number.doubleValue());
+        } else if (number instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) number);
+        } else if (number instanceof BigInteger) {
+            generator.writeNumber((BigInteger) number);
+        } else {
+            // Gson's lazily parsed numbers keep their source text
+            generator.writeNumber(number.toString());
+        }
+    }
+}
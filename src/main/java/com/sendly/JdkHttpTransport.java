@@ -0,0 +1,143 @@
+package com.sendly;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * {@link HttpTransport} on the JDK's {@code java.net.http.HttpClient}.
+ * <p>
+ * Prefers HTTP/2, so concurrent calls to the API are multiplexed over one connection,
+ * and runs asynchronous calls on the JDK client's own non-blocking I/O instead of a
+ * dispatcher thread per call. With this engine OkHttp is never loaded and can be
+ * excluded from the dependency tree.
+ * </p>
+ * <p>
+ * The JDK client has no per-client pool settings: {@code maxIdleConnections} and
+ * {@code keepAlive} are ignored (see the {@code jdk.httpclient.keepalive.timeout} system
+ * property), as is {@code maxConcurrentStreams} (see {@code jdk.httpclient.maxstreams});
+ * the read timeout bounds the wait for each response, and the write timeout is not
+ * applied. Cleartext HTTP/2 is reached by upgrade rather than prior knowledge, so
+ * {@link HttpProtocol#H2_PRIOR_KNOWLEDGE} is rejected. The JDK client cannot be closed
+ * before Java 21, so {@link #close()} leaves its connections to time out while idle.
+ * </p>
+ */
+public final class JdkHttpTransport implements HttpTransport {
+    /**
+     * Factory creating a JDK engine with its own connections.
+     */
+    public static final Factory FACTORY = JdkHttpTransport::new;
+
+    private final HttpClient client;
+    private final Duration readTimeout;
+
+    private JdkHttpTransport(Config config) {
+        this(HttpClient.newBuilder()
+                .version(version(config.getProtocol()))
+                .connectTimeout(config.getConnectTimeout())
+                .build(), config.getReadTimeout());
+    }
+
+    private static HttpClient.Version version(HttpProtocol protocol) {
+        if (protocol == HttpProtocol.H2_PRIOR_KNOWLEDGE) {
+            throw new IllegalArgumentException("java.net.http does not support HTTP/2 prior knowledge; use OkHttpTransport");
+        }
+        return protocol == HttpProtocol.HTTP_1_1 ? HttpClient.Version.HTTP_1_1 : HttpClient.Version.HTTP_2;
+    }
+
+    /**
+     * Wrap an existing JDK client, for example one with a custom executor or SSL context.
+     *
+     * @param client      The client to send requests with
+     * @param readTimeout How long to wait for each response
+     */
+    public JdkHttpTransport(HttpClient client, Duration readTimeout) {
+        this.client = client;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Get the underlying JDK client.
+     */
+    public HttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        try {
+            return fromJdk(client.send(toJdk(request), HttpResponse.BodyHandlers.ofString()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Request interrupted", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        CompletableFuture<HttpResponse<String>> call;
+        try {
+            call = client.sendAsync(toJdk(request), HttpResponse.BodyHandlers.ofString());
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new IOException(e.getMessage(), e));
+        }
+        CompletableFuture<Response> future = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                call.cancel(true);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        call.whenComplete((response, error) -> {
+            if (error != null) {
+                future.completeExceptionally(asIOException(error));
+            } else {
+                future.complete(fromJdk(response));
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public HttpTransport withTimeouts(Duration connectTimeout, Duration readTimeout, Duration writeTimeout) {
+        // The connect timeout is fixed when the JDK client is built; keep sharing its connections
+        return new JdkHttpTransport(client, readTimeout);
+    }
+
+    private HttpRequest toJdk(Request request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()))
+                .timeout(request.getTimeout() != null && request.getTimeout().compareTo(readTimeout) < 0 ?
+                        request.getTimeout() : readTimeout)
+                .method(request.getMethod(), request.getBody() != null ?
+                        HttpRequest.BodyPublishers.ofByteArray(request.getBody()) :
+                        HttpRequest.BodyPublishers.noBody());
+        request.getHeaders().forEach(builder::header);
+        return builder.build();
+    }
+
+    private static Response fromJdk(HttpResponse<String> response) {
+        Map<String, String> headers = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            List<String> values = header.getValue();
+            if (!values.isEmpty() && !header.getKey().startsWith(":")) {
+                headers.put(header.getKey(), values.get(values.size() - 1));
+            }
+        }
+        return new Response(response.statusCode(), headers, response.body() != null ? response.body() : "");
+    }
+
+    private static IOException asIOException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof IOException ? (IOException) cause : new IOException(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Reads and writes the JSON exchanged with the API.
+ * <p>
+ * Every request body is encoded and every response body parsed by the codec of the
+ * client's {@link SendlyTransport}. Responses are parsed into a Gson {@link JsonObject}
+ * tree, the document model the SDK's resources and models are built from; a codec
+ * decides how text becomes that tree and back. Two codecs ship with the SDK:
+ * {@link GsonCodec} (the default) and {@link JacksonCodec}, which parses and generates
+ * the text with Jackson's streaming API for services that already depend on it, but
+ * still binds models with Gson. A hand-rolled
+ * codec only has to implement these three methods.
+ * </p>
+ *
+ * <pre>{@code
+ * Sendly client = new Sendly(apiKey, new Sendly.Builder()
+ *     .codec(new JacksonCodec()));
+ * }</pre>
+ *
+ * Implementations must be thread-safe. Malformed JSON is reported with a
+ * {@link com.google.gson.JsonParseException}.
+ */
+public interface JsonCodec {
+
+    /**
+     * Encode a request body as UTF-8 JSON.
+     *
+     * @param value A model, map or {@link com.google.gson.JsonElement}
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Encode a request body as UTF-8 JSON, streaming it to {@code out} as it is generated.
+     * Used when request bodies are compressed. The default encodes into an array first.
+     *
+     * @param value A model, map or {@link com.google.gson.JsonElement}
+     * @param out   Receives the JSON; not closed
+     */
+    default void encode(Object value, OutputStream out) throws IOException {
+        out.write(encode(value));
+    }
+
+    /**
+     * Parse a response body.
+     *
+     * @param json A JSON object
+     */
+    JsonObject decode(String json);
+
+    /**
+     * Bind a parsed response to a model class.
+     */
+    <T> T bind(JsonObject json, Class<T> type);
+}
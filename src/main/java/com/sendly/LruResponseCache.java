@@ -0,0 +1,91 @@
+package com.sendly;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * In-memory {@link ResponseCache} that evicts the least recently used entry once
+ * it holds {@code maxEntries}.
+ *
+ * <pre>{@code
+ * Sendly client = new Sendly(apiKey, new Sendly.Builder()
+ *     .responseCache(new LruResponseCache(500)));
+ * }</pre>
+ */
+public class LruResponseCache implements ResponseCache {
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final LinkedHashMap<String, Entry> entries;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Create a cache holding up to {@value #DEFAULT_MAX_ENTRIES} entries.
+     */
+    public LruResponseCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Create a cache holding up to the given number of entries.
+     *
+     * @param maxEntries Maximum number of entries
+     */
+    public LruResponseCache(int maxEntries) {
+        int capacity = Math.max(maxEntries, 1);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return entry;
+    }
+
+    @Override
+    public synchronized void put(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    @Override
+    public synchronized void invalidateIf(Predicate<String> keyFilter) {
+        entries.keySet().removeIf(keyFilter);
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Get the number of entries stored.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the number of lookups that found an entry, fresh or expired.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Get the number of lookups that found nothing.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
@@ -0,0 +1,72 @@
+package com.sendly;
+
+import com.sendly.models.AddContactsRequest;
+import com.sendly.models.BatchMessageItem;
+import com.sendly.models.CheckVerificationResponse;
+import com.sendly.models.CreateCampaignRequest;
+import com.sendly.models.CreateContactListRequest;
+import com.sendly.models.CreateContactRequest;
+import com.sendly.models.Message;
+import com.sendly.models.MessageList;
+import com.sendly.models.ScheduleCampaignRequest;
+import com.sendly.models.ScheduleMessageRequest;
+import com.sendly.models.SendBatchRequest;
+import com.sendly.models.SendMessageRequest;
+import com.sendly.models.SendVerificationResponse;
+import com.sendly.models.Template;
+import com.sendly.models.TemplateListResponse;
+import com.sendly.models.TemplatePreview;
+import com.sendly.models.UpdateCampaignRequest;
+import com.sendly.models.UpdateContactListRequest;
+import com.sendly.models.UpdateContactRequest;
+import com.sendly.models.ValidateSessionResponse;
+import com.sendly.models.Verification;
+import com.sendly.models.VerificationListResponse;
+import com.sendly.models.VerifySession;
+import com.sendly.models.WebhookDelivery;
+
+import java.util.List;
+
+/**
+ * Model classes that Gson binds: request bodies serialized by
+ * {@link Sendly#post}/{@link Sendly#patch} and responses decoded by
+ * {@link Sendly#request} or bound by the resources. Models built from a {@code JsonObject}
+ * constructor are not listed.
+ * Each has a streaming adapter in {@link com.sendly.models.ModelAdapters}; keep
+ * {@code META-INF/native-image/live.sendly/sendly-java/reflect-config.json} in step for
+ * applications that bind them with their own Gson.
+ */
+final class ModelTypes {
+    static final List<Class<?>> REQUESTS = List.of(
+            SendMessageRequest.class,
+            ScheduleMessageRequest.class,
+            SendBatchRequest.class,
+            BatchMessageItem.class,
+            CreateCampaignRequest.class,
+            UpdateCampaignRequest.class,
+            ScheduleCampaignRequest.class,
+            CreateContactRequest.class,
+            UpdateContactRequest.class,
+            CreateContactListRequest.class,
+            UpdateContactListRequest.class,
+            AddContactsRequest.class
+    );
+
+    static final List<Class<?>> RESPONSES = List.of(
+            Template.class,
+            TemplateListResponse.class,
+            TemplatePreview.class,
+            Verification.class,
+            VerificationListResponse.class,
+            SendVerificationResponse.class,
+            CheckVerificationResponse.class,
+            VerifySession.class,
+            ValidateSessionResponse.class,
+            Message.class,
+            MessageList.class,
+            WebhookDelivery.class
+    );
+
+    private ModelTypes() {
+    }
+}
@@ -0,0 +1,170 @@
+package com.sendly;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.RequestBody;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpTransport} on OkHttp, the default engine.
+ * <p>
+ * Honours every {@link HttpTransport.Config} setting: each engine has its own connection
+ * pool and a dispatcher running up to {@code maxRequests} asynchronous calls, at most
+ * {@code maxConcurrentStreams} of them to the same host. Synchronous calls are not
+ * queued by the dispatcher and neither limit applies to them; over HTTP/2 they open
+ * streams on the pooled connection.
+ * </p>
+ */
+public final class OkHttpTransport implements HttpTransport {
+    /**
+     * Factory creating an OkHttp engine with its own pool and dispatcher.
+     */
+    public static final Factory FACTORY = OkHttpTransport::new;
+
+    private final OkHttpClient client;
+
+    private OkHttpTransport(Config config) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(config.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(config.getMaxConcurrentStreams());
+        this.client = new OkHttpClient.Builder()
+                .connectTimeout(config.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(config.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(config.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .connectionPool(new ConnectionPool(config.getMaxIdleConnections(),
+                        config.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .protocols(protocols(config.getProtocol()))
+                .build();
+    }
+
+    /**
+     * Wrap an existing OkHttp client, for example one with interceptors or a custom
+     * TLS setup.
+     */
+    public OkHttpTransport(OkHttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Get the underlying OkHttp client.
+     */
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        try (okhttp3.Response response = newCall(request).execute()) {
+            return fromOkHttp(response);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        Call call = newCall(request);
+        CompletableFuture<Response> future = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                call.cancel();
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, okhttp3.Response response) {
+                try (response) {
+                    future.complete(fromOkHttp(response));
+                } catch (IOException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public HttpTransport withTimeouts(Duration connectTimeout, Duration readTimeout, Duration writeTimeout) {
+        return new OkHttpTransport(client.newBuilder()
+                .connectTimeout(connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(writeTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .build());
+    }
+
+    @Override
+    public int getConnectionCount() {
+        return client.connectionPool().connectionCount();
+    }
+
+    @Override
+    public int getIdleConnectionCount() {
+        return client.connectionPool().idleConnectionCount();
+    }
+
+    @Override
+    public void close() {
+        client.dispatcher().cancelAll();
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    private Call newCall(Request request) {
+        Call call = client.newCall(toOkHttp(request));
+        if (request.getTimeout() != null) {
+            call.timeout().timeout(Math.max(request.getTimeout().toNanos(), 1), TimeUnit.NANOSECONDS);
+        }
+        return call;
+    }
+
+    private static List<Protocol> protocols(HttpProtocol protocol) {
+        switch (protocol) {
+            case HTTP_1_1:
+                return List.of(Protocol.HTTP_1_1);
+            case H2_PRIOR_KNOWLEDGE:
+                return List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+            default:
+                return List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+        }
+    }
+
+    private static okhttp3.Request toOkHttp(Request request) {
+        RequestBody body = null;
+        if (request.getBody() != null) {
+            String contentType = request.getHeaders().get("Content-Type");
+            body = RequestBody.create(request.getBody(), contentType != null ? MediaType.parse(contentType) : null);
+        }
+        return new okhttp3.Request.Builder()
+                .url(request.getUrl())
+                .method(request.getMethod(), body)
+                .headers(Headers.of(request.getHeaders()))
+                .build();
+    }
+
+    private static Response fromOkHttp(okhttp3.Response response) throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        for (String name : response.headers().names()) {
+            headers.put(name, response.header(name));
+        }
+        String body = response.body() != null ? response.body().string() : "";
+        return new Response(response.code(), headers, body);
+    }
+}
@@ -0,0 +1,84 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+
+import java.util.function.Predicate;
+
+/**
+ * Storage for cached GET responses.
+ * <p>
+ * The client decides what to cache and for how long (see
+ * {@link Sendly.Builder#cacheTtl(String, java.time.Duration)}); implementations only store
+ * entries. Keys start with a fingerprint of the API key, never the key itself, so a
+ * shared or external store does not see credentials. {@link LruResponseCache} is the
+ * in-memory default.
+ * </p>
+ */
+public interface ResponseCache {
+
+    /**
+     * Get a cached entry.
+     *
+     * @param key Cache key
+     * @return The entry, fresh or expired, or null if none is stored
+     */
+    Entry get(String key);
+
+    /**
+     * Store an entry, replacing any entry under the same key.
+     */
+    void put(String key, Entry entry);
+
+    /**
+     * Remove every entry whose key matches.
+     */
+    void invalidateIf(Predicate<String> keyFilter);
+
+    /**
+     * Remove every entry.
+     */
+    void clear();
+
+    /**
+     * A cached response body with its validator and expiry.
+     * <p>
+     * The client stores its own copy of the body and hands each caller a copy of it, so
+ * callers may change what they get back. Implementations must not change the body.
+     * </p>
+     */
+    final class Entry {
+        private final JsonObject body;
+        private final String etag;
+        private final long expiresAtMillis;
+
+        public Entry(JsonObject body, String etag, long expiresAtMillis) {
+            this.body = body;
+            this.etag = etag;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        public JsonObject getBody() {
+            return body;
+        }
+
+        /**
+         * Get the server's ETag for this response, used to revalidate it once expired.
+         *
+         * @return The ETag, or null if the server did not send one
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Get when this entry expires, in epoch milliseconds.
+         */
+        public long getExpiresAtMillis() {
+            return expiresAtMillis;
+        }
+
+        public boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
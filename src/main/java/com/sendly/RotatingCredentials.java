@@ -0,0 +1,59 @@
+package com.sendly;
+
+import com.sendly.exceptions.AuthenticationException;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link CredentialProvider} whose key can be swapped atomically at runtime.
+ * <p>
+ * Requests already in flight finish with the key they were sent with; every
+ * attempt started after {@link #rotate(String)} uses the new key. If an in-flight
+ * request is rejected because its key was revoked mid-rotation, the client re-sends
+ * it once with the current key.
+ * </p>
+ *
+ * <pre>{@code
+ * RotatingCredentials credentials = new RotatingCredentials(oldKey);
+ * Sendly client = new Sendly(credentials, new Sendly.Builder());
+ *
+ * // Create the replacement key, switch over, then revoke the old one
+ * client.account().createApiKey("rotated", "live");
+ * credentials.rotate(newKey);
+ * client.account().revokeApiKey(oldKeyId);
+ * }</pre>
+ */
+public class RotatingCredentials implements CredentialProvider {
+    private final AtomicReference<String> apiKey;
+
+    /**
+     * Create rotating credentials starting with the given key.
+     *
+     * @param apiKey Your Sendly API key
+     */
+    public RotatingCredentials(String apiKey) {
+        this.apiKey = new AtomicReference<>(requireKey(apiKey));
+    }
+
+    @Override
+    public String getApiKey() {
+        return apiKey.get();
+    }
+
+    /**
+     * Replace the key used for all subsequent request attempts.
+     *
+     * @param newApiKey The new API key
+     * @return The key that was replaced
+     */
+    public String rotate(String newApiKey) {
+        return apiKey.getAndSet(requireKey(newApiKey));
+    }
+
+    private static String requireKey(String apiKey) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new AuthenticationException("API key is required");
+        }
+        return apiKey;
+    }
+}
@@ -0,0 +1,112 @@
+package com.sendly;
+
+import com.sendly.exceptions.SendlyException;
+
+import java.util.function.Function;
+
+/**
+ * The outcome of a call made through one of the {@code try} methods, such as
+ * {@link com.sendly.resources.Messages#trySend(String, String)}: either a value or the
+ * error that would otherwise have been thrown.
+ * <p>
+ * Errors keep their type ({@link com.sendly.exceptions.RateLimitException},
+ * {@link com.sendly.exceptions.ValidationException} and so on) but carry no stack trace,
+ * so a failed call costs about as much as a successful one. Use these methods on paths
+ * where failures are routine, like sending through a 429 storm or a batch full of bad
+ * numbers.
+ * </p>
+ *
+ * <pre>{@code
+ * SendResult<Message> result = client.messages().trySend("+15551234567", "Hello!");
+ * if (result.isSuccess()) {
+ *     store(result.getValue().getId());
+ * } else if (result.getError() instanceof RateLimitException) {
+ *     requeue(...);
+ * }
+ * }</pre>
+ *
+ * @param <T> Type of the value
+ */
+public final class SendResult<T> {
+    private final T value;
+    private final SendlyException error;
+
+    private SendResult(T value, SendlyException error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * Create a successful result.
+     */
+    public static <T> SendResult<T> success(T value) {
+        return new SendResult<>(value, null);
+    }
+
+    /**
+     * Create a failed result.
+     */
+    public static <T> SendResult<T> failure(SendlyException error) {
+        if (error == null) {
+            throw new IllegalArgumentException("error is required");
+        }
+        return new SendResult<>(null, error);
+    }
+
+    /**
+     * Create a failed result from any runtime error. A {@link SendlyException} is kept as
+     * is; anything else, such as a response that cannot be bound, is wrapped in a
+     * SendlyException without a stack trace.
+     */
+    public static <T> SendResult<T> failure(RuntimeException error) {
+        if (error instanceof SendlyException) {
+            return failure((SendlyException) error);
+        }
+        if (error == null) {
+            throw new IllegalArgumentException("error is required");
+        }
+        return new SendResult<>(null, new SendlyException("Request failed: " + error, 0, null, error, false));
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Get the value of a successful call.
+     *
+     * @return The value, or null if the call failed
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Get the error of a failed call.
+     *
+     * @return The error, or null if the call succeeded
+     */
+    public SendlyException getError() {
+        return error;
+    }
+
+    /**
+     * Transform the value of a successful result, passing a failure through as is. If the
+     * mapper throws, the result is a failure as if from {@link #failure(RuntimeException)}.
+     */
+    public <U> SendResult<U> map(Function<? super T, ? extends U> mapper) {
+        if (error != null) {
+            return new SendResult<>(null, error);
+        }
+        try {
+            return new SendResult<>(mapper.apply(value), null);
+        } catch (RuntimeException e) {
+            return failure(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return error == null ? "SendResult{value=" + value + '}' : "SendResult{error=" + error + '}';
+    }
+}
@@ -1,7 +1,6 @@
 package com.sendly;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.sendly.exceptions.*;
 import com.sendly.resources.Messages;
@@ -11,12 +10,41 @@ import com.sendly.resources.VerifyResource;
 import com.sendly.resources.TemplatesResource;
 import com.sendly.resources.CampaignsResource;
 import com.sendly.resources.ContactsResource;
-import okhttp3.*;
+import com.sendly.models.Message;
+import com.sendly.models.SendMessageRequest;
+import com.sendly.webhooks.Webhooks;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Sendly API Client
@@ -28,17 +56,63 @@ import java.util.concurrent.TimeUnit;
  * Sendly client = new Sendly("sk_live_v1_xxx");
  * Message message = client.messages().send("+15551234567", "Hello!");
  * }</pre>
+ *
+ * Close the client, or call {@link #shutdown(Duration)}, once done with it to release
+ * its connections and threads.
  */
-public class Sendly {
+public class Sendly implements AutoCloseable {
     public static final String VERSION = "1.0.5";
     public static final String DEFAULT_BASE_URL = "https://sendly.live/api/v1";
     public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    public static final int DEFAULT_BULK_CONCURRENCY = 16;
+    public static final int DEFAULT_WARM_UP_CONNECTIONS = 2;
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 16 * 1024;
+    /** Status of a call rejected by an open circuit breaker without being sent. */
+    private static final int CIRCUIT_OPEN = -1;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final Duration WARM_UP_TIMEOUT = Duration.ofSeconds(10);
+    private static final Map<String, Verb> VERBS = Map.of(
+            "GET", (client, path, body) -> client.get(path, null),
+            "POST", Sendly::post,
+            "PATCH", Sendly::patch,
+            "DELETE", (client, path, body) -> client.delete(path));
+    /**
+     * Endpoint groups whose cached reads also go stale when a group is mutated, e.g. a
+     * campaign preview counts the recipients of its contact lists.
+     */
+    private static final Map<String, List<String>> DEPENDENT_CACHE_GROUPS = Map.of(
+            "contacts", List.of("contact-lists", "campaigns"),
+            "contact-lists", List.of("campaigns"),
+            "messages", List.of("credits"),
+            "campaigns", List.of("credits", "messages"));
 
-    private final String apiKey;
+    private final CredentialProvider credentials;
     private final String baseUrl;
-    private final OkHttpClient httpClient;
+    private final SendlyTransport transport;
     private final Gson gson;
+    private final JsonCodec codec;
     private final int maxRetries;
+    private final boolean retryOnRateLimit;
+    private final Duration callTimeout;
+    private final boolean callTimeoutPinned;
+    private final Map<String, Lane> lanes;
+    private final Semaphore clientLimit;
+    private final List<Route<EndpointPolicy>> endpoints;
+    private final String bulkheadOverride;
+    private final ResponseCache responseCache;
+    private volatile String[] fingerprintMemo;
+    private final ConcurrentHashMap<String, AtomicLong> cacheGenerations;
+    private final HedgingPolicy hedging;
+    private final boolean coalesceReads;
+    private final ConcurrentHashMap<String, CompletableFuture<JsonObject>> inFlightReads;
+    private final LongAdder coalescedReads;
+    private final int compressionThreshold;
+    private final AtomicBoolean compressionRejected;
+    private final CircuitBreaker.Builder circuitBreaker;
+    private final ConcurrentHashMap<String, CircuitBreaker> circuitBreakers;
+    private final CircuitBreaker.Fallback circuitBreakerFallback;
+    private final Lifecycle lifecycle;
     private final Messages messages;
     private final WebhooksResource webhooks;
     private final AccountResource account;
@@ -63,23 +137,139 @@ public class Sendly {
      * @param builder Configuration builder
      */
     public Sendly(String apiKey, Builder builder) {
-        if (apiKey == null || apiKey.isEmpty()) {
+        this(requireApiKey(apiKey), builder);
+    }
+
+    /**
+     * Create a new Sendly client whose API key can change at runtime.
+     *
+     * @param credentials Supplies the API key for each request attempt
+     * @param builder     Configuration builder
+     */
+    public Sendly(CredentialProvider credentials, Builder builder) {
+        if (credentials == null) {
             throw new AuthenticationException("API key is required");
         }
 
-        this.apiKey = apiKey;
+        this.credentials = credentials;
         this.baseUrl = builder.baseUrl;
         this.maxRetries = builder.maxRetries;
+        this.retryOnRateLimit = builder.retryOnRateLimit;
+        this.callTimeout = builder.callTimeout;
+        this.callTimeoutPinned = false;
+
+        HttpProtocol protocol = builder.sharedTransport != null ? builder.sharedTransport.getProtocol() : builder.protocol;
+        if (protocol == HttpProtocol.H2_PRIOR_KNOWLEDGE && baseUrl.regionMatches(true, 0, "https:", 0, 6)) {
+            throw new IllegalArgumentException("H2_PRIOR_KNOWLEDGE needs an http:// base URL; " +
+                    "HTTP/2 over https:// is negotiated with HttpProtocol.HTTP_2");
+        }
+        this.transport = builder.sharedTransport != null ? builder.sharedTransport : builder.newTransport();
+        this.gson = transport.getGson();
+        this.codec = transport.getCodec();
+        this.lifecycle = new Lifecycle(builder.sharedTransport == null ? transport : null);
+
+        Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+        bulkheads.put(Bulkhead.DEFAULT, Bulkhead.builder(Bulkhead.DEFAULT).build());
+        bulkheads.put(Bulkhead.VERIFY, Bulkhead.builder(Bulkhead.VERIFY).build());
+        bulkheads.put(Bulkhead.BULK, Bulkhead.builder(Bulkhead.BULK).maxConcurrentRequests(DEFAULT_BULK_CONCURRENCY).build());
+        bulkheads.putAll(builder.bulkheads);
 
-        this.httpClient = new OkHttpClient.Builder()
-                .connectTimeout(builder.connectTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                .readTimeout(builder.readTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                .writeTimeout(builder.writeTimeout.toMillis(), TimeUnit.MILLISECONDS)
-                .build();
+        int clientCap = builder.maxConcurrentRequests != null ?
+                builder.maxConcurrentRequests : transport.getMaxConcurrentRequestsPerClient();
+        this.clientLimit = clientCap > 0 ? new Semaphore(clientCap) : null;
+        Map<String, Lane> built = new HashMap<>();
+        for (Bulkhead bulkhead : bulkheads.values()) {
+            // Derived engines share the transport's connection pool and dispatcher
+            HttpTransport pooled = transport.getHttpTransport(bulkhead);
+            HttpTransport http = pooled;
+            if (builder.sharedTransport != null && builder.customTimeouts) {
+                http = pooled.withTimeouts(builder.connectTimeout, builder.readTimeout, builder.writeTimeout);
+            }
+            int limit = bulkhead.getMaxConcurrentRequests();
+            AdaptiveConcurrencyLimiter adaptive = builder.adaptiveConcurrency != null ?
+                    builder.adaptiveConcurrency.build() : null;
+            built.put(bulkhead.getName(), new Lane(http, pooled, limit > 0 ? new Semaphore(limit) : null, adaptive));
+        }
+        this.lanes = Collections.unmodifiableMap(built);
 
-        this.gson = new GsonBuilder()
-                .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
-                .create();
+        List<Route<EndpointPolicy>> allEndpoints = new ArrayList<>(builder.endpoints);
+        allEndpoints.add(Route.parse("/verify/**", EndpointPolicy.builder().bulkhead(Bulkhead.VERIFY).build()));
+        allEndpoints.add(Route.parse("POST /messages/batch", EndpointPolicy.builder().bulkhead(Bulkhead.BULK).build()));
+        allEndpoints.add(Route.parse("POST /campaigns/*/send", EndpointPolicy.builder()
+                .bulkhead(Bulkhead.BULK)
+                .idempotent(false)
+                .build()));
+        allEndpoints.add(Route.parse("GET /templates/**", cachedFor(Duration.ofMinutes(5))));
+        allEndpoints.add(Route.parse("GET /webhooks/event-types", cachedFor(Duration.ofHours(1))));
+        allEndpoints.add(Route.parse("GET /account", cachedFor(Duration.ofMinutes(1))));
+        allEndpoints.add(Route.parse("GET /contact-lists/*", cachedFor(Duration.ofMinutes(1))));
+        allEndpoints.add(Route.parse("GET /campaigns/*/preview", cachedFor(Duration.ofMinutes(1))));
+        for (Route<EndpointPolicy> endpoint : allEndpoints) {
+            if (endpoint.target.getBulkhead() != null) {
+                requireBulkhead(endpoint.target.getBulkhead());
+            }
+        }
+        this.endpoints = Collections.unmodifiableList(allEndpoints);
+        this.bulkheadOverride = null;
+
+        this.responseCache = builder.responseCache;
+        this.hedging = builder.hedging;
+        this.coalesceReads = builder.coalesceReads;
+        this.inFlightReads = new ConcurrentHashMap<>();
+        this.cacheGenerations = new ConcurrentHashMap<>();
+        this.coalescedReads = new LongAdder();
+        this.compressionThreshold = builder.compressionThreshold;
+        this.compressionRejected = new AtomicBoolean();
+        this.circuitBreaker = builder.circuitBreaker;
+        this.circuitBreakers = new ConcurrentHashMap<>();
+        this.circuitBreakerFallback = builder.circuitBreakerFallback;
+
+        this.messages = new Messages(this);
+        this.webhooks = new WebhooksResource(this);
+        this.account = new AccountResource(this);
+        this.verify = new VerifyResource(this);
+        this.templates = new TemplatesResource(this);
+        this.campaigns = new CampaignsResource(this);
+        this.contacts = new ContactsResource(this);
+
+        if (builder.warmUpConnections > 0) {
+            Thread warmUp = new Thread(() -> warmUp(builder.warmUpConnections), "sendly-warm-up");
+            warmUp.setDaemon(true);
+            warmUp.start();
+        }
+    }
+
+    /**
+     * Create a view of a client that sends every request through one bulkhead, or
+     * through the routed one if null, with its own call timeout. A pinned call timeout
+     * applies to every endpoint, even those whose policy sets their own.
+     */
+    private Sendly(Sendly parent, String bulkhead, Duration callTimeout, boolean callTimeoutPinned) {
+        this.credentials = parent.credentials;
+        this.baseUrl = parent.baseUrl;
+        this.transport = parent.transport;
+        this.gson = parent.gson;
+        this.codec = parent.codec;
+        this.maxRetries = parent.maxRetries;
+        this.retryOnRateLimit = parent.retryOnRateLimit;
+        this.callTimeout = callTimeout;
+        this.callTimeoutPinned = callTimeoutPinned;
+        this.lanes = parent.lanes;
+        this.clientLimit = parent.clientLimit;
+        this.endpoints = parent.endpoints;
+        this.bulkheadOverride = bulkhead;
+        this.responseCache = parent.responseCache;
+        this.hedging = parent.hedging;
+        this.coalesceReads = parent.coalesceReads;
+        this.inFlightReads = parent.inFlightReads;
+        this.cacheGenerations = parent.cacheGenerations;
+        this.coalescedReads = parent.coalescedReads;
+        this.compressionThreshold = parent.compressionThreshold;
+        this.compressionRejected = parent.compressionRejected;
+        this.circuitBreaker = parent.circuitBreaker;
+        this.circuitBreakers = parent.circuitBreakers;
+        this.circuitBreakerFallback = parent.circuitBreakerFallback;
+        this.lifecycle = parent.lifecycle;
 
         this.messages = new Messages(this);
         this.webhooks = new WebhooksResource(this);
@@ -90,6 +280,13 @@ public class Sendly {
         this.contacts = new ContactsResource(this);
     }
 
+    private static CredentialProvider requireApiKey(String apiKey) {
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new AuthenticationException("API key is required");
+        }
+        return CredentialProvider.of(apiKey);
+    }
+
     /**
      * Get the Messages resource.
      *
@@ -164,27 +361,15 @@ public class Sendly {
      * @throws SendlyException if the request fails
      */
     public <T> T request(String method, String path, Object body, Class<T> clazz) throws SendlyException {
-        JsonObject response;
-        switch (method.toUpperCase()) {
-            case "GET":
-                response = get(path, null);
-                break;
-            case "POST":
-                response = post(path, body);
-                break;
-            case "PATCH":
-                response = patch(path, body);
-                break;
-            case "DELETE":
-                response = delete(path);
-                break;
-            default:
-                throw new SendlyException("Unsupported HTTP method: " + method);
+        Verb verb = VERBS.get(method.toUpperCase());
+        if (verb == null) {
+            throw new SendlyException("Unsupported HTTP method: " + method);
         }
+        JsonObject response = verb.call(this, path, body);
         if (clazz == Void.class) {
             return null;
         }
-        return gson.fromJson(response, clazz);
+        return codec.bind(response, clazz);
     }
 
     /**
@@ -192,28 +377,195 @@ public class Sendly {
      *
      * @param path   API endpoint path
      * @param params Query parameters
-     * @return Response as JsonObject
+     * @return Response as JsonObject, the caller's own copy even when served from the
+     *         response cache
      * @throws SendlyException if the request fails
      */
     public JsonObject get(String path, Map<String, String> params) throws SendlyException {
-        HttpUrl.Builder urlBuilder = HttpUrl.parse(baseUrl + path).newBuilder();
+        StringBuilder url = new StringBuilder(baseUrl).append(path);
         if (params != null) {
-            params.forEach((key, value) -> {
-                if (value != null) {
-                    urlBuilder.addQueryParameter(key, value);
+            char separator = path.indexOf('?') >= 0 ? '&' : '?';
+            for (Map.Entry<String, String> param : params.entrySet()) {
+                if (param.getValue() != null) {
+                    url.append(separator).append(encodeQuery(param.getKey()))
+                            .append('=').append(encodeQuery(param.getValue()));
+                    separator = '&';
+                }
+            }
+        }
+        HttpTransport.Request request = newRequest("GET", url.toString(), null);
+
+        EndpointPolicy policy = policyFor("GET", path);
+        String key = readKey(path, params);
+        Duration ttl = cacheTtlFor(policy);
+        Supplier<JsonObject> load;
+        if (ttl != null) {
+            String cacheKey = fingerprint(currentApiKey()) + ' ' + key;
+            ResponseCache.Entry cached = responseCache.get(cacheKey);
+            if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+                // Callers own what they get back; the entry stays as the API sent it
+                return cached.getBody().deepCopy();
+            }
+            AtomicLong generation = cacheGeneration(pathGroup(path));
+            long startedAt = generation.get();
+            load = () -> loadCached(request, policy, cacheKey, cached, ttl, generation, startedAt);
+        } else {
+            load = () -> executeWithRetry(request, policy).body;
+        }
+        return coalesceReads ? executeCoalesced(key, policy, load) : load.get();
+    }
+
+    /**
+     * Run a GET, or if an identical GET with the same API key, bulkhead and call timeout
+     * is already in flight, wait for it, no longer than this call's own deadline, and
+     * take a copy of its parsed result.
+     */
+    private JsonObject executeCoalesced(String key, EndpointPolicy policy, Supplier<JsonObject> load)
+            throws SendlyException {
+        Duration timeout = callTimeoutFor(policy);
+        String flightKey = fingerprint(currentApiKey()) + ' ' + bulkheadOverride + ' ' + timeout + ' ' + key;
+        CompletableFuture<JsonObject> flight = new CompletableFuture<>();
+        CompletableFuture<JsonObject> leader = inFlightReads.putIfAbsent(flightKey, flight);
+        if (leader != null) {
+            coalescedReads.increment();
+            try {
+                JsonObject shared = timeout != null ?
+                        leader.get(timeout.toNanos(), TimeUnit.NANOSECONDS) : leader.get();
+                return shared != null ? shared.deepCopy() : null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NetworkException("Request interrupted");
+            } catch (TimeoutException e) {
+                throw new DeadlineExceededException("Call could not complete within " + timeout.toMillis() +
+                        "ms while waiting for an identical request in flight", timeout);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof SendlyException) {
+                    throw (SendlyException) e.getCause();
+                }
+                SendlyException failure = new SendlyException("Request failed: " + e.getCause());
+                failure.initCause(e.getCause());
+                throw failure;
+            }
+        }
+
+        try {
+            JsonObject response = load.get();
+            // Followers copy from a snapshot, so the leader's caller may change its own result
+            flight.complete(response != null ? response.deepCopy() : null);
+            return response;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightReads.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * Fetch a cacheable GET, revalidating an expired entry with {@code If-None-Match}
+     * when it has an ETag, and store the result unless a mutation of its endpoint group
+     * was invalidated while it was in flight.
+     */
+    private JsonObject loadCached(HttpTransport.Request request, EndpointPolicy policy, String cacheKey,
+                                  ResponseCache.Entry cached, Duration ttl,
+                                  AtomicLong generation, long startedAt) throws SendlyException {
+        HttpTransport.Request conditional = cached != null && cached.getEtag() != null ?
+                request.withHeader("If-None-Match", cached.getEtag()) : request;
+        ApiResponse response = executeWithRetry(conditional, policy);
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        JsonObject body = response.notModified ? cached.getBody() : response.body;
+        String etag = response.notModified && response.etag == null ? cached.getEtag() : response.etag;
+        if (generation.get() == startedAt) {
+            responseCache.put(cacheKey, new ResponseCache.Entry(
+                    response.notModified ? body : body.deepCopy(), etag, expiresAt));
+            // A mutation may have invalidated between the check and the put
+            if (generation.get() != startedAt) {
+                responseCache.invalidateIf(cacheKey::equals);
+            }
+        }
+        return response.notModified ? body.deepCopy() : body;
+    }
+
+    /**
+     * Drop cached reads of the collection a mutation touched and of the groups that
+     * depend on it, e.g. every {@code /contact-lists...} and {@code /campaigns...} entry
+     * after {@code PATCH /contact-lists/lst_1}. Each group's generation is bumped first,
+     * so a read that started before the mutation does not store its result afterwards.
+     */
+    private void invalidateCached(String path) {
+        if (responseCache == null) {
+            return;
+        }
+        String group = pathGroup(path);
+        List<String> groups = new ArrayList<>();
+        groups.add(group);
+        groups.addAll(DEPENDENT_CACHE_GROUPS.getOrDefault(group, List.of()));
+        for (String stale : groups) {
+            cacheGeneration(stale).incrementAndGet();
+        }
+
+        String fingerprint = fingerprint(currentApiKey());
+        responseCache.invalidateIf(key -> {
+            for (String stale : groups) {
+                String prefix = fingerprint + " /" + stale;
+                if (key.startsWith(prefix) && (key.length() == prefix.length() ||
+                        key.charAt(prefix.length()) == '/' || key.charAt(prefix.length()) == '?')) {
+                    return true;
                 }
-            });
+            }
+            return false;
+        });
+    }
+
+    private AtomicLong cacheGeneration(String group) {
+        return cacheGenerations.computeIfAbsent(group, g -> new AtomicLong());
+    }
+
+    private Duration cacheTtlFor(EndpointPolicy policy) {
+        if (responseCache == null) {
+            return null;
         }
+        Duration ttl = policy.getCacheTtl();
+        return ttl == null || ttl.isZero() ? null : ttl;
+    }
 
-        Request request = new Request.Builder()
-                .url(urlBuilder.build())
-                .get()
-                .addHeader("Authorization", "Bearer " + apiKey)
-                .addHeader("Accept", "application/json")
-                .addHeader("User-Agent", "sendly-java/" + VERSION)
-                .build();
+    /**
+     * Short, stable stand-in for an API key, so cache keys never contain the key itself.
+     */
+    private String fingerprint(String apiKey) {
+        String[] memo = fingerprintMemo;
+        if (memo != null && memo[0].equals(apiKey)) {
+            return memo[1];
+        }
+        String fingerprint = sha256Prefix(apiKey);
+        fingerprintMemo = new String[]{apiKey, fingerprint};
+        return fingerprint;
+    }
 
-        return executeWithRetry(request);
+    private static String sha256Prefix(String apiKey) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new SendlyException("SHA-256 not available");
+        }
+    }
+
+    private static String readKey(String path, Map<String, String> params) {
+        if (params == null || params.isEmpty()) {
+            return path;
+        }
+        StringBuilder key = new StringBuilder(path).append('?');
+        new TreeMap<>(params).forEach((name, value) -> {
+            if (value != null) {
+                key.append(name).append('=').append(value).append('&');
+            }
+        });
+        return key.toString();
     }
 
     /**
@@ -225,19 +577,45 @@ public class Sendly {
      * @throws SendlyException if the request fails
      */
     public JsonObject post(String path, Object body) throws SendlyException {
-        String json = gson.toJson(body);
-        RequestBody requestBody = RequestBody.create(json, MediaType.parse("application/json"));
+        return send("POST", path, body);
+    }
 
-        Request request = new Request.Builder()
-                .url(baseUrl + path)
-                .post(requestBody)
-                .addHeader("Authorization", "Bearer " + apiKey)
-                .addHeader("Content-Type", "application/json")
-                .addHeader("Accept", "application/json")
-                .addHeader("User-Agent", "sendly-java/" + VERSION)
-                .build();
+    /**
+     * Make a POST request, returning any error in the result instead of throwing it.
+     * Error responses are turned into exceptions without stack traces, and not at all
+     * while they are being retried.
+     *
+     * @param path API endpoint path
+     * @param body Request body
+     * @return The response as JsonObject, or the error
+     */
+    public SendResult<JsonObject> tryPost(String path, Object body) {
+        return tryPost(path, body, JsonObject.class);
+    }
 
-        return executeWithRetry(request);
+    /**
+     * Make a POST request and bind the response, returning any error in the result
+     * instead of throwing it. Errors that are not already a {@link SendlyException},
+     * such as a response that cannot be bound, are wrapped in one without a stack trace.
+     *
+     * @param path  API endpoint path
+     * @param body  Request body
+     * @param clazz Response class type
+     * @return The typed response, or the error
+     */
+    public <T> SendResult<T> tryPost(String path, Object body, Class<T> clazz) {
+        try {
+            ApiResponse response = sendForResult("POST", path, body, false);
+            if (response.failed()) {
+                return SendResult.failure(response.toException(false));
+            }
+            if (clazz == Void.class) {
+                return SendResult.success(null);
+            }
+            return SendResult.success(clazz == JsonObject.class ? clazz.cast(response.body) : codec.bind(response.body, clazz));
+        } catch (RuntimeException e) {
+            return SendResult.failure(e);
+        }
     }
 
     /**
@@ -249,19 +627,7 @@ public class Sendly {
      * @throws SendlyException if the request fails
      */
     public JsonObject patch(String path, Object body) throws SendlyException {
-        String json = gson.toJson(body);
-        RequestBody requestBody = RequestBody.create(json, MediaType.parse("application/json"));
-
-        Request request = new Request.Builder()
-                .url(baseUrl + path)
-                .patch(requestBody)
-                .addHeader("Authorization", "Bearer " + apiKey)
-                .addHeader("Content-Type", "application/json")
-                .addHeader("Accept", "application/json")
-                .addHeader("User-Agent", "sendly-java/" + VERSION)
-                .build();
-
-        return executeWithRetry(request);
+        return send("PATCH", path, body);
     }
 
     /**
@@ -272,85 +638,676 @@ public class Sendly {
      * @throws SendlyException if the request fails
      */
     public JsonObject delete(String path) throws SendlyException {
-        Request request = new Request.Builder()
-                .url(baseUrl + path)
-                .delete()
-                .addHeader("Authorization", "Bearer " + apiKey)
-                .addHeader("Accept", "application/json")
-                .addHeader("User-Agent", "sendly-java/" + VERSION)
-                .build();
+        HttpTransport.Request request = newRequest("DELETE", baseUrl + path, null);
+
+        try {
+            return executeWithRetry(request, policyFor("DELETE", path)).body;
+        } finally {
+            invalidateCached(path);
+        }
+    }
 
-        return executeWithRetry(request);
+    private JsonObject send(String method, String path, Object body) throws SendlyException {
+        return orThrow(sendForResult(method, path, body, true)).body;
+    }
+
+    private ApiResponse sendForResult(String method, String path, Object body, boolean writableStackTrace)
+            throws SendlyException {
+        HttpTransport.Request request = newBodyRequest(method, path, body);
+        EndpointPolicy policy = policyFor(method, path);
+        try {
+            ApiResponse response = executeForResult(request, policy, writableStackTrace);
+            if (response.status == CIRCUIT_OPEN && circuitBreakerFallback != null) {
+                return new ApiResponse(circuitBreakerFallback.call(method, path, body), null, false);
+            }
+            return response;
+        } finally {
+            invalidateCached(path);
+        }
     }
 
     /**
-     * Execute request with retries.
+     * Encode a request body, gzip-compressing it while it is encoded once it grows past
+     * the compression threshold.
      */
-    private JsonObject executeWithRetry(Request request) throws SendlyException {
-        SendlyException lastException = null;
+    private HttpTransport.Request newBodyRequest(String method, String path, Object body) throws SendlyException {
+        if (compressionThreshold <= 0 || compressionRejected.get()) {
+            return newRequest(method, baseUrl + path, codec.encode(body));
+        }
+        ThresholdGzipOutputStream out = new ThresholdGzipOutputStream(compressionThreshold);
+        try {
+            codec.encode(body, out);
+            out.close();
+        } catch (IOException e) {
+            throw new SendlyException("Failed to encode request body: " + e.getMessage());
+        }
+        HttpTransport.Request request = newRequest(method, baseUrl + path, out.toByteArray());
+        return out.isCompressed() ? request.withHeader("Content-Encoding", "gzip") : request;
+    }
+
+    /**
+     * Get a copy of a gzip-compressed request with its body as it was encoded.
+     */
+    private static HttpTransport.Request uncompressed(HttpTransport.Request request) throws SendlyException {
+        Map<String, String> headers = new LinkedHashMap<>(request.getHeaders());
+        headers.remove("Content-Encoding");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(request.getBody()))) {
+            return new HttpTransport.Request(request.getMethod(), request.getUrl(), headers, in.readAllBytes(),
+                    request.getTimeout());
+        } catch (IOException e) {
+            throw new SendlyException("Failed to decompress request body: " + e.getMessage());
+        }
+    }
+
+    private static HttpTransport.Request newRequest(String method, String url, byte[] body) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (body != null) {
+            headers.put("Content-Type", "application/json; charset=utf-8");
+        }
+        headers.put("Accept", "application/json");
+        headers.put("User-Agent", "sendly-java/" + VERSION);
+        return new HttpTransport.Request(method, url, headers, body);
+    }
+
+    private static String encodeQuery(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+
+    /**
+     * Execute request with retries, as the endpoint's policy allows, unless the client
+     * has been shut down.
+     */
+    private ApiResponse executeWithRetry(HttpTransport.Request request, EndpointPolicy policy) throws SendlyException {
+        return orThrow(executeForResult(request, policy, true));
+    }
 
-        for (int attempt = 0; attempt <= maxRetries; attempt++) {
-            if (attempt > 0) {
+    /**
+     * Execute request with retries like {@link #executeWithRetry}, but return an error
+     * response instead of throwing it. Retried error responses never become exceptions,
+     * and network, deadline and shutdown errors are only given a stack trace if
+     * {@code writableStackTrace} is set.
+     */
+    private ApiResponse executeForResult(HttpTransport.Request request, EndpointPolicy policy,
+                                         boolean writableStackTrace) throws SendlyException {
+        if (!lifecycle.enter()) {
+            throw clientShutDown(null, writableStackTrace);
+        }
+        try {
+            return executeAttempts(request, policy, writableStackTrace);
+        } finally {
+            lifecycle.exit();
+        }
+    }
+
+    private static ApiResponse orThrow(ApiResponse response) throws SendlyException {
+        if (response.failed()) {
+            throw response.toException(true);
+        }
+        return response;
+    }
+
+    private ApiResponse executeAttempts(HttpTransport.Request request, EndpointPolicy policy,
+                                        boolean writableStackTrace) throws SendlyException {
+        Lane lane = laneFor(policy);
+        int retries = policy.getMaxRetries() != null ? policy.getMaxRetries() : maxRetries;
+        Duration timeout = callTimeoutFor(policy);
+        Duration attemptTimeout = policy.getAttemptTimeout();
+        CircuitBreaker breaker = circuitBreakerFor(request);
+        ApiResponse lastFailure = null;
+        NetworkException lastException = null;
+        long deadline = timeout != null ? System.nanoTime() + timeout.toNanos() : 0;
+        boolean resend = false;
+
+        for (int attempt = 0; attempt <= retries; attempt++) {
+            if (attempt > 0 && !resend) {
                 try {
                     long delay = (long) Math.pow(2, attempt - 1) * 1000;
-                    Thread.sleep(delay);
+                    if (timeout != null && TimeUnit.MILLISECONDS.toNanos(delay) >= deadline - System.nanoTime()) {
+                        throw deadlineExceeded(timeout, attempt, lastError(lastFailure, lastException),
+                                writableStackTrace);
+                    }
+                    if (!lifecycle.pause(delay)) {
+                        throw clientShutDown(lastError(lastFailure, lastException), writableStackTrace);
+                    }
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
-                    throw new NetworkException("Request interrupted");
+                    throw new NetworkException("Request interrupted", null, writableStackTrace);
+                }
+            }
+            resend = false;
+
+            HttpTransport.Request attemptRequest = attemptTimeout != null ? request.withTimeout(attemptTimeout) : request;
+            if (timeout != null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw deadlineExceeded(timeout, attempt, lastError(lastFailure, lastException),
+                            writableStackTrace);
+                }
+                if (attemptTimeout == null || remaining < attemptTimeout.toNanos()) {
+                    attemptRequest = request.withTimeout(Duration.ofNanos(remaining));
                 }
             }
 
+            int permit = breaker != null ? breaker.tryAcquire() : CircuitBreaker.PERMITTED;
+            if (permit == CircuitBreaker.REJECTED) {
+                return new ApiResponse(CIRCUIT_OPEN, endpointGroup(request), 0);
+            }
+
+            ApiResponse response;
             try {
-                return execute(request);
-            } catch (AuthenticationException | ValidationException |
-                     NotFoundException | InsufficientCreditsException e) {
-                throw e; // Don't retry these
-            } catch (RateLimitException e) {
-                if (e.getRetryAfter() > 0) {
-                    try {
-                        Thread.sleep(e.getRetryAfter() * 1000L);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
+                response = executeAuthorized(attemptRequest, lane);
+            } catch (NetworkException e) {
+                if (breaker != null) {
+                    // A wait for a local slot or an interrupt says nothing about the endpoint
+                    if (e instanceof LocalFailureException || Thread.currentThread().isInterrupted()) {
+                        breaker.onIgnored(permit);
+                    } else {
+                        breaker.onFailure(permit);
                     }
                 }
+                if (timeout != null && deadline - System.nanoTime() <= 0) {
+                    throw deadlineExceeded(timeout, attempt + 1, e, writableStackTrace);
+                }
+                if (!policy.isIdempotent()) {
+                    throw surfaced(e, writableStackTrace); // The request may have reached the server
+                }
+                lastFailure = null;
                 lastException = e;
-            } catch (SendlyException e) {
-                lastException = e;
+                continue;
+            } catch (RuntimeException e) {
+                if (breaker != null) {
+                    breaker.onIgnored(permit);
+                }
+                throw e;
+            }
+            if (breaker != null) {
+                if (response.status >= 500) {
+                    breaker.onFailure(permit);
+                } else {
+                    breaker.onSuccess(permit);
+                }
+            }
+
+            switch (response.status) {
+                case 0:
+                case 400:
+                case 401:
+                case 402:
+                case 404:
+                case 422:
+                    return response; // Don't retry these
+                case 415:
+                    if (request.getHeaders().containsKey("Content-Encoding")) {
+                        // The server does not accept compressed bodies: stop compressing and resend
+                        // as is, at once, within this call's deadline and remaining retries
+                        compressionRejected.set(true);
+                        request = uncompressed(request);
+                        resend = true;
+                        attempt--;
+                        continue;
+                    }
+                    return response; // Resending the same body cannot succeed
+                case 429:
+                    if (!retryOnRateLimit) {
+                        return response;
+                    }
+                    if (timeout != null && TimeUnit.SECONDS.toNanos(response.retryAfter) >= deadline - System.nanoTime()) {
+                        throw deadlineExceeded(timeout, attempt + 1, response.toException(false), writableStackTrace);
+                    }
+                    if (response.retryAfter > 0) {
+                        try {
+                            if (!lifecycle.pause(response.retryAfter * 1000L)) {
+                                throw clientShutDown(response.toException(false), writableStackTrace);
+                            }
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    break;
+                default:
+                    if (timeout != null && deadline - System.nanoTime() <= 0) {
+                        throw deadlineExceeded(timeout, attempt + 1, response.toException(false), writableStackTrace);
+                    }
+                    if (!policy.isIdempotent()) {
+                        return response; // The server may have acted on it; only a 429 is known to be safe to resend
+                    }
             }
+            lastFailure = response;
+            lastException = null;
         }
 
-        throw lastException != null ? lastException : new SendlyException("Request failed after retries");
+        if (lastFailure != null) {
+            return lastFailure;
+        }
+        throw lastException != null ? surfaced(lastException, writableStackTrace) :
+                new SendlyException("Request failed after retries");
     }
 
     /**
-     * Execute a single request.
+     * Get the circuit breaker of the endpoint group a request belongs to, or null if
+     * circuit breaking is disabled.
+     */
+    private CircuitBreaker circuitBreakerFor(HttpTransport.Request request) {
+        return circuitBreaker != null ? getCircuitBreaker(endpointGroup(request)) : null;
+    }
+
+    /**
+     * The endpoint group of a request: the first segment of its path, such as
+     * {@code messages} for {@code /messages/batch}.
+     */
+    private String endpointGroup(HttpTransport.Request request) {
+        return pathGroup(request.getUrl().substring(baseUrl.length()));
+    }
+
+    /**
+     * The first segment of an API path, such as {@code messages} for {@code /messages/msg_1}.
      */
-    private JsonObject execute(Request request) throws SendlyException {
-        try (Response response = httpClient.newCall(request).execute()) {
-            String body = response.body() != null ? response.body().string() : "";
+    private static String pathGroup(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = start;
+        while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '?') {
+            end++;
+        }
+        return path.substring(start, end);
+    }
 
-            if (response.isSuccessful()) {
-                return body.isEmpty() ? new JsonObject() : gson.fromJson(body, JsonObject.class);
+    /**
+     * The deadline of a call: the view's pinned call timeout, else the endpoint's own,
+     * else the client's.
+     */
+    private Duration callTimeoutFor(EndpointPolicy policy) {
+        return callTimeoutPinned || policy.getCallTimeout() == null ? callTimeout : policy.getCallTimeout();
+    }
+
+    private static SendlyException lastError(ApiResponse failure, SendlyException exception) {
+        return failure != null ? failure.toException(false) : exception;
+    }
+
+    private static SendlyException clientShutDown(SendlyException last, boolean writableStackTrace) {
+        return new SendlyException("Client has been shut down", 0, "CLIENT_SHUT_DOWN", last, writableStackTrace);
+    }
+
+    private static DeadlineExceededException deadlineExceeded(Duration timeout, int attempts, SendlyException last,
+                                                              boolean writableStackTrace) {
+        return new DeadlineExceededException(
+                "Call could not complete within " + timeout.toMillis() + "ms after " + attempts +
+                        (attempts == 1 ? " attempt" : " attempts"), timeout, last, writableStackTrace);
+    }
+
+    /**
+     * The network error to hand to the caller. Attempts fail with stackless errors, since
+     * most are retried; one that is thrown gets a stack trace from the calling thread.
+     */
+    private static NetworkException surfaced(NetworkException e, boolean writableStackTrace) {
+        return writableStackTrace ? new NetworkException(e.getMessage(), e.getCause(), true) : e;
+    }
+
+    /**
+     * Execute a single attempt with the current API key. If the key was rotated while
+     * the attempt was in flight and the old key was rejected, re-send once with the new key.
+     */
+    private ApiResponse executeAuthorized(HttpTransport.Request request, Lane lane) throws SendlyException {
+        String apiKey = currentApiKey();
+        ApiResponse response = execute(authorize(request, apiKey), lane);
+        if (response.status == 401) {
+            String rotated = currentApiKey();
+            if (!rotated.equals(apiKey)) {
+                return execute(authorize(request, rotated), lane);
             }
+        }
+        return response;
+    }
 
-            JsonObject error = body.isEmpty() ? new JsonObject() : gson.fromJson(body, JsonObject.class);
-            String message = error.has("message") ? error.get("message").getAsString() : "Unknown error";
+    private String currentApiKey() throws AuthenticationException {
+        String apiKey = credentials.getApiKey();
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new AuthenticationException("API key is required");
+        }
+        return apiKey;
+    }
 
-            throw switch (response.code()) {
-                case 401 -> new AuthenticationException(message);
-                case 402 -> new InsufficientCreditsException(message);
-                case 404 -> new NotFoundException(message);
-                case 429 -> {
-                    String retryAfter = response.header("Retry-After");
-                    int seconds = retryAfter != null ? Integer.parseInt(retryAfter) : 0;
-                    yield new RateLimitException(message, seconds);
+    private static HttpTransport.Request authorize(HttpTransport.Request request, String apiKey) {
+        return request.withHeader("Authorization", "Bearer " + apiKey);
+    }
+
+    /**
+     * Execute a single request.
+     */
+    private ApiResponse execute(HttpTransport.Request request, Lane lane) throws SendlyException {
+        long deadline = request.getTimeout() != null ? System.nanoTime() + request.getTimeout().toNanos() : 0;
+        // The bulkhead's slot first, so a call waiting for the client-wide cap only holds up its own bulkhead
+        acquireSlot(lane.limit, request.getTimeout() != null, deadline);
+        try {
+            acquireSlot(clientLimit, request.getTimeout() != null, deadline);
+            try {
+                return lane.adaptive != null ?
+                        executeAdaptive(request, lane, request.getTimeout() != null, deadline) :
+                        executeCall(request, lane.http);
+            } finally {
+                if (clientLimit != null) {
+                    clientLimit.release();
                 }
-                case 400, 422 -> new ValidationException(message);
-                default -> new SendlyException(message, response.code());
-            };
+            }
+        } finally {
+            if (lane.limit != null) {
+                lane.limit.release();
+            }
+        }
+    }
+
+    private static void acquireSlot(Semaphore slots, boolean timed, long deadline) throws NetworkException {
+        if (slots == null) {
+            return;
+        }
+        try {
+            if (!timed) {
+                slots.acquire();
+            } else if (!slots.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new LocalFailureException("Timed out waiting for a concurrency slot");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LocalFailureException("Request interrupted");
+        }
+    }
+
+    /**
+     * Execute a single request under the lane's adaptive limit, feeding the outcome back to it.
+     */
+    private ApiResponse executeAdaptive(HttpTransport.Request request, Lane lane, boolean timed, long deadline)
+            throws SendlyException {
+        try {
+            if (!timed) {
+                lane.adaptive.acquire();
+            } else if (!lane.adaptive.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new LocalFailureException("Timed out waiting for a concurrency slot");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LocalFailureException("Request interrupted");
+        }
+        String operation = request.getMethod() + ' ' + endpointGroup(request);
+        long start = System.nanoTime();
+        boolean released = false;
+        try {
+            ApiResponse response = executeCall(request, lane.http);
+            released = true;
+            if (response.status == 429 || response.status >= 500) {
+                lane.adaptive.onDropped(System.nanoTime() - start);
+            } else if (response.failed()) {
+                lane.adaptive.onIgnored();
+            } else {
+                lane.adaptive.onSuccess(operation, System.nanoTime() - start);
+            }
+            return response;
+        } catch (NetworkException e) {
+            released = true;
+            lane.adaptive.onDropped(System.nanoTime() - start);
+            throw e;
+        } finally {
+            if (!released) {
+                lane.adaptive.onIgnored();
+            }
+        }
+    }
+
+    private ApiResponse executeCall(HttpTransport.Request request, HttpTransport http) throws SendlyException {
+        if (hedging != null && "GET".equals(request.getMethod())) {
+            return executeHedged(request, http);
+        }
+        try {
+            HttpTransport.Response response = http.execute(request);
+            return handleResponse(response.getCode(), response.getBody(),
+                    response.header("Retry-After"), response.header("ETag"));
         } catch (IOException e) {
-            throw new NetworkException("Request failed: " + e.getMessage());
+            throw new NetworkException("Request failed: " + e.getMessage(), e, false);
+        }
+    }
+
+    /**
+     * Send a GET and, if it has not answered by the hedging delay and the budget
+     * allows, send it again; the first response to arrive wins and the other is cancelled.
+     */
+    private ApiResponse executeHedged(HttpTransport.Request request, HttpTransport http) throws SendlyException {
+        hedging.onRequest();
+        long start = System.nanoTime();
+        BlockingQueue<HedgeOutcome> outcomes = new LinkedBlockingQueue<>();
+        List<CompletableFuture<HttpTransport.Response>> calls = new ArrayList<>(2);
+        calls.add(enqueue(http, request, 0, outcomes));
+        try {
+            HedgeOutcome outcome = outcomes.poll(hedging.hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+            if (outcome == null && hedging.tryAcquireHedge()) {
+                calls.add(enqueue(http, request, 1, outcomes));
+            }
+
+            int remaining = calls.size();
+            while (true) {
+                if (outcome == null) {
+                    outcome = outcomes.take();
+                }
+                remaining--;
+                if (outcome.error == null) {
+                    break;
+                }
+                // A copy failed outright; wait for the other one if it is still running
+                if (remaining == 0) {
+                    throw new NetworkException("Request failed: " + outcome.error.getMessage(), outcome.error, false);
+                }
+                outcome = null;
+            }
+
+            hedging.record(System.nanoTime() - start);
+            if (outcome.attempt == 1) {
+                hedging.onHedgeWon();
+            }
+            return handleResponse(outcome.code, outcome.body, outcome.retryAfter, outcome.etag);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LocalFailureException("Request interrupted");
+        } finally {
+            for (CompletableFuture<HttpTransport.Response> call : calls) {
+                call.cancel(true);
+            }
+        }
+    }
+
+    private static CompletableFuture<HttpTransport.Response> enqueue(HttpTransport http, HttpTransport.Request request,
+                                                                    int attempt, BlockingQueue<HedgeOutcome> outcomes) {
+        CompletableFuture<HttpTransport.Response> call = http.executeAsync(request);
+        call.whenComplete((response, error) -> {
+            if (error != null) {
+                outcomes.add(new HedgeOutcome(attempt, 0, null, null, null, error));
+            } else {
+                outcomes.add(new HedgeOutcome(attempt, response.getCode(), response.getBody(),
+                        response.header("Retry-After"), response.header("ETag"), null));
+            }
+        });
+        return call;
+    }
+
+    /**
+     * Parse a response. Error statuses are returned as failed responses, to be turned into
+     * exceptions only by the caller that gives up on them.
+     */
+    private ApiResponse handleResponse(int code, String body, String retryAfter, String etag) throws SendlyException {
+        if (code >= 200 && code < 300) {
+            return new ApiResponse(body.isEmpty() ? new JsonObject() : codec.decode(body), etag, false);
+        }
+        if (code == 304) {
+            return new ApiResponse(null, etag, true);
+        }
+
+        JsonObject error = body.isEmpty() ? new JsonObject() : codec.decode(body);
+        String message = error.has("message") ? error.get("message").getAsString() : "Unknown error";
+        int seconds = code == 429 && retryAfter != null ? Integer.parseInt(retryAfter) : 0;
+        return new ApiResponse(code, message, seconds);
+    }
+
+    /**
+     * Resolve the policy for a request, taking each setting from the first matching
+     * endpoint that sets it.
+     */
+    private EndpointPolicy policyFor(String method, String path) {
+        EndpointPolicy policy = EndpointPolicy.NONE;
+        for (Route<EndpointPolicy> endpoint : endpoints) {
+            if (endpoint.matches(method, path)) {
+                policy = policy.orElse(endpoint.target);
+            }
         }
+        return policy;
+    }
+
+    private Lane laneFor(EndpointPolicy policy) {
+        if (bulkheadOverride != null) {
+            return lanes.get(bulkheadOverride);
+        }
+        return lanes.get(policy.getBulkhead() != null ? policy.getBulkhead() : Bulkhead.DEFAULT);
+    }
+
+    private static EndpointPolicy cachedFor(Duration ttl) {
+        return EndpointPolicy.builder().cacheTtl(ttl).build();
+    }
+
+    private void requireBulkhead(String bulkhead) {
+        if (!lanes.containsKey(bulkhead)) {
+            throw new IllegalArgumentException("Unknown bulkhead: " + bulkhead);
+        }
+    }
+
+    /**
+     * Get a view of this client that sends every request through the named bulkhead,
+     * regardless of routes. The view shares this client's credentials, connections
+     * and concurrency limits.
+     *
+     * <pre>{@code
+     * client.withBulkhead(Bulkhead.VERIFY).messages().send("+15551234567", "Your code is 123456");
+     * }</pre>
+     *
+     * @param bulkhead Bulkhead name
+     * @return A client bound to that bulkhead
+     */
+    public Sendly withBulkhead(String bulkhead) {
+        requireBulkhead(bulkhead);
+        return new Sendly(this, bulkhead, callTimeout, callTimeoutPinned);
+    }
+
+    /**
+     * Get a view of this client whose calls must finish within a deadline, retries and
+     * backoff included. The view shares everything else with this client.
+     *
+     * <pre>{@code
+     * client.withCallTimeout(Duration.ofSeconds(2)).verify().check(verificationId, code);
+     * }</pre>
+     *
+     * @param timeout Deadline for each call, or null for none
+     * @return A client applying that deadline
+     * @see Builder#callTimeout(Duration)
+     */
+    public Sendly withCallTimeout(Duration timeout) {
+        return new Sendly(this, bulkheadOverride, requireCallTimeout(timeout), true);
+    }
+
+    /**
+     * Get the deadline applied to each call, retries and backoff included.
+     *
+     * @return The deadline, or null if calls are only bounded by per-attempt timeouts
+     */
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    private static Duration requireCallTimeout(Duration timeout) {
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("callTimeout must be positive");
+        }
+        return timeout;
+    }
+
+    /**
+     * Shut the client down, waiting up to {@link #DEFAULT_SHUTDOWN_TIMEOUT} for calls in
+     * flight to finish. See {@link #shutdown(Duration)}.
+     */
+    @Override
+    public void close() {
+        shutdown(DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * Stop accepting calls, wait up to {@code timeout} for the ones in flight to finish,
+     * retries included, then cancel whatever is still running and release the client's
+     * connections and threads. New calls, and calls waiting to retry once the timeout
+     * has passed, fail with a {@link SendlyException} whose error code is
+     * {@code CLIENT_SHUT_DOWN}; that includes paginators and {@code getAll} lookups
+     * still running. Shutting down a view shuts down the client it came from. A
+     * transport passed to {@link Builder#sharedTransport(SendlyTransport)} is left open.
+     *
+     * <pre>{@code
+     * Runtime.getRuntime().addShutdownHook(new Thread(() -> client.shutdown(Duration.ofSeconds(10))));
+     * }</pre>
+     *
+     * @param timeout How long to let calls in flight finish; zero cancels them at once
+     * @return True if every call finished before the timeout
+     */
+    public boolean shutdown(Duration timeout) {
+        lifecycle.shutdown.countDown();
+        boolean drained;
+        try {
+            drained = lifecycle.awaitIdle(timeout.isNegative() ? 0 : timeout.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drained = false;
+        }
+        lifecycle.terminated.countDown();
+        if (lifecycle.ownedTransport != null) {
+            lifecycle.ownedTransport.close();
+        }
+        return drained;
+    }
+
+    /**
+     * Check if {@link #shutdown(Duration)} or {@link #close()} has been called.
+     */
+    public boolean isShutdown() {
+        return lifecycle.shutdown.getCount() == 0;
+    }
+
+    /**
+     * Get the adaptive concurrency limiter for a bulkhead, to read its current limit.
+     *
+     * @param bulkhead Bulkhead name
+     * @return The limiter, or null if adaptive concurrency is not enabled
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter(String bulkhead) {
+        requireBulkhead(bulkhead);
+        return lanes.get(bulkhead).adaptive;
+    }
+
+    /**
+     * Get the response cache, if caching is enabled.
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Get the circuit breaker of an endpoint group, the first segment of a request path
+     * such as {@code messages} or {@code verify}.
+     *
+     * @param group Endpoint group
+     * @return The group's circuit breaker, or null if circuit breaking is disabled
+     */
+    public CircuitBreaker getCircuitBreaker(String group) {
+        if (circuitBreaker == null) {
+            return null;
+        }
+        return circuitBreakers.computeIfAbsent(group, g -> circuitBreaker.build());
+    }
+
+    /**
+     * Get the number of GETs that were answered by sharing an identical request already in flight.
+     */
+    public long getCoalescedReadCount() {
+        return coalescedReads.sum();
     }
 
     /**
@@ -360,6 +1317,325 @@ public class Sendly {
         return gson;
     }
 
+    /**
+     * Get the codec that encodes request bodies and parses responses.
+     */
+    public JsonCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Get the provider that supplies this client's API key.
+     */
+    public CredentialProvider getCredentials() {
+        return credentials;
+    }
+
+    /**
+     * Prepare the client so the first real request has warm-path latency.
+     *
+     * @see #warmUp(int)
+     */
+    public void warmUp() {
+        warmUp(DEFAULT_WARM_UP_CONNECTIONS);
+    }
+
+    /**
+     * Prepare the client so the first real request has warm-path latency: open
+     * connections to the API in every bulkhead's pool (DNS, TCP and TLS), bind every
+     * model once through the configured {@link JsonCodec} so its adapters are built, and
+     * run a few synthetic encode/decode and webhook verification rounds so those paths
+     * are JIT-compiled.
+     * <p>
+     * Connections are opened with unauthenticated {@code HEAD} requests, which do not
+     * spend credits. Over HTTP/2 concurrent requests share one connection, so fewer may
+     * be opened. Failures are ignored: warming up is best effort.
+     * </p>
+     *
+     * @param connections Connections to open per bulkhead pool
+     */
+    public void warmUp(int connections) {
+        primeCodecs();
+
+        Set<HttpTransport> warmed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<HttpTransport> engines = new ArrayList<>();
+        for (Lane lane : lanes.values()) {
+            if (warmed.add(lane.pooled)) {
+                engines.add(lane.http);
+            }
+        }
+
+        HttpTransport.Request head = new HttpTransport.Request("HEAD", baseUrl,
+                Map.of("User-Agent", "sendly-java/" + VERSION), null);
+        List<CompletableFuture<HttpTransport.Response>> calls = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(Math.max(connections, 0) * engines.size());
+        for (HttpTransport engine : engines) {
+            for (int i = 0; i < connections; i++) {
+                CompletableFuture<HttpTransport.Response> call = engine.executeAsync(head);
+                call.whenComplete((response, error) -> done.countDown());
+                calls.add(call);
+            }
+        }
+
+        try {
+            if (!done.await(WARM_UP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                calls.forEach(call -> call.cancel(true));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            calls.forEach(call -> call.cancel(true));
+        }
+    }
+
+    private void primeCodecs() {
+        // Through the codec, whose binder need not be this client's Gson
+        JsonObject empty = new JsonObject();
+        for (Class<?> type : ModelTypes.REQUESTS) {
+            codec.bind(empty, type);
+        }
+        for (Class<?> type : ModelTypes.RESPONSES) {
+            codec.bind(empty, type);
+        }
+
+        String secret = "whsec_warm_up";
+        String event = "{\"id\":\"evt_warm_up\",\"type\":\"message.delivered\"," +
+                "\"data\":{\"message_id\":\"msg_warm_up\",\"status\":\"delivered\"}," +
+                "\"created_at\":\"2025-01-01T00:00:00.000Z\",\"api_version\":\"2024-01-01\"}";
+        String message = "{\"id\":\"msg_warm_up\",\"to\":\"+15550000000\",\"text\":\"warm-up\"," +
+                "\"status\":\"queued\",\"credits_used\":1,\"created_at\":\"2025-01-01T00:00:00.000Z\"}";
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            codec.encode(SendMessageRequest.builder().to("+15550000000").text("warm-up").build());
+            codec.bind(codec.decode(message), Message.class);
+            try {
+                String signature = Webhooks.generateSignature(event, secret);
+                Webhooks.parseEvent(event, signature, secret);
+                Webhooks.parseEventLazy(event, signature, secret).getData();
+            } catch (Webhooks.WebhookSignatureException e) {
+                // Cannot happen with a payload signed just above
+            }
+        }
+    }
+
+    /**
+     * Get the transport this client sends requests through.
+     */
+    public SendlyTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * HTTP engine and concurrency limits for one bulkhead.
+     */
+    private static final class Lane {
+        final HttpTransport http;
+        final HttpTransport pooled;
+        final Semaphore limit;
+        final AdaptiveConcurrencyLimiter adaptive;
+
+        Lane(HttpTransport http, HttpTransport pooled, Semaphore limit, AdaptiveConcurrencyLimiter adaptive) {
+            this.http = http;
+            this.pooled = pooled;
+            this.limit = limit;
+            this.adaptive = adaptive;
+        }
+    }
+
+    /**
+     * Result of one copy of a hedged GET.
+     */
+    private static final class HedgeOutcome {
+        final int attempt;
+        final int code;
+        final String body;
+        final String retryAfter;
+        final String etag;
+        final Throwable error;
+
+        HedgeOutcome(int attempt, int code, String body, String retryAfter, String etag, Throwable error) {
+            this.attempt = attempt;
+            this.code = code;
+            this.body = body;
+            this.retryAfter = retryAfter;
+            this.etag = etag;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Parsed response body with the metadata needed for caching, or the error status
+     * and message of a failed call.
+     */
+    private static final class ApiResponse {
+        final JsonObject body;
+        final String etag;
+        final boolean notModified;
+        /** HTTP status of a failed call, 0 if it succeeded, or {@link #CIRCUIT_OPEN}. */
+        final int status;
+        /** Error message, or the endpoint group of a call rejected by its circuit breaker. */
+        final String message;
+        final int retryAfter;
+
+        ApiResponse(JsonObject body, String etag, boolean notModified) {
+            this(body, etag, notModified, 0, null, 0);
+        }
+
+        ApiResponse(int status, String message, int retryAfter) {
+            this(null, null, false, status, message, retryAfter);
+        }
+
+        private ApiResponse(JsonObject body, String etag, boolean notModified, int status, String message,
+                            int retryAfter) {
+            this.body = body;
+            this.etag = etag;
+            this.notModified = notModified;
+            this.status = status;
+            this.message = message;
+            this.retryAfter = retryAfter;
+        }
+
+        boolean failed() {
+            return status != 0;
+        }
+
+        SendlyException toException(boolean writableStackTrace) {
+            return switch (status) {
+                case 401 -> new AuthenticationException(message, writableStackTrace);
+                case 402 -> new InsufficientCreditsException(message, writableStackTrace);
+                case 404 -> new NotFoundException(message, writableStackTrace);
+                case 429 -> new RateLimitException(message, retryAfter, writableStackTrace);
+                case 400, 422 -> new ValidationException(message, writableStackTrace);
+                case CIRCUIT_OPEN -> new CircuitOpenException("Circuit breaker for " + message + " is open", message,
+                        writableStackTrace);
+                default -> new SendlyException(message, status, null, writableStackTrace);
+            };
+        }
+    }
+
+    /**
+     * A call that failed inside the client without reaching the API, because it timed out
+     * waiting for a concurrency slot or was interrupted. Still a {@link NetworkException}
+     * to callers, but not counted against the endpoint by circuit breakers.
+     */
+    private static final class LocalFailureException extends NetworkException {
+        LocalFailureException(String message) {
+            super(message, null, false);
+        }
+    }
+
+    /**
+     * Sends a typed request with one HTTP method.
+     */
+    private interface Verb {
+        JsonObject call(Sendly client, String path, Object body) throws SendlyException;
+    }
+
+    /**
+     * Counts the calls in flight so the client can shut down gracefully. Shared by a client
+     * and its views.
+     */
+    private static final class Lifecycle {
+        final AtomicInteger inFlight = new AtomicInteger();
+        /** Released when the client stops accepting calls. */
+        final CountDownLatch shutdown = new CountDownLatch(1);
+        /** Released when the calls still running are cancelled. */
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final SendlyTransport ownedTransport;
+
+        Lifecycle(SendlyTransport ownedTransport) {
+            this.ownedTransport = ownedTransport;
+        }
+
+        boolean enter() {
+            inFlight.incrementAndGet();
+            if (shutdown.getCount() == 0) {
+                exit();
+                return false;
+            }
+            return true;
+        }
+
+        void exit() {
+            if (inFlight.decrementAndGet() == 0 && shutdown.getCount() == 0) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        /**
+         * Wait before a retry, cut short if the client terminates.
+         *
+         * @return False if the client terminated
+         */
+        boolean pause(long millis) throws InterruptedException {
+            return !terminated.await(millis, TimeUnit.MILLISECONDS);
+        }
+
+        synchronized boolean awaitIdle(long nanos) throws InterruptedException {
+            long end = System.nanoTime() + nanos;
+            while (inFlight.get() > 0) {
+                long remaining = end - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Maps requests matching a path pattern to a setting, such as an endpoint policy.
+     * <p>
+     * Patterns are an optional HTTP method followed by a path, where {@code *} matches
+     * one segment and a trailing {@code **} matches any remaining segments.
+     * </p>
+     */
+    private static final class Route<T> {
+        final String method;
+        final String[] segments;
+        final T target;
+
+        private Route(String method, String[] segments, T target) {
+            this.method = method;
+            this.segments = segments;
+            this.target = target;
+        }
+
+        static <T> Route<T> parse(String pattern, T target) {
+            String trimmed = pattern.trim();
+            String method = null;
+            int space = trimmed.indexOf(' ');
+            if (space > 0) {
+                method = trimmed.substring(0, space).toUpperCase();
+                trimmed = trimmed.substring(space + 1).trim();
+            }
+            return new Route<>(method, split(trimmed), target);
+        }
+
+        boolean matches(String requestMethod, String path) {
+            if (method != null && !method.equals(requestMethod)) {
+                return false;
+            }
+            int query = path.indexOf('?');
+            String[] parts = split(query >= 0 ? path.substring(0, query) : path);
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals("**") && i == segments.length - 1) {
+                    return true;
+                }
+                if (i >= parts.length || !(segments[i].equals("*") || segments[i].equals(parts[i]))) {
+                    return false;
+                }
+            }
+            return parts.length == segments.length;
+        }
+
+        private static String[] split(String path) {
+            String stripped = path.startsWith("/") ? path.substring(1) : path;
+            return stripped.isEmpty() ? new String[0] : stripped.split("/");
+        }
+    }
+
     /**
      * Builder for Sendly client configuration.
      */
@@ -369,6 +1645,79 @@ public class Sendly {
         private Duration readTimeout = DEFAULT_TIMEOUT;
         private Duration writeTimeout = DEFAULT_TIMEOUT;
         private int maxRetries = 3;
+        private boolean customTimeouts;
+        private SendlyTransport sharedTransport;
+        private Integer maxConcurrentRequests;
+        private boolean retryOnRateLimit = true;
+        private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+        private final List<Route<EndpointPolicy>> endpoints = new ArrayList<>();
+        private ResponseCache responseCache;
+        private AdaptiveConcurrencyLimiter.Builder adaptiveConcurrency;
+        private HedgingPolicy hedging;
+        private CircuitBreaker.Builder circuitBreaker;
+        private CircuitBreaker.Fallback circuitBreakerFallback;
+        private boolean coalesceReads;
+        private int warmUpConnections;
+        private HttpTransport.Factory httpTransport;
+        private JsonCodec codec;
+        private HttpProtocol protocol = HttpProtocol.HTTP_2;
+        private int maxConcurrentStreams;
+        private int compressionThreshold;
+        private Duration callTimeout;
+
+        /**
+         * Copy this configuration, so a builder passed in by a caller is never changed.
+         */
+        Builder copy() {
+            Builder copy = new Builder();
+            copy.baseUrl = baseUrl;
+            copy.connectTimeout = connectTimeout;
+            copy.readTimeout = readTimeout;
+            copy.writeTimeout = writeTimeout;
+            copy.maxRetries = maxRetries;
+            copy.customTimeouts = customTimeouts;
+            copy.sharedTransport = sharedTransport;
+            copy.maxConcurrentRequests = maxConcurrentRequests;
+            copy.retryOnRateLimit = retryOnRateLimit;
+            copy.bulkheads.putAll(bulkheads);
+            copy.endpoints.addAll(endpoints);
+            copy.responseCache = responseCache;
+            copy.adaptiveConcurrency = adaptiveConcurrency;
+            copy.hedging = hedging;
+            copy.circuitBreaker = circuitBreaker;
+            copy.circuitBreakerFallback = circuitBreakerFallback;
+            copy.coalesceReads = coalesceReads;
+            copy.warmUpConnections = warmUpConnections;
+            copy.httpTransport = httpTransport;
+            copy.codec = codec;
+            copy.protocol = protocol;
+            copy.maxConcurrentStreams = maxConcurrentStreams;
+            copy.compressionThreshold = compressionThreshold;
+            copy.callTimeout = callTimeout;
+            return copy;
+        }
+
+        boolean hasSharedTransport() {
+            return sharedTransport != null;
+        }
+
+        /**
+         * Build a transport from this configuration's timeouts, engine, codec and protocol.
+         */
+        SendlyTransport newTransport() {
+            SendlyTransport.Builder transportBuilder = SendlyTransport.builder()
+                    .connectTimeout(connectTimeout)
+                    .readTimeout(readTimeout)
+                    .writeTimeout(writeTimeout)
+                    .httpTransport(httpTransport)
+                    .codec(codec)
+                    .protocol(protocol);
+            if (maxConcurrentStreams > 0) {
+                // A private transport only calls the API host, so the per-host limit is the whole limit
+                transportBuilder.maxRequests(maxConcurrentStreams).maxConcurrentStreams(maxConcurrentStreams);
+            }
+            return transportBuilder.build();
+        }
 
         public Builder baseUrl(String baseUrl) {
             this.baseUrl = baseUrl;
@@ -377,22 +1726,26 @@ public class Sendly {
 
         public Builder connectTimeout(Duration timeout) {
             this.connectTimeout = timeout;
+            this.customTimeouts = true;
             return this;
         }
 
         public Builder readTimeout(Duration timeout) {
             this.readTimeout = timeout;
+            this.customTimeouts = true;
             return this;
         }
 
         public Builder writeTimeout(Duration timeout) {
             this.writeTimeout = timeout;
+            this.customTimeouts = true;
             return this;
         }
 
         public Builder timeout(Duration timeout) {
             this.readTimeout = timeout;
             this.writeTimeout = timeout;
+            this.customTimeouts = true;
             return this;
         }
 
@@ -400,5 +1753,250 @@ public class Sendly {
             this.maxRetries = maxRetries;
             return this;
         }
+
+        /**
+         * Deadline for each call, covering every attempt, retry backoff and rate-limit
+         * wait. A call that cannot finish in time fails fast with
+         * {@link DeadlineExceededException} instead of sleeping past it. Override per call
+         * with {@link Sendly#withCallTimeout(Duration)}. Default none.
+         */
+        public Builder callTimeout(Duration timeout) {
+            this.callTimeout = requireCallTimeout(timeout);
+            return this;
+        }
+
+        /**
+         * Whether to wait and retry when the API answers 429. Disable to get the
+         * {@link RateLimitException} immediately, for example to fail over to another
+         * API key. Default true.
+         */
+        public Builder retryOnRateLimit(boolean retryOnRateLimit) {
+            this.retryOnRateLimit = retryOnRateLimit;
+            return this;
+        }
+
+        /**
+         * Send requests through a transport shared with other clients instead of a
+         * private one. Timeouts set on this builder still apply to this client only.
+         *
+         * @param transport Shared connection pool, dispatcher and codec
+         */
+        public Builder sharedTransport(SendlyTransport transport) {
+            this.sharedTransport = transport;
+            return this;
+        }
+
+        /**
+         * Choose the HTTP engine for this client's private transport, e.g.
+         * {@link JdkHttpTransport#FACTORY}. Ignored with {@link #sharedTransport}, whose
+         * engine is set on {@link SendlyTransport.Builder}. Default OkHttp.
+         */
+        public Builder httpTransport(HttpTransport.Factory factory) {
+            this.httpTransport = factory;
+            return this;
+        }
+
+        /**
+         * Choose the JSON codec for this client's private transport, e.g.
+         * {@code new JacksonCodec()}. Ignored with {@link #sharedTransport}, whose codec is
+         * set on {@link SendlyTransport.Builder}. Default Gson.
+         */
+        public Builder codec(JsonCodec codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * HTTP protocol for this client's private transport, e.g.
+         * {@link HttpProtocol#H2_PRIOR_KNOWLEDGE} for a local gateway at an {@code http://}
+         * base URL; the client rejects prior knowledge with an {@code https://} one. Ignored
+         * with {@link #sharedTransport}. Default {@link HttpProtocol#HTTP_2}.
+         */
+        public Builder protocol(HttpProtocol protocol) {
+            if (protocol == null) {
+                throw new IllegalArgumentException("protocol must not be null");
+            }
+            this.protocol = protocol;
+            return this;
+        }
+
+        /**
+         * Maximum number of asynchronous calls, which are hedged reads and warm-up
+         * requests, that this client's private transport runs at once; over HTTP/2 these
+         * are streams on one connection. Every other call, including {@code getAll}
+         * lookups and chunked batches, is synchronous and not limited by it; cap those
+         * with {@link #maxConcurrentRequests(int)}. Ignored with {@link #sharedTransport}.
+         * Default 64.
+         */
+        public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+            if (maxConcurrentStreams < 1) {
+                throw new IllegalArgumentException("maxConcurrentStreams must be at least 1");
+            }
+            this.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+
+        /**
+         * Gzip request bodies larger than {@link #DEFAULT_COMPRESSION_THRESHOLD} bytes.
+         *
+         * @see #compressRequests(int)
+         */
+        public Builder compressRequests() {
+            return compressRequests(DEFAULT_COMPRESSION_THRESHOLD);
+        }
+
+        /**
+         * Gzip request bodies larger than a threshold, such as big batches, and send them
+         * with {@code Content-Encoding: gzip}. The body is compressed as it is encoded. If
+         * the API answers 415 Unsupported Media Type, the request is resent uncompressed and
+         * compression is turned off for this client. Off by default.
+         *
+         * @param thresholdBytes Largest body sent uncompressed; 0 turns compression off
+         */
+        public Builder compressRequests(int thresholdBytes) {
+            if (thresholdBytes < 0) {
+                throw new IllegalArgumentException("thresholdBytes must not be negative");
+            }
+            this.compressionThreshold = thresholdBytes;
+            return this;
+        }
+
+        /**
+         * Define a bulkhead or replace one of the built-in ones ({@link Bulkhead#DEFAULT},
+         * {@link Bulkhead#VERIFY}, {@link Bulkhead#BULK}).
+         */
+        public Builder bulkhead(Bulkhead bulkhead) {
+            this.bulkheads.put(bulkhead.getName(), bulkhead);
+            return this;
+        }
+
+        /**
+         * Send requests matching a pattern through a bulkhead. Patterns are an optional
+         * HTTP method and a path, such as {@code "/contacts/**"} or
+         * {@code "POST /messages/schedule"}; routes added here are checked before
+         * the built-in ones.
+         *
+         * @param pattern  Request pattern
+         * @param bulkhead Bulkhead name
+         */
+        public Builder route(String pattern, String bulkhead) {
+            this.endpoints.add(Route.parse(pattern, EndpointPolicy.builder().bulkhead(bulkhead).build()));
+            return this;
+        }
+
+        /**
+         * Apply a policy to requests matching a pattern: their deadline, per-attempt
+         * timeout, retry count, idempotency, cache TTL and bulkhead. Patterns are an
+         * optional HTTP method and a path, as for {@link #route(String, String)}. Each
+         * setting is taken from the first matching policy that sets it, checking policies
+         * added here, in order, before the built-in ones; settings no policy sets fall
+         * back to this builder's.
+         *
+         * @param pattern Request pattern, e.g. {@code "POST /messages/batch"}
+         * @param policy  Settings for matching requests
+         */
+        public Builder endpoint(String pattern, EndpointPolicy policy) {
+            this.endpoints.add(Route.parse(pattern, policy));
+            return this;
+        }
+
+        /**
+         * Let each bulkhead find its own concurrency limit, growing it while latency is
+         * flat and cutting it on 429s, timeouts, 5xx responses and latency growth.
+         * Fixed caps from {@link #maxConcurrentRequests(int)} and bulkheads still apply
+         * as an upper bound. Disabled by default.
+         *
+         * @param limiter Settings used to build one limiter per bulkhead
+         */
+        public Builder adaptiveConcurrency(AdaptiveConcurrencyLimiter.Builder limiter) {
+            this.adaptiveConcurrency = limiter;
+            return this;
+        }
+
+        /**
+         * Send a second copy of GET requests that are slower than the policy's rolling
+         * percentile, using whichever answers first. Disabled by default.
+         */
+        public Builder hedging(HedgingPolicy hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        /**
+         * Fail calls fast while an endpoint group keeps failing, with one circuit breaker
+         * per group built from the given settings. Rejected calls throw
+         * {@link CircuitOpenException} without being sent. Disabled by default.
+         */
+        public Builder circuitBreaker(CircuitBreaker.Builder circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        /**
+         * Hand POST and PATCH calls rejected by an open circuit to a fallback, such as an
+         * outbox that sends them later, instead of failing them.
+         */
+        public Builder circuitBreakerFallback(CircuitBreaker.Fallback fallback) {
+            this.circuitBreakerFallback = fallback;
+            return this;
+        }
+
+        /**
+         * Cache GET responses of read-mostly endpoints: templates (5 minutes), webhook
+         * event types (1 hour), the account, contact lists and campaign previews
+         * (1 minute each). Expired entries with an ETag are revalidated with
+         * {@code If-None-Match}. A POST, PATCH or DELETE through this client drops cached
+         * reads under the same top-level path, e.g. any {@code /templates} mutation
+         * clears cached templates. Disabled by default.
+         *
+         * @param cache Where responses are stored, e.g. {@link LruResponseCache}
+         */
+        public Builder responseCache(ResponseCache cache) {
+            this.responseCache = cache;
+            return this;
+        }
+
+        /**
+         * Cache GETs matching a pattern for the given time, or not at all for a zero TTL.
+         * Rules added here are checked before the built-in ones. Only used with
+         * {@link #responseCache(ResponseCache)}.
+         *
+         * @param pattern Path pattern, e.g. {@code "/contacts/*"}
+         * @param ttl     How long a response stays fresh
+         */
+        public Builder cacheTtl(String pattern, Duration ttl) {
+            this.endpoints.add(Route.parse(pattern, cachedFor(ttl.isNegative() ? Duration.ZERO : ttl)));
+            return this;
+        }
+
+        /**
+         * Warm the client up in the background as soon as it is built, opening the given
+         * number of connections per bulkhead pool. See {@link Sendly#warmUp(int)}; call
+         * that directly instead to block until the client is warm. Disabled by default.
+         */
+        public Builder warmUpOnStart(int connections) {
+            this.warmUpConnections = Math.max(connections, 0);
+            return this;
+        }
+
+        /**
+         * Whether concurrent identical GETs, made with the same API key through the same
+         * bulkhead and call timeout, share one request. Each caller that joins a request
+         * in flight gets its own copy of the parsed response. Default false.
+         */
+        public Builder coalesceReads(boolean coalesceReads) {
+            this.coalesceReads = coalesceReads;
+            return this;
+        }
+
+        /**
+         * Cap the number of requests this client runs at once, across all its bulkheads;
+         * further calls wait for a slot. Overrides the transport's per-client default;
+         * 0 means uncapped.
+         */
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = Math.max(maxConcurrentRequests, 0);
+            return this;
+        }
     }
 }
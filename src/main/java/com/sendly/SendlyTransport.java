@@ -0,0 +1,288 @@
+package com.sendly;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.sendly.models.ModelAdapters;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP connection pool, dispatcher and JSON codec that can be shared by many
+ * {@link Sendly} clients.
+ * <p>
+ * Every client normally owns a private transport. Services holding one client per
+ * customer API key should build a single transport and pass it to each client, so
+ * all of them reuse the same connections to the Sendly API:
+ * </p>
+ *
+ * <pre>{@code
+ * SendlyTransport transport = SendlyTransport.builder()
+ *     .maxIdleConnections(50)
+ *     .maxConcurrentRequestsPerClient(16)
+ *     .build();
+ *
+ * Sendly tenantA = new Sendly(keyA, new Sendly.Builder().sharedTransport(transport));
+ * Sendly tenantB = new Sendly(keyB, new Sendly.Builder().sharedTransport(transport));
+ * }</pre>
+ *
+ * The per-client concurrency cap stops one busy tenant from occupying every pooled
+ * connection; it can be overridden per client with
+ * {@link Sendly.Builder#maxConcurrentRequests(int)}. Each isolated {@link Bulkhead}
+ * gets its own pool and dispatcher, shared by every client using the transport.
+ * Requests are carried by OkHttp unless another {@link HttpTransport} engine is chosen
+ * with {@link Builder#httpTransport(HttpTransport.Factory)}, and JSON is handled by Gson
+ * unless another {@link JsonCodec} is chosen with {@link Builder#codec(JsonCodec)}.
+ * A shared transport outlives its clients: close it once they are all done.
+ */
+public class SendlyTransport implements AutoCloseable {
+    private final HttpTransport.Factory factory;
+    private final HttpTransport.Config config;
+    private final HttpTransport httpTransport;
+    private final Gson gson;
+    private final JsonCodec codec;
+    private final int maxConcurrentRequestsPerClient;
+    private final Map<String, HttpTransport> bulkheadTransports = new ConcurrentHashMap<>();
+
+    private SendlyTransport(Builder builder) {
+        // Resolved lazily so OkHttp is never loaded when another engine is chosen
+        this.factory = builder.factory != null ? builder.factory : OkHttpTransport.FACTORY;
+        this.config = new HttpTransport.Config(builder.connectTimeout, builder.readTimeout, builder.writeTimeout,
+                builder.maxIdleConnections, builder.keepAlive, builder.maxRequests, builder.protocol,
+                builder.maxConcurrentStreams > 0 ? builder.maxConcurrentStreams : builder.maxRequests);
+        this.httpTransport = factory.create(config);
+
+        this.gson = newGson();
+        this.codec = builder.codec != null ? builder.codec : new GsonCodec(gson);
+
+        this.maxConcurrentRequestsPerClient = builder.maxConcurrentRequestsPerClient;
+    }
+
+    static Gson newGson() {
+        return new GsonBuilder()
+                .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+                .registerTypeAdapterFactory(ModelAdapters.FACTORY)
+                .create();
+    }
+
+    /**
+     * Create a builder for SendlyTransport.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the HTTP engine for the default pool.
+     */
+    public HttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    /**
+     * Get the HTTP engine for a bulkhead: the shared one, or for an isolated bulkhead
+     * one with its own connection pool and dispatcher, created on first use.
+     */
+    HttpTransport getHttpTransport(Bulkhead bulkhead) {
+        if (!bulkhead.isIsolatedConnections() || Bulkhead.DEFAULT.equals(bulkhead.getName())) {
+            return httpTransport;
+        }
+        return bulkheadTransports.computeIfAbsent(bulkhead.getName(), name -> factory.create(config));
+    }
+
+    /**
+     * Get the HTTP protocol requested from the engines.
+     */
+    public HttpProtocol getProtocol() {
+        return config.getProtocol();
+    }
+
+    /**
+     * Get the shared Gson instance.
+     */
+    public Gson getGson() {
+        return gson;
+    }
+
+    /**
+     * Get the codec that encodes request bodies and parses responses.
+     */
+    public JsonCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Get the default cap on concurrent requests for each client using this transport.
+     *
+     * @return The cap, or 0 if clients are not capped
+     */
+    public int getMaxConcurrentRequestsPerClient() {
+        return maxConcurrentRequestsPerClient;
+    }
+
+    /**
+     * Get the number of pooled connections, idle or in use.
+     *
+     * @return The count, or -1 if the engine does not expose its pool
+     */
+    public int getConnectionCount() {
+        return httpTransport.getConnectionCount();
+    }
+
+    /**
+     * Get the number of pooled connections, idle or in use, for one bulkhead.
+     *
+     * @param bulkhead Bulkhead name
+     * @return The count, or -1 if the engine does not expose its pool
+     */
+    public int getConnectionCount(String bulkhead) {
+        HttpTransport transport = Bulkhead.DEFAULT.equals(bulkhead) ? httpTransport : bulkheadTransports.get(bulkhead);
+        return transport != null ? transport.getConnectionCount() : 0;
+    }
+
+    /**
+     * Get the number of idle pooled connections.
+     *
+     * @return The count, or -1 if the engine does not expose its pool
+     */
+    public int getIdleConnectionCount() {
+        return httpTransport.getIdleConnectionCount();
+    }
+
+    /**
+     * Cancel the calls still running and release every pool's connections and threads.
+     * A transport shared by several clients should only be closed once all of them are
+     * done; a client's own transport is closed by {@link Sendly#shutdown(Duration)}.
+     */
+    @Override
+    public void close() {
+        httpTransport.close();
+        bulkheadTransports.values().forEach(HttpTransport::close);
+    }
+
+    /**
+     * Builder for SendlyTransport.
+     */
+    public static class Builder {
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Sendly.DEFAULT_TIMEOUT;
+        private Duration writeTimeout = Sendly.DEFAULT_TIMEOUT;
+        private int maxIdleConnections = 5;
+        private Duration keepAlive = Duration.ofMinutes(5);
+        private int maxRequests = 64;
+        private int maxConcurrentRequestsPerClient;
+        private HttpProtocol protocol = HttpProtocol.HTTP_2;
+        private int maxConcurrentStreams;
+        private HttpTransport.Factory factory;
+        private JsonCodec codec;
+
+        public Builder connectTimeout(Duration timeout) {
+            this.connectTimeout = timeout;
+            return this;
+        }
+
+        public Builder readTimeout(Duration timeout) {
+            this.readTimeout = timeout;
+            return this;
+        }
+
+        public Builder writeTimeout(Duration timeout) {
+            this.writeTimeout = timeout;
+            return this;
+        }
+
+        public Builder timeout(Duration timeout) {
+            this.readTimeout = timeout;
+            this.writeTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Maximum number of idle connections kept in the pool. Default 5.
+         */
+        public Builder maxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+            return this;
+        }
+
+        /**
+         * How long an idle connection is kept before it is closed. Default 5 minutes.
+         */
+        public Builder keepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Maximum number of asynchronous calls the dispatcher runs at once. Default 64.
+         */
+        public Builder maxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+            return this;
+        }
+
+        /**
+         * Default cap on concurrent requests for each client using this transport;
+         * 0 means uncapped. Default 0.
+         */
+        public Builder maxConcurrentRequestsPerClient(int maxConcurrentRequestsPerClient) {
+            this.maxConcurrentRequestsPerClient = Math.max(maxConcurrentRequestsPerClient, 0);
+            return this;
+        }
+
+        /**
+         * HTTP protocol to speak. {@link HttpProtocol#H2_PRIOR_KNOWLEDGE} suits a local
+         * gateway reached over {@code http://}. Default {@link HttpProtocol#HTTP_2}, with
+         * fallback to HTTP/1.1.
+         */
+        public Builder protocol(HttpProtocol protocol) {
+            if (protocol == null) {
+                throw new IllegalArgumentException("protocol must not be null");
+            }
+            this.protocol = protocol;
+            return this;
+        }
+
+        /**
+         * Maximum number of asynchronous calls, which are hedged reads and warm-up
+         * requests, to one host at once; over HTTP/2 these are concurrent streams on one
+         * connection. Synchronous calls, including {@code getAll} lookups and chunked
+         * batches, are not limited by it; cap those per client with
+         * {@link Sendly.Builder#maxConcurrentRequests(int)}. Must not exceed
+         * {@link #maxRequests(int)}, its default.
+         */
+        public Builder maxConcurrentStreams(int maxConcurrentStreams) {
+            if (maxConcurrentStreams < 1) {
+                throw new IllegalArgumentException("maxConcurrentStreams must be at least 1");
+            }
+            this.maxConcurrentStreams = maxConcurrentStreams;
+            return this;
+        }
+
+        /**
+         * Choose the HTTP engine, e.g. {@link JdkHttpTransport#FACTORY} to send requests
+         * with {@code java.net.http.HttpClient}. Default {@link OkHttpTransport#FACTORY}.
+         */
+        public Builder httpTransport(HttpTransport.Factory factory) {
+            this.factory = factory;
+            return this;
+        }
+
+        /**
+         * Choose the JSON codec, e.g. {@code new JacksonCodec()}. Default {@link GsonCodec}
+         * on {@link #getGson()}.
+         */
+        public Builder codec(JsonCodec codec) {
+            this.codec = codec;
+            return this;
+        }
+
+        public SendlyTransport build() {
+            if (maxConcurrentStreams > maxRequests) {
+                throw new IllegalArgumentException("maxConcurrentStreams must not exceed maxRequests");
+            }
+            return new SendlyTransport(this);
+        }
+    }
+}
@@ -0,0 +1,516 @@
+package com.sendly;
+
+import com.sendly.exceptions.AuthenticationException;
+import com.sendly.exceptions.NetworkException;
+import com.sendly.exceptions.RateLimitException;
+import com.sendly.exceptions.SendlyException;
+import com.sendly.exceptions.ValidationException;
+import com.sendly.models.BatchMessageItem;
+import com.sendly.models.BatchMessageResponse;
+import com.sendly.models.Message;
+import com.sendly.models.SendBatchRequest;
+import com.sendly.models.SendMessageRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Spreads requests across several API keys for the same account.
+ * <p>
+ * Each key gets its own {@link Sendly} client; all of them share one
+ * {@link SendlyTransport}. Requests go to a key chosen round-robin or by fewest
+ * requests in flight. When a key answers 429 it is benched until its
+ * {@code Retry-After} expires and the request is re-sent on another key, so
+ * throughput grows with the number of keys instead of stalling on one key's limit.
+ * </p>
+ *
+ * <pre>{@code
+ * ShardedSendly sharded = new ShardedSendly(List.of(key1, key2, key3),
+ *     new ShardedSendly.Builder().strategy(ShardedSendly.Strategy.LEAST_OUTSTANDING));
+ *
+ * Message message = sharded.send("+15551234567", "Hello!");
+ * ShardedSendly.BatchResult result = sharded.sendBatch(bigBatch, 100);
+ * Credits credits = sharded.execute(client -> client.account().getCredits());
+ * }</pre>
+ *
+ * Close the sharded client once done with it to shut down every per-key client and
+ * release the transport it created.
+ */
+public class ShardedSendly implements AutoCloseable {
+    private static final long DEFAULT_BENCH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * How a key is chosen for each request.
+     */
+    public enum Strategy {
+        /** Rotate through the keys that are not rate limited. */
+        ROUND_ROBIN,
+        /** Pick the key with the fewest requests in flight. */
+        LEAST_OUTSTANDING
+    }
+
+    private final List<Shard> shards;
+    private final Strategy strategy;
+    private final int defaultChunkSize;
+    private final long maxWaitForKeyNanos;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final SendlyTransport ownedTransport;
+    /** Helps the calling thread send batch chunks; at most one thread per key besides it. */
+    private final ThreadPoolExecutor batchExecutor;
+
+    /**
+     * Create a sharded client with default settings.
+     *
+     * @param apiKeys API keys for the same account
+     */
+    public ShardedSendly(List<String> apiKeys) {
+        this(apiKeys, new Builder());
+    }
+
+    /**
+     * Create a sharded client with custom configuration.
+     *
+     * @param apiKeys API keys for the same account
+     * @param builder Configuration builder
+     */
+    public ShardedSendly(List<String> apiKeys, Builder builder) {
+        if (apiKeys == null || apiKeys.isEmpty()) {
+            throw new AuthenticationException("At least one API key is required");
+        }
+
+        Sendly.Builder clientBuilder = builder.clientBuilder != null ? builder.clientBuilder.copy() : new Sendly.Builder();
+        if (!clientBuilder.hasSharedTransport()) {
+            this.ownedTransport = clientBuilder.newTransport();
+            clientBuilder.sharedTransport(ownedTransport);
+        } else {
+            this.ownedTransport = null;
+        }
+        // A 429 should move the request to another key, not sleep on this one
+        clientBuilder.retryOnRateLimit(false);
+
+        List<Shard> built = new ArrayList<>(apiKeys.size());
+        for (String apiKey : apiKeys) {
+            built.add(new Shard(new Sendly(apiKey, clientBuilder), apiKey));
+        }
+        this.shards = Collections.unmodifiableList(built);
+        this.strategy = builder.strategy;
+        this.defaultChunkSize = builder.chunkSize;
+        this.maxWaitForKeyNanos = builder.maxWaitForKey.toNanos();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        int helpers = Math.max(shards.size() - 1, 1);
+        this.batchExecutor = new ThreadPoolExecutor(helpers, helpers, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), task -> {
+                    Thread thread = new Thread(task, "sendly-shard-batch-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        batchExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Run a call on the key with the most headroom, failing over to another key on 429.
+     *
+     * @param call Call to run against a single-key client
+     * @return The call's result
+     * @throws RateLimitException if every key is rate limited for longer than {@code maxWaitForKey}
+     * @throws SendlyException    if the call fails for another reason
+     */
+    public <T> T execute(Function<Sendly, T> call) throws SendlyException {
+        RateLimitException lastRateLimit = null;
+
+        for (int attempt = 0; attempt <= shards.size(); attempt++) {
+            Shard shard = acquire();
+            try {
+                return call.apply(shard.client);
+            } catch (RateLimitException e) {
+                shard.bench(e.getRetryAfter());
+                lastRateLimit = e;
+            } finally {
+                shard.outstanding.decrementAndGet();
+            }
+        }
+
+        throw lastRateLimit;
+    }
+
+    /**
+     * Send an SMS message on the least-loaded key.
+     *
+     * @see com.sendly.resources.Messages#send(String, String)
+     */
+    public Message send(String to, String text) throws SendlyException {
+        return execute(client -> client.messages().send(to, text));
+    }
+
+    /**
+     * Send an SMS message on the least-loaded key.
+     *
+     * @see com.sendly.resources.Messages#send(SendMessageRequest)
+     */
+    public Message send(SendMessageRequest request) throws SendlyException {
+        return execute(client -> client.messages().send(request));
+    }
+
+    /**
+     * Split a batch into chunks of the default size and send them in parallel across keys.
+     *
+     * @see #sendBatch(SendBatchRequest, int)
+     */
+    public BatchResult sendBatch(SendBatchRequest request) throws SendlyException {
+        return sendBatch(request, defaultChunkSize);
+    }
+
+    /**
+     * Split a batch into chunks and send them in parallel, one chunk per key at a time,
+     * each chunk going to whichever key has headroom.
+     * <p>
+     * A chunk that fails does not stop the others; it is reported in
+     * {@link BatchResult#getFailures()} together with the exact messages it held,
+     * so only those need to be resent.
+     * </p>
+     * <p>
+     * The calling thread sends chunks itself, helped by a pool of at most one daemon
+     * thread per extra key that is shared across calls and stopped by {@link #close()}.
+     * </p>
+     *
+     * @param request   Batch send request
+     * @param chunkSize Maximum number of messages per API call
+     * @return Responses for chunks that were accepted and errors for those that were not
+     * @throws ValidationException if the request has no messages or a null message
+     */
+    public BatchResult sendBatch(SendBatchRequest request, int chunkSize) throws SendlyException {
+        if (request == null || request.getMessages() == null || request.getMessages().isEmpty()) {
+            throw new ValidationException("At least one message is required");
+        }
+        if (request.getMessages().contains(null)) {
+            throw new ValidationException("Batch message is required");
+        }
+
+        List<BatchMessageItem> items = request.getMessages();
+        int size = Math.max(chunkSize, 1);
+        List<SendBatchRequest> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(new SendBatchRequest(
+                    new ArrayList<>(items.subList(from, Math.min(from + size, items.size()))),
+                    request.getFrom(), request.getMessageType()));
+        }
+
+        BatchMessageResponse[] responses = new BatchMessageResponse[chunks.size()];
+        ConcurrentHashMap<Integer, SendlyException> errors = new ConcurrentHashMap<>();
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < chunks.size()) {
+                SendBatchRequest chunk = chunks.get(index);
+                try {
+                    responses[index] = execute(client -> client.messages().sendBatch(chunk));
+                } catch (SendlyException e) {
+                    errors.put(index, e);
+                } catch (RuntimeException e) {
+                    SendlyException error = new SendlyException("Chunk failed: " + e.getMessage());
+                    error.initCause(e);
+                    errors.put(index, error);
+                }
+            }
+        };
+
+        // The calling thread is one of the workers; the rest run on the shared pool
+        int helpers = Math.min(shards.size(), chunks.size()) - 1;
+        CountDownLatch helpersDone = new CountDownLatch(helpers);
+        List<Runnable> tasks = new ArrayList<>(helpers);
+        for (int i = 0; i < helpers; i++) {
+            Runnable task = () -> {
+                try {
+                    worker.run();
+                } finally {
+                    helpersDone.countDown();
+                }
+            };
+            try {
+                batchExecutor.execute(task);
+                tasks.add(task);
+            } catch (RejectedExecutionException e) {
+                helpersDone.countDown(); // Shut down: the calling thread sends every chunk
+            }
+        }
+        worker.run();
+
+        // Helpers still queued behind other batches are not needed any more
+        for (Runnable task : tasks) {
+            if (batchExecutor.remove(task)) {
+                helpersDone.countDown();
+            }
+        }
+        try {
+            helpersDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            next.set(chunks.size());
+            throw new NetworkException("Request interrupted");
+        }
+
+        List<BatchMessageResponse> accepted = new ArrayList<>();
+        List<ChunkFailure> failures = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            if (responses[i] != null) {
+                accepted.add(responses[i]);
+            } else {
+                failures.add(new ChunkFailure(chunks.get(i), errors.get(i)));
+            }
+        }
+        return new BatchResult(accepted, failures);
+    }
+
+    /**
+     * Shut down every per-key client, waiting up to {@link Sendly#DEFAULT_SHUTDOWN_TIMEOUT}
+     * in total for calls in flight to finish. See {@link #shutdown(Duration)}.
+     */
+    @Override
+    public void close() {
+        shutdown(Sendly.DEFAULT_SHUTDOWN_TIMEOUT);
+    }
+
+    /**
+     * Shut down every per-key client, giving calls in flight up to the timeout in total
+     * to finish, then stop the batch threads and close the transport this client
+     * created. A transport passed in through {@link Builder#client(Sendly.Builder)} is
+     * left open.
+     *
+     * @param timeout How long to let calls in flight finish; zero cancels them at once
+     * @return True if every call finished before the timeout
+     */
+    public boolean shutdown(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        boolean drained = true;
+        for (Shard shard : shards) {
+            Duration remaining = Duration.ofNanos(Math.max(deadline - System.nanoTime(), 0));
+            drained &= shard.client.shutdown(remaining);
+        }
+        batchExecutor.shutdownNow();
+        if (ownedTransport != null) {
+            ownedTransport.close();
+        }
+        return drained;
+    }
+
+    /**
+     * Get the single-key clients, in the order their keys were given.
+     */
+    public List<Sendly> getClients() {
+        List<Sendly> clients = new ArrayList<>(shards.size());
+        shards.forEach(shard -> clients.add(shard.client));
+        return clients;
+    }
+
+    /**
+     * Get a snapshot of each key's load and rate-limit state.
+     */
+    public List<ShardStats> getStats() {
+        long now = System.nanoTime();
+        List<ShardStats> stats = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            stats.add(new ShardStats(shard.keyHint, shard.outstanding.get(),
+                    shard.limitedUntil > now, shard.requests.get(), shard.rateLimits.get()));
+        }
+        return stats;
+    }
+
+    private Shard acquire() {
+        while (true) {
+            long now = System.nanoTime();
+            Shard chosen = strategy == Strategy.LEAST_OUTSTANDING ? leastOutstanding(now) : roundRobin(now);
+            if (chosen != null) {
+                chosen.outstanding.incrementAndGet();
+                chosen.requests.incrementAndGet();
+                return chosen;
+            }
+
+            // Every key is benched; wait for the first one to come back if it is soon enough
+            long wait = Long.MAX_VALUE;
+            for (Shard shard : shards) {
+                wait = Math.min(wait, shard.limitedUntil - now);
+            }
+            if (wait > maxWaitForKeyNanos) {
+                int retryAfter = (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+                throw new RateLimitException("All API keys are rate limited", retryAfter);
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.max(wait, 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NetworkException("Request interrupted");
+            }
+        }
+    }
+
+    private Shard roundRobin(long now) {
+        int start = Math.floorMod(cursor.getAndIncrement(), shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get((start + i) % shards.size());
+            if (shard.limitedUntil <= now) {
+                return shard;
+            }
+        }
+        return null;
+    }
+
+    private Shard leastOutstanding(long now) {
+        // Rotate the starting point so ties are spread across keys
+        int start = Math.floorMod(cursor.getAndIncrement(), shards.size());
+        Shard best = null;
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get((start + i) % shards.size());
+            if (shard.limitedUntil <= now && (best == null || shard.outstanding.get() < best.outstanding.get())) {
+                best = shard;
+            }
+        }
+        return best;
+    }
+
+    private static final class Shard {
+        final Sendly client;
+        final String keyHint;
+        final AtomicInteger outstanding = new AtomicInteger();
+        final AtomicLong requests = new AtomicLong();
+        final AtomicLong rateLimits = new AtomicLong();
+        volatile long limitedUntil = Long.MIN_VALUE;
+
+        Shard(Sendly client, String apiKey) {
+            this.client = client;
+            this.keyHint = "..." + apiKey.substring(Math.max(0, apiKey.length() - 4));
+        }
+
+        void bench(int retryAfterSeconds) {
+            rateLimits.incrementAndGet();
+            long duration = retryAfterSeconds > 0 ? TimeUnit.SECONDS.toNanos(retryAfterSeconds) : DEFAULT_BENCH_NANOS;
+            limitedUntil = Math.max(limitedUntil, System.nanoTime() + duration);
+        }
+    }
+
+    /**
+     * Load and rate-limit state of one key.
+     */
+    public static class ShardStats {
+        private final String keyHint;
+        private final int outstanding;
+        private final boolean rateLimited;
+        private final long requestCount;
+        private final long rateLimitCount;
+
+        ShardStats(String keyHint, int outstanding, boolean rateLimited, long requestCount, long rateLimitCount) {
+            this.keyHint = keyHint;
+            this.outstanding = outstanding;
+            this.rateLimited = rateLimited;
+            this.requestCount = requestCount;
+            this.rateLimitCount = rateLimitCount;
+        }
+
+        /** Last four characters of the key, for logging. */
+        public String getKeyHint() { return keyHint; }
+        public int getOutstanding() { return outstanding; }
+        public boolean isRateLimited() { return rateLimited; }
+        public long getRequestCount() { return requestCount; }
+        public long getRateLimitCount() { return rateLimitCount; }
+
+        @Override
+        public String toString() {
+            return "ShardStats{key='" + keyHint + "', outstanding=" + outstanding + ", rateLimited=" + rateLimited +
+                    ", requests=" + requestCount + ", rateLimits=" + rateLimitCount + '}';
+        }
+    }
+
+    /**
+     * Outcome of a sharded batch send.
+     */
+    public static class BatchResult {
+        private final List<BatchMessageResponse> responses;
+        private final List<ChunkFailure> failures;
+
+        BatchResult(List<BatchMessageResponse> responses, List<ChunkFailure> failures) {
+            this.responses = Collections.unmodifiableList(responses);
+            this.failures = Collections.unmodifiableList(failures);
+        }
+
+        /** Responses for the chunks the API accepted, in chunk order. */
+        public List<BatchMessageResponse> getResponses() { return responses; }
+        /** Chunks the API did not accept. */
+        public List<ChunkFailure> getFailures() { return failures; }
+        public boolean isComplete() { return failures.isEmpty(); }
+
+        /** Total messages queued across accepted chunks. */
+        public int getQueued() {
+            return responses.stream().mapToInt(BatchMessageResponse::getQueued).sum();
+        }
+    }
+
+    /**
+     * A batch chunk that could not be sent, with the error from its last attempt.
+     */
+    public static class ChunkFailure {
+        private final SendBatchRequest request;
+        private final SendlyException error;
+
+        ChunkFailure(SendBatchRequest request, SendlyException error) {
+            this.request = request;
+            this.error = error;
+        }
+
+        public SendBatchRequest getRequest() { return request; }
+        public SendlyException getError() { return error; }
+    }
+
+    /**
+     * Builder for ShardedSendly configuration.
+     */
+    public static class Builder {
+        private Strategy strategy = Strategy.LEAST_OUTSTANDING;
+        private int chunkSize = 100;
+        private Duration maxWaitForKey = Duration.ofSeconds(1);
+        private Sendly.Builder clientBuilder;
+
+        public Builder strategy(Strategy strategy) {
+            this.strategy = strategy;
+            return this;
+        }
+
+        /**
+         * Default number of messages per chunk in {@link #sendBatch(SendBatchRequest)}. Default 100.
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = Math.max(chunkSize, 1);
+            return this;
+        }
+
+        /**
+         * How long a request may wait for a key to come off its rate limit when every
+         * key is limited; beyond that a {@link RateLimitException} is thrown. Default 1 second.
+         */
+        public Builder maxWaitForKey(Duration maxWaitForKey) {
+            this.maxWaitForKey = maxWaitForKey;
+            return this;
+        }
+
+        /**
+         * Configuration applied to every per-key client. The builder is copied, not
+         * changed: the copy gets a transport of its own if the builder has none, owned and
+         * closed by the sharded client, and rate-limit retries turned off so that 429s
+         * fail over to another key.
+         */
+        public Builder client(Sendly.Builder clientBuilder) {
+            this.clientBuilder = clientBuilder;
+            return this;
+        }
+    }
+}
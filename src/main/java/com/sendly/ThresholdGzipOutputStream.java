@@ -0,0 +1,68 @@
+package com.sendly;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Collects an encoded request body, switching to gzip as soon as it grows past a
+ * threshold. Small bodies come out as written; large ones are compressed while the
+ * codec streams them, so the uncompressed JSON is never held in full. The compressed
+ * body is buffered whole, since a request must be replayable for retries, hedging and
+ * the uncompressed resend after a 415.
+ */
+final class ThresholdGzipOutputStream extends OutputStream {
+    private final int threshold;
+    private final ByteArrayOutputStream buffer;
+    private GZIPOutputStream gzip;
+
+    /**
+     * @param threshold Largest body, in bytes, sent uncompressed
+     */
+    ThresholdGzipOutputStream(int threshold) {
+        this.threshold = threshold;
+        this.buffer = new ByteArrayOutputStream(Math.min(threshold, 8192) + 1);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (gzip == null && buffer.size() + len > threshold) {
+            byte[] head = buffer.toByteArray();
+            buffer.reset();
+            gzip = new GZIPOutputStream(buffer, 8192);
+            gzip.write(head);
+        }
+        if (gzip != null) {
+            gzip.write(b, off, len);
+        } else {
+            buffer.write(b, off, len);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (gzip != null) {
+            gzip.finish();
+        }
+    }
+
+    /**
+     * Whether the body went past the threshold and was compressed.
+     */
+    boolean isCompressed() {
+        return gzip != null;
+    }
+
+    /**
+     * Get the body, gzip-compressed if {@link #isCompressed()}. Call after {@link #close()}.
+     */
+    byte[] toByteArray() {
+        return buffer.toByteArray();
+    }
+}
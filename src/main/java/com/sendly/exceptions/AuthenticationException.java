@@ -7,4 +7,13 @@ public class AuthenticationException extends SendlyException {
     public AuthenticationException(String message) {
         super(message, 401, "AUTHENTICATION_ERROR");
     }
+
+    /**
+     * Create the exception, optionally without a stack trace.
+     *
+     * @see SendlyException#SendlyException(String, int, String, boolean)
+     */
+    public AuthenticationException(String message, boolean writableStackTrace) {
+        super(message, 401, "AUTHENTICATION_ERROR", writableStackTrace);
+    }
 }
@@ -0,0 +1,31 @@
+package com.sendly.exceptions;
+
+/**
+ * Thrown when a call is rejected without being sent because the circuit breaker for
+ * its endpoint group is open.
+ */
+public class CircuitOpenException extends SendlyException {
+    private final String group;
+
+    public CircuitOpenException(String message, String group) {
+        super(message, 0, "CIRCUIT_OPEN");
+        this.group = group;
+    }
+
+    /**
+     * Create the exception, optionally without a stack trace.
+     *
+     * @see SendlyException#SendlyException(String, int, String, boolean)
+     */
+    public CircuitOpenException(String message, String group, boolean writableStackTrace) {
+        super(message, 0, "CIRCUIT_OPEN", writableStackTrace);
+        this.group = group;
+    }
+
+    /**
+     * Get the endpoint group whose circuit is open, such as {@code messages}.
+     */
+    public String getGroup() {
+        return group;
+    }
+}
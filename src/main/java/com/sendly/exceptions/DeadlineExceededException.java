@@ -0,0 +1,34 @@
+package com.sendly.exceptions;
+
+import java.time.Duration;
+
+/**
+ * Thrown when a call cannot complete within its deadline, counting every retry and
+ * backoff. Raised as soon as the remaining time is known to be too short, without
+ * waiting it out.
+ */
+public class DeadlineExceededException extends SendlyException {
+    private final Duration timeout;
+
+    public DeadlineExceededException(String message, Duration timeout) {
+        super(message, 0, "DEADLINE_EXCEEDED");
+        this.timeout = timeout;
+    }
+
+    /**
+     * Create the exception with the last failure as its cause, optionally without a stack trace.
+     *
+     * @see SendlyException#SendlyException(String, int, String, boolean)
+     */
+    public DeadlineExceededException(String message, Duration timeout, Throwable cause, boolean writableStackTrace) {
+        super(message, 0, "DEADLINE_EXCEEDED", cause, writableStackTrace);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Get the deadline the call was given.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
@@ -7,4 +7,13 @@ public class InsufficientCreditsException extends SendlyException {
     public InsufficientCreditsException(String message) {
         super(message, 402, "INSUFFICIENT_CREDITS");
     }
+
+    /**
+     * Create the exception, optionally without a stack trace.
+     *
+     * @see SendlyException#SendlyException(String, int, String, boolean)
+     */
+    public InsufficientCreditsException(String message, boolean writableStackTrace) {
+        super(message, 402, "INSUFFICIENT_CREDITS", writableStackTrace);
+    }
 }
@@ -7,4 +7,13 @@ public class NetworkException extends SendlyException {
     public NetworkException(String message) {
         super(message, 0, "NETWORK_ERROR");
     }
+
+    /**
+     * Create the exception with its cause, optionally without a stack trace.
+     *
+     * @see SendlyException#SendlyException(String, int, String, boolean)
+     */
+    public NetworkException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, 0, "NETWORK_ERROR", cause, writableStackTrace);
+    }
 }
@@ -7,4 +7,13 @@ public class NotFoundException extends SendlyException {
     public NotFoundException(String message) {
         super(message, 404, "NOT_FOUND");
     }
+
+    /**
+     * Create the exception, optionally without a stack trace.
+     *
+     * @see SendlyException#SendlyException(String, int, String, boolean)
+     */
+    public NotFoundException(String message, boolean writableStackTrace) {
+        super(message, 404, "NOT_FOUND", writableStackTrace);
+    }
 }
@@ -15,6 +15,16 @@ public class RateLimitException extends SendlyException {
         this.retryAfter = retryAfter;
     }
 
+    /**
+     * Create the exception, optionally without a stack trace.
+     *
+     * @see SendlyException#SendlyException(String, int, String, boolean)
+     */
+    public RateLimitException(String message, int retryAfter, boolean writableStackTrace) {
+        super(message, 429, "RATE_LIMIT_EXCEEDED", writableStackTrace);
+        this.retryAfter = retryAfter;
+    }
+
     /**
      * Get the number of seconds to wait before retrying.
      */
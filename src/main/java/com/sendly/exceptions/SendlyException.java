@@ -23,6 +23,27 @@ public class SendlyException extends RuntimeException {
         this.errorCode = errorCode;
     }
 
+    /**
+     * Create an exception, optionally without a stack trace. Capturing the stack is most
+     * of the cost of an exception, so errors returned in a {@link com.sendly.SendResult}
+     * rather than thrown are created without one. The cause of a stackless exception
+     * cannot be set afterwards; pass it to
+     * {@link #SendlyException(String, int, String, Throwable, boolean)} instead.
+     */
+    public SendlyException(String message, int statusCode, String errorCode, boolean writableStackTrace) {
+        this(message, statusCode, errorCode, null, writableStackTrace);
+    }
+
+    /**
+     * Create an exception with a cause, optionally without a stack trace.
+     */
+    public SendlyException(String message, int statusCode, String errorCode, Throwable cause,
+                           boolean writableStackTrace) {
+        super(message, cause, true, writableStackTrace);
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+    }
+
     /**
      * Get the HTTP status code.
      */
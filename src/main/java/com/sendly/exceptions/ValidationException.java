@@ -7,4 +7,13 @@ public class ValidationException extends SendlyException {
     public ValidationException(String message) {
         super(message, 400, "VALIDATION_ERROR");
     }
+
+    /**
+     * Create the exception, optionally without a stack trace.
+     *
+     * @see SendlyException#SendlyException(String, int, String, boolean)
+     */
+    public ValidationException(String message, boolean writableStackTrace) {
+        super(message, 400, "VALIDATION_ERROR", writableStackTrace);
+    }
 }
@@ -1,12 +1,18 @@
 package com.sendly.models;
 
 import com.google.gson.annotations.SerializedName;
+import java.util.ArrayList;
 import java.util.List;
 
 public class AddContactsRequest {
     @SerializedName("contact_ids")
     private final List<String> contactIds;
 
+    static final ModelAdapter<AddContactsRequest, List<String>> ADAPTER = ModelAdapter
+            .<AddContactsRequest, List<String>>builder(AddContactsRequest.class, ArrayList::new, AddContactsRequest::new)
+            .list("contact_ids", String.class, List::addAll, AddContactsRequest::getContactIds)
+            .build();
+
     public AddContactsRequest(List<String> contactIds) {
         this.contactIds = contactIds;
     }
@@ -7,6 +7,12 @@ public class BatchMessageItem {
     private final String to;
     private final String text;
 
+    static final ModelAdapter<BatchMessageItem, String[]> ADAPTER = ModelAdapter
+            .builder(BatchMessageItem.class, () -> new String[2], v -> new BatchMessageItem(v[0], v[1]))
+            .field("to", String.class, (v, to) -> v[0] = to, BatchMessageItem::getTo)
+            .field("text", String.class, (v, text) -> v[1] = text, BatchMessageItem::getText)
+            .build();
+
     /**
      * Create a new batch message item.
      *
@@ -11,6 +11,15 @@ public class CheckVerificationResponse {
     @SerializedName("remaining_attempts")
     private Integer remainingAttempts;
 
+    static final ModelAdapter<CheckVerificationResponse, CheckVerificationResponse> ADAPTER = ModelAdapter
+            .builder(CheckVerificationResponse.class, CheckVerificationResponse::new)
+            .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+            .field("status", String.class, (m, v) -> m.status = v, m -> m.status)
+            .field("phone", String.class, (m, v) -> m.phone = v, m -> m.phone)
+            .field("verified_at", String.class, (m, v) -> m.verifiedAt = v, m -> m.verifiedAt)
+            .field("remaining_attempts", Integer.class, (m, v) -> m.remainingAttempts = v, m -> m.remainingAttempts)
+            .build();
+
     public String getId() { return id; }
     public String getStatus() { return status; }
     public String getPhone() { return phone; }
@@ -11,6 +11,14 @@ public class CreateCampaignRequest {
     @SerializedName("template_id")
     private final String templateId;
 
+    static final ModelAdapter<CreateCampaignRequest, Builder> ADAPTER = ModelAdapter
+            .builder(CreateCampaignRequest.class, CreateCampaignRequest::builder, Builder::build)
+            .field("name", String.class, Builder::name, CreateCampaignRequest::getName)
+            .field("text", String.class, Builder::text, CreateCampaignRequest::getText)
+            .list("contact_list_ids", String.class, Builder::contactListIds, CreateCampaignRequest::getContactListIds)
+            .field("template_id", String.class, Builder::templateId, CreateCampaignRequest::getTemplateId)
+            .build();
+
     private CreateCampaignRequest(Builder builder) {
         this.name = builder.name;
         this.text = builder.text;
@@ -4,6 +4,12 @@ public class CreateContactListRequest {
     private final String name;
     private final String description;
 
+    static final ModelAdapter<CreateContactListRequest, Builder> ADAPTER = ModelAdapter
+            .builder(CreateContactListRequest.class, CreateContactListRequest::builder, Builder::build)
+            .field("name", String.class, Builder::name, CreateContactListRequest::getName)
+            .field("description", String.class, Builder::description, CreateContactListRequest::getDescription)
+            .build();
+
     private CreateContactListRequest(Builder builder) {
         this.name = builder.name;
         this.description = builder.description;
@@ -10,6 +10,14 @@ public class CreateContactRequest {
     private final String email;
     private final Map<String, Object> metadata;
 
+    static final ModelAdapter<CreateContactRequest, Builder> ADAPTER = ModelAdapter
+            .builder(CreateContactRequest.class, CreateContactRequest::builder, Builder::build)
+            .field("phone_number", String.class, Builder::phoneNumber, CreateContactRequest::getPhoneNumber)
+            .field("name", String.class, Builder::name, CreateContactRequest::getName)
+            .field("email", String.class, Builder::email, CreateContactRequest::getEmail)
+            .map("metadata", Builder::metadata, CreateContactRequest::getMetadata)
+            .build();
+
     private CreateContactRequest(Builder builder) {
         this.phoneNumber = builder.phoneNumber;
         this.name = builder.name;
@@ -22,45 +22,72 @@ public class Message {
     public static final String SENDER_TYPE_ALPHANUMERIC = "alphanumeric";
     public static final String SENDER_TYPE_SANDBOX = "sandbox";
 
-    private final String id;
-    private final String to;
-    private final String from;
-    private final String text;
-    private final String status;
-    private final String direction;
-    private final int segments;
+    private String id;
+    private String to;
+    private String from;
+    private String text;
+    private String status;
+    private String direction;
+    private int segments;
 
     @SerializedName("credits_used")
-    private final int creditsUsed;
+    private int creditsUsed;
 
     @SerializedName("is_sandbox")
-    private final boolean isSandbox;
+    private boolean isSandbox;
 
     @SerializedName("sender_type")
-    private final String senderType;
+    private String senderType;
 
     @SerializedName("telnyx_message_id")
-    private final String telnyxMessageId;
+    private String telnyxMessageId;
 
-    private final String warning;
+    private String warning;
 
     @SerializedName("sender_note")
-    private final String senderNote;
+    private String senderNote;
 
     @SerializedName("created_at")
-    private final Instant createdAt;
+    private Instant createdAt;
 
     @SerializedName("updated_at")
-    private final Instant updatedAt;
+    private Instant updatedAt;
 
     @SerializedName("delivered_at")
-    private final Instant deliveredAt;
+    private Instant deliveredAt;
 
     @SerializedName("error_code")
-    private final String errorCode;
+    private String errorCode;
 
     @SerializedName("error_message")
-    private final String errorMessage;
+    private String errorMessage;
+
+    static final ModelAdapter<Message, Message> ADAPTER = ModelAdapter
+            .builder(Message.class, Message::new)
+            .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+            .field("to", String.class, (m, v) -> m.to = v, m -> m.to)
+            .field("from", String.class, (m, v) -> m.from = v, m -> m.from)
+            .field("text", String.class, (m, v) -> m.text = v, m -> m.text)
+            .field("status", String.class, (m, v) -> m.status = v, m -> m.status)
+            .field("direction", String.class, (m, v) -> m.direction = v, m -> m.direction)
+            .field("segments", int.class, (m, v) -> m.segments = v, m -> m.segments)
+            .field("credits_used", int.class, (m, v) -> m.creditsUsed = v, m -> m.creditsUsed)
+            .field("is_sandbox", boolean.class, (m, v) -> m.isSandbox = v, m -> m.isSandbox)
+            .field("sender_type", String.class, (m, v) -> m.senderType = v, m -> m.senderType)
+            .field("telnyx_message_id", String.class, (m, v) -> m.telnyxMessageId = v, m -> m.telnyxMessageId)
+            .field("warning", String.class, (m, v) -> m.warning = v, m -> m.warning)
+            .field("sender_note", String.class, (m, v) -> m.senderNote = v, m -> m.senderNote)
+            .field("created_at", String.class, (m, v) -> m.createdAt = parseInstant(v), m -> format(m.createdAt))
+            .field("updated_at", String.class, (m, v) -> m.updatedAt = parseInstant(v), m -> format(m.updatedAt))
+            .field("delivered_at", String.class, (m, v) -> m.deliveredAt = parseInstant(v), m -> format(m.deliveredAt))
+            .field("error_code", String.class, (m, v) -> m.errorCode = v, m -> m.errorCode)
+            .field("error_message", String.class, (m, v) -> m.errorMessage = v, m -> m.errorMessage)
+            .build();
+
+    private Message() {
+        this.direction = "outbound";
+        this.segments = 1;
+    }
 
     /**
      * Create a Message from a JSON object.
@@ -102,7 +129,7 @@ public class Message {
         return null;
     }
 
-    private Instant parseInstant(String value) {
+    private static Instant parseInstant(String value) {
         if (value == null) return null;
         try {
             return Instant.parse(value);
@@ -111,6 +138,10 @@ public class Message {
         }
     }
 
+    private static String format(Instant value) {
+        return value != null ? value.toString() : null;
+    }
+
     // Getters
 
     public String getId() {
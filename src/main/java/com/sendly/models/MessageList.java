@@ -11,18 +11,22 @@ import java.util.List;
  * Represents a paginated list of messages.
  */
 public class MessageList implements Iterable<Message> {
-    private final List<Message> messages;
-    private final int total;
-    private final int limit;
-    private final int offset;
-    private final boolean hasMore;
+    private List<Message> messages = new ArrayList<>();
+    private Pagination pagination = new Pagination();
+
+    static final ModelAdapter<MessageList, MessageList> ADAPTER = ModelAdapter
+            .builder(MessageList.class, MessageList::new)
+            .list("data", Message.class, (m, v) -> m.messages = v, m -> m.messages)
+            .field("pagination", Pagination.class, (m, v) -> m.pagination = v, m -> m.pagination)
+            .build();
+
+    private MessageList() {
+    }
 
     /**
      * Create a MessageList from a JSON response.
      */
     public MessageList(JsonObject json) {
-        this.messages = new ArrayList<>();
-
         if (json.has("data") && json.get("data").isJsonArray()) {
             JsonArray data = json.getAsJsonArray("data");
             for (int i = 0; i < data.size(); i++) {
@@ -30,13 +34,13 @@ public class MessageList implements Iterable<Message> {
             }
         }
 
-        JsonObject pagination = json.has("pagination") ?
-                json.getAsJsonObject("pagination") : new JsonObject();
-
-        this.total = pagination.has("total") ? pagination.get("total").getAsInt() : messages.size();
-        this.limit = pagination.has("limit") ? pagination.get("limit").getAsInt() : 20;
-        this.offset = pagination.has("offset") ? pagination.get("offset").getAsInt() : 0;
-        this.hasMore = pagination.has("has_more") && pagination.get("has_more").getAsBoolean();
+        if (json.has("pagination")) {
+            JsonObject page = json.getAsJsonObject("pagination");
+            pagination.total = page.has("total") ? page.get("total").getAsInt() : null;
+            pagination.limit = page.has("limit") ? page.get("limit").getAsInt() : 20;
+            pagination.offset = page.has("offset") ? page.get("offset").getAsInt() : 0;
+            pagination.hasMore = page.has("has_more") && page.get("has_more").getAsBoolean();
+        }
     }
 
     /**
@@ -50,28 +54,28 @@ public class MessageList implements Iterable<Message> {
      * Get total count.
      */
     public int getTotal() {
-        return total;
+        return pagination.total != null ? pagination.total : messages.size();
     }
 
     /**
      * Get limit.
      */
     public int getLimit() {
-        return limit;
+        return pagination.limit;
     }
 
     /**
      * Get offset.
      */
     public int getOffset() {
-        return offset;
+        return pagination.offset;
     }
 
     /**
      * Check if there are more pages.
      */
     public boolean hasMore() {
-        return hasMore;
+        return pagination.hasMore;
     }
 
     /**
@@ -113,4 +117,19 @@ public class MessageList implements Iterable<Message> {
     public Iterator<Message> iterator() {
         return messages.iterator();
     }
+
+    static final class Pagination {
+        private Integer total;
+        private int limit = 20;
+        private int offset;
+        private boolean hasMore;
+
+        static final ModelAdapter<Pagination, Pagination> ADAPTER = ModelAdapter
+                .builder(Pagination.class, Pagination::new)
+                .field("total", Integer.class, (m, v) -> m.total = v, m -> m.total)
+                .field("limit", int.class, (m, v) -> m.limit = v, m -> m.limit)
+                .field("offset", int.class, (m, v) -> m.offset = v, m -> m.offset)
+                .field("has_more", boolean.class, (m, v) -> m.hasMore = v, m -> m.hasMore)
+                .build();
+    }
 }
@@ -0,0 +1,77 @@
+package com.sendly.models;
+
+import com.sendly.exceptions.SendlyException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of looking up many messages by ID.
+ * <p>
+ * Every requested ID ends up in exactly one of {@link #getMessages()} or
+ * {@link #getErrors()}, in the order the IDs were first requested.
+ * </p>
+ */
+public class MessageLookupResult {
+    private final Map<String, Message> messages;
+    private final Map<String, SendlyException> errors;
+
+    /**
+     * Create a MessageLookupResult.
+     *
+     * @param ids      Requested IDs, deduplicated, in request order
+     * @param found    Messages keyed by ID
+     * @param failures Errors keyed by ID
+     */
+    public MessageLookupResult(List<String> ids, Map<String, Message> found, Map<String, SendlyException> failures) {
+        Map<String, Message> orderedMessages = new LinkedHashMap<>();
+        Map<String, SendlyException> orderedErrors = new LinkedHashMap<>();
+        for (String id : ids) {
+            Message message = found.get(id);
+            if (message != null) {
+                orderedMessages.put(id, message);
+            } else if (failures.containsKey(id)) {
+                orderedErrors.put(id, failures.get(id));
+            }
+        }
+        this.messages = Collections.unmodifiableMap(orderedMessages);
+        this.errors = Collections.unmodifiableMap(orderedErrors);
+    }
+
+    /**
+     * Get the messages that were found, keyed by ID.
+     */
+    public Map<String, Message> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Get the errors for IDs that could not be looked up, keyed by ID.
+     */
+    public Map<String, SendlyException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get a single message by ID.
+     *
+     * @return The message, or null if it was not found or its lookup failed
+     */
+    public Message get(String id) {
+        return messages.get(id);
+    }
+
+    /**
+     * Check if every lookup succeeded.
+     */
+    public boolean isComplete() {
+        return errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageLookupResult{found=" + messages.size() + ", errors=" + errors.size() + '}';
+    }
+}
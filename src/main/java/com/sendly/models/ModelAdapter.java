@@ -0,0 +1,286 @@
+package com.sendly.models;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Declares how a model maps to JSON, field by field, so Gson can stream it without
+ * reflection.
+ * <p>
+ * Each field is bound with a setter and a getter, usually lambdas declared inside the
+ * model so they can reach its private fields. Models with final fields are read into
+ * their {@code Builder} and then built. Every field is also accepted under its other
+ * spelling: {@code created_at} reads {@code createdAt} too, and the reverse. Writes always
+ * use the declared name. Unknown fields are skipped.
+ * </p>
+ *
+ * <pre>{@code
+ * static final ModelAdapter<Template, Template> ADAPTER = ModelAdapter.builder(Template.class, Template::new)
+ *     .field("id", String.class, (t, v) -> t.id = v, t -> t.id)
+ *     .list("variables", TemplateVariable.class, (t, v) -> t.variables = v, t -> t.variables)
+ *     .build();
+ * }</pre>
+ *
+ * @param <T> The model type
+ * @param <B> The type fields are read into: the model itself, or its builder
+ */
+public final class ModelAdapter<T, B> {
+    private final Class<T> type;
+    private final Supplier<B> create;
+    private final Function<B, T> finish;
+    private final List<Binding<T, B, ?>> bindings;
+
+    private ModelAdapter(Builder<T, B> builder) {
+        this.type = builder.type;
+        this.create = builder.create;
+        this.finish = builder.finish;
+        this.bindings = Collections.unmodifiableList(new ArrayList<>(builder.bindings));
+    }
+
+    /**
+     * Start declaring an adapter for a model whose fields can be set directly.
+     *
+     * @param type   The model class
+     * @param create Creates an empty model
+     */
+    public static <T> Builder<T, T> builder(Class<T> type, Supplier<T> create) {
+        return new Builder<>(type, create, Function.identity());
+    }
+
+    /**
+     * Start declaring an adapter for a model that is read into an intermediate builder.
+     *
+     * @param type   The model class
+     * @param create Creates an empty builder
+     * @param finish Builds the model once every field has been read
+     */
+    public static <T, B> Builder<T, B> builder(Class<T> type, Supplier<B> create, Function<B, T> finish) {
+        return new Builder<>(type, create, finish);
+    }
+
+    /**
+     * Create a Gson factory serving the given adapters.
+     * <p>
+     * Register it with {@code GsonBuilder.registerTypeAdapterFactory}. Types not listed fall
+     * through to Gson's other factories.
+     * </p>
+     */
+    public static TypeAdapterFactory factory(ModelAdapter<?, ?>... adapters) {
+        Map<Class<?>, ModelAdapter<?, ?>> byType = new HashMap<>();
+        for (ModelAdapter<?, ?> adapter : adapters) {
+            byType.put(adapter.type, adapter);
+        }
+        return new TypeAdapterFactory() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> typeToken) {
+                ModelAdapter<?, ?> adapter = byType.get(typeToken.getRawType());
+                return adapter == null ? null : (TypeAdapter<R>) adapter.bind(gson);
+            }
+        };
+    }
+
+    /**
+     * Get the model class this adapter handles.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Resolve the field types against a Gson instance and return a streaming adapter.
+     */
+    public TypeAdapter<T> bind(Gson gson) {
+        Map<String, BoundField<T, B, ?>> byName = new HashMap<>();
+        List<BoundField<T, B, ?>> fields = new ArrayList<>(bindings.size());
+        for (Binding<T, B, ?> binding : bindings) {
+            BoundField<T, B, ?> field = binding.bind(gson);
+            fields.add(field);
+            byName.put(binding.name, field);
+            byName.putIfAbsent(alias(binding.name), field);
+        }
+        return new StreamingAdapter<>(create, finish, byName, fields).nullSafe();
+    }
+
+    /**
+     * The other spelling of a JSON name: snake_case for camelCase and the reverse.
+     */
+    static String alias(String name) {
+        StringBuilder alias = new StringBuilder(name.length() + 4);
+        if (name.indexOf('_') >= 0) {
+            boolean upper = false;
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == '_') {
+                    upper = true;
+                } else {
+                    alias.append(upper ? Character.toUpperCase(c) : c);
+                    upper = false;
+                }
+            }
+        } else {
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (Character.isUpperCase(c)) {
+                    alias.append('_').append(Character.toLowerCase(c));
+                } else {
+                    alias.append(c);
+                }
+            }
+        }
+        return alias.toString();
+    }
+
+    /**
+     * Builder for ModelAdapter.
+     */
+    public static final class Builder<T, B> {
+        private final Class<T> type;
+        private final Supplier<B> create;
+        private final Function<B, T> finish;
+        private final List<Binding<T, B, ?>> bindings = new ArrayList<>();
+
+        private Builder(Class<T> type, Supplier<B> create, Function<B, T> finish) {
+            this.type = type;
+            this.create = create;
+            this.finish = finish;
+        }
+
+        /**
+         * Bind a field whose value Gson can adapt by class: strings, boxed or primitive
+         * numbers and booleans, or another model with an adapter.
+         *
+         * @param name       JSON name written on output
+         * @param fieldClass Value class; primitives such as {@code int.class} are allowed
+         * @param setter     Stores a decoded value; not called for JSON null
+         * @param getter     Reads the value to encode
+         */
+        public <V> Builder<T, B> field(String name, Class<V> fieldClass, BiConsumer<B, V> setter, Function<T, V> getter) {
+            bindings.add(new Binding<>(name, fieldClass, setter, getter));
+            return this;
+        }
+
+        /**
+         * Bind a {@code List} field.
+         *
+         * @param elementClass Element class
+         */
+        public <E> Builder<T, B> list(String name, Class<E> elementClass,
+                                      BiConsumer<B, List<E>> setter, Function<T, List<E>> getter) {
+            bindings.add(new Binding<>(name, TypeToken.getParameterized(List.class, elementClass).getType(), setter, getter));
+            return this;
+        }
+
+        /**
+         * Bind a free-form {@code Map<String, Object>} field such as {@code metadata}.
+         */
+        public Builder<T, B> map(String name, BiConsumer<B, Map<String, Object>> setter,
+                                 Function<T, Map<String, Object>> getter) {
+            bindings.add(new Binding<>(name, TypeToken.getParameterized(Map.class, String.class, Object.class).getType(),
+                    setter, getter));
+            return this;
+        }
+
+        public ModelAdapter<T, B> build() {
+            return new ModelAdapter<>(this);
+        }
+    }
+
+    private static final class Binding<T, B, V> {
+        final String name;
+        final Type fieldType;
+        final BiConsumer<B, V> setter;
+        final Function<T, V> getter;
+
+        Binding(String name, Type fieldType, BiConsumer<B, V> setter, Function<T, V> getter) {
+            this.name = name;
+            this.fieldType = fieldType;
+            this.setter = setter;
+            this.getter = getter;
+        }
+
+        @SuppressWarnings("unchecked")
+        BoundField<T, B, V> bind(Gson gson) {
+            return new BoundField<>(this, (TypeAdapter<V>) gson.getAdapter(TypeToken.get(fieldType)));
+        }
+    }
+
+    private static final class BoundField<T, B, V> {
+        final Binding<T, B, V> binding;
+        final TypeAdapter<V> adapter;
+
+        BoundField(Binding<T, B, V> binding, TypeAdapter<V> adapter) {
+            this.binding = binding;
+            this.adapter = adapter;
+        }
+
+        void read(JsonReader in, B target) throws IOException {
+            V value = adapter.read(in);
+            if (value != null) {
+                binding.setter.accept(target, value);
+            }
+        }
+
+        void write(JsonWriter out, T model) throws IOException {
+            out.name(binding.name);
+            // A null value drops the name unless the writer serializes nulls
+            adapter.write(out, binding.getter.apply(model));
+        }
+    }
+
+    private static final class StreamingAdapter<T, B> extends TypeAdapter<T> {
+        private final Supplier<B> create;
+        private final Function<B, T> finish;
+        private final Map<String, BoundField<T, B, ?>> byName;
+        private final List<BoundField<T, B, ?>> fields;
+
+        StreamingAdapter(Supplier<B> create, Function<B, T> finish,
+                         Map<String, BoundField<T, B, ?>> byName, List<BoundField<T, B, ?>> fields) {
+            this.create = create;
+            this.finish = finish;
+            this.byName = byName;
+            this.fields = fields;
+        }
+
+        @Override
+        public T read(JsonReader in) throws IOException {
+            B target = create.get();
+            in.beginObject();
+            while (in.hasNext()) {
+                BoundField<T, B, ?> field = byName.get(in.nextName());
+                if (field == null || in.peek() == JsonToken.NULL) {
+                    in.skipValue();
+                } else {
+                    field.read(in, target);
+                }
+            }
+            in.endObject();
+            return finish.apply(target);
+        }
+
+        @Override
+        public void write(JsonWriter out, T model) throws IOException {
+            out.beginObject();
+            for (BoundField<T, B, ?> field : fields) {
+                field.write(out, model);
+            }
+            out.endObject();
+        }
+    }
+}
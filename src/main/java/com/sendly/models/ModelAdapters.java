@@ -0,0 +1,52 @@
+package com.sendly.models;
+
+import com.google.gson.TypeAdapterFactory;
+
+/**
+ * Streaming adapters for the models the client encodes and decodes with Gson.
+ * <p>
+ * Registered on the client's Gson so request bodies and typed responses never go through
+ * reflection. {@link Message}, {@link MessageList} and {@link WebhookDelivery}, which are
+ * decoded in bulk when paging, are bound here too. The other response models are still
+ * built from a {@code JsonObject} constructor: they are read once per call on low-volume
+ * endpoints, and several derive values while they decode.
+ * </p>
+ */
+public final class ModelAdapters {
+
+    /**
+     * Factory serving every model adapter.
+     */
+    public static final TypeAdapterFactory FACTORY = ModelAdapter.factory(
+            SendMessageRequest.ADAPTER,
+            ScheduleMessageRequest.ADAPTER,
+            SendBatchRequest.ADAPTER,
+            BatchMessageItem.ADAPTER,
+            CreateCampaignRequest.ADAPTER,
+            UpdateCampaignRequest.ADAPTER,
+            ScheduleCampaignRequest.ADAPTER,
+            CreateContactRequest.ADAPTER,
+            UpdateContactRequest.ADAPTER,
+            CreateContactListRequest.ADAPTER,
+            UpdateContactListRequest.ADAPTER,
+            AddContactsRequest.ADAPTER,
+            Template.ADAPTER,
+            Template.TemplateVariable.ADAPTER,
+            TemplateListResponse.ADAPTER,
+            TemplatePreview.ADAPTER,
+            Verification.ADAPTER,
+            VerificationListResponse.ADAPTER,
+            VerificationListResponse.Pagination.ADAPTER,
+            SendVerificationResponse.ADAPTER,
+            CheckVerificationResponse.ADAPTER,
+            VerifySession.ADAPTER,
+            ValidateSessionResponse.ADAPTER,
+            Message.ADAPTER,
+            MessageList.ADAPTER,
+            MessageList.Pagination.ADAPTER,
+            WebhookDelivery.ADAPTER
+    );
+
+    private ModelAdapters() {
+    }
+}
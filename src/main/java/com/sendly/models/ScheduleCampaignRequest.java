@@ -7,6 +7,12 @@ public class ScheduleCampaignRequest {
     private final String scheduledAt;
     private final String timezone;
 
+    static final ModelAdapter<ScheduleCampaignRequest, Builder> ADAPTER = ModelAdapter
+            .builder(ScheduleCampaignRequest.class, ScheduleCampaignRequest::builder, Builder::build)
+            .field("scheduled_at", String.class, Builder::scheduledAt, ScheduleCampaignRequest::getScheduledAt)
+            .field("timezone", String.class, Builder::timezone, ScheduleCampaignRequest::getTimezone)
+            .build();
+
     private ScheduleCampaignRequest(Builder builder) {
         this.scheduledAt = builder.scheduledAt;
         this.timezone = builder.timezone;
@@ -10,6 +10,15 @@ public class ScheduleMessageRequest {
     private final String from;
     private final String messageType;
 
+    static final ModelAdapter<ScheduleMessageRequest, Builder> ADAPTER = ModelAdapter
+            .builder(ScheduleMessageRequest.class, ScheduleMessageRequest::builder, Builder::build)
+            .field("to", String.class, Builder::to, ScheduleMessageRequest::getTo)
+            .field("text", String.class, Builder::text, ScheduleMessageRequest::getText)
+            .field("scheduledAt", String.class, Builder::scheduledAt, ScheduleMessageRequest::getScheduledAt)
+            .field("from", String.class, Builder::from, ScheduleMessageRequest::getFrom)
+            .field("messageType", String.class, Builder::messageType, ScheduleMessageRequest::getMessageType)
+            .build();
+
     /**
      * Create a new schedule message request.
      *
@@ -11,6 +11,13 @@ public class SendBatchRequest {
     private final String from;
     private final String messageType;
 
+    static final ModelAdapter<SendBatchRequest, Builder> ADAPTER = ModelAdapter
+            .builder(SendBatchRequest.class, SendBatchRequest::builder, Builder::build)
+            .list("messages", BatchMessageItem.class, Builder::messages, SendBatchRequest::getMessages)
+            .field("from", String.class, Builder::from, SendBatchRequest::getFrom)
+            .field("messageType", String.class, Builder::messageType, SendBatchRequest::getMessageType)
+            .build();
+
     /**
      * Create a new send batch request.
      *
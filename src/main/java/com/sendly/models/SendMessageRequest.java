@@ -8,6 +8,13 @@ public class SendMessageRequest {
     private final String text;
     private final String messageType;
 
+    static final ModelAdapter<SendMessageRequest, Builder> ADAPTER = ModelAdapter
+            .builder(SendMessageRequest.class, SendMessageRequest::builder, Builder::build)
+            .field("to", String.class, Builder::to, SendMessageRequest::getTo)
+            .field("text", String.class, Builder::text, SendMessageRequest::getText)
+            .field("messageType", String.class, Builder::messageType, SendMessageRequest::getMessageType)
+            .build();
+
     /**
      * Create a new send message request.
      *
@@ -13,6 +13,17 @@ public class SendVerificationResponse {
     private String sandboxCode;
     private String message;
 
+    static final ModelAdapter<SendVerificationResponse, SendVerificationResponse> ADAPTER = ModelAdapter
+            .builder(SendVerificationResponse.class, SendVerificationResponse::new)
+            .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+            .field("status", String.class, (m, v) -> m.status = v, m -> m.status)
+            .field("phone", String.class, (m, v) -> m.phone = v, m -> m.phone)
+            .field("expires_at", String.class, (m, v) -> m.expiresAt = v, m -> m.expiresAt)
+            .field("sandbox", boolean.class, (m, v) -> m.sandbox = v, m -> m.sandbox)
+            .field("sandbox_code", String.class, (m, v) -> m.sandboxCode = v, m -> m.sandboxCode)
+            .field("message", String.class, (m, v) -> m.message = v, m -> m.message)
+            .build();
+
     public String getId() { return id; }
     public String getStatus() { return status; }
     public String getPhone() { return phone; }
@@ -21,6 +21,21 @@ public class Template {
     @SerializedName("updated_at")
     private String updatedAt;
 
+    static final ModelAdapter<Template, Template> ADAPTER = ModelAdapter
+            .builder(Template.class, Template::new)
+            .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+            .field("name", String.class, (m, v) -> m.name = v, m -> m.name)
+            .field("text", String.class, (m, v) -> m.text = v, m -> m.text)
+            .list("variables", TemplateVariable.class, (m, v) -> m.variables = v, m -> m.variables)
+            .field("is_preset", boolean.class, (m, v) -> m.isPreset = v, m -> m.isPreset)
+            .field("preset_slug", String.class, (m, v) -> m.presetSlug = v, m -> m.presetSlug)
+            .field("status", String.class, (m, v) -> m.status = v, m -> m.status)
+            .field("version", int.class, (m, v) -> m.version = v, m -> m.version)
+            .field("published_at", String.class, (m, v) -> m.publishedAt = v, m -> m.publishedAt)
+            .field("created_at", String.class, (m, v) -> m.createdAt = v, m -> m.createdAt)
+            .field("updated_at", String.class, (m, v) -> m.updatedAt = v, m -> m.updatedAt)
+            .build();
+
     public String getId() { return id; }
     public String getName() { return name; }
     public String getText() { return text; }
@@ -38,6 +53,13 @@ public class Template {
         private String type;
         private String fallback;
 
+        static final ModelAdapter<TemplateVariable, TemplateVariable> ADAPTER = ModelAdapter
+                .builder(TemplateVariable.class, TemplateVariable::new)
+                .field("key", String.class, (m, v) -> m.key = v, m -> m.key)
+                .field("type", String.class, (m, v) -> m.type = v, m -> m.type)
+                .field("fallback", String.class, (m, v) -> m.fallback = v, m -> m.fallback)
+                .build();
+
         public String getKey() { return key; }
         public String getType() { return type; }
         public String getFallback() { return fallback; }
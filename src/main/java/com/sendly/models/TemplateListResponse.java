@@ -5,5 +5,10 @@ import java.util.List;
 public class TemplateListResponse {
     private List<Template> templates;
 
+    static final ModelAdapter<TemplateListResponse, TemplateListResponse> ADAPTER = ModelAdapter
+            .builder(TemplateListResponse.class, TemplateListResponse::new)
+            .list("templates", Template.class, (m, v) -> m.templates = v, m -> m.templates)
+            .build();
+
     public List<Template> getTemplates() { return templates; }
 }
@@ -12,6 +12,15 @@ public class TemplatePreview {
     private String previewText;
     private List<Template.TemplateVariable> variables;
 
+    static final ModelAdapter<TemplatePreview, TemplatePreview> ADAPTER = ModelAdapter
+            .builder(TemplatePreview.class, TemplatePreview::new)
+            .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+            .field("name", String.class, (m, v) -> m.name = v, m -> m.name)
+            .field("original_text", String.class, (m, v) -> m.originalText = v, m -> m.originalText)
+            .field("preview_text", String.class, (m, v) -> m.previewText = v, m -> m.previewText)
+            .list("variables", Template.TemplateVariable.class, (m, v) -> m.variables = v, m -> m.variables)
+            .build();
+
     public String getId() { return id; }
     public String getName() { return name; }
     public String getOriginalText() { return originalText; }
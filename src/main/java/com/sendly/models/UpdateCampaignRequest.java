@@ -11,6 +11,14 @@ public class UpdateCampaignRequest {
     @SerializedName("template_id")
     private final String templateId;
 
+    static final ModelAdapter<UpdateCampaignRequest, Builder> ADAPTER = ModelAdapter
+            .builder(UpdateCampaignRequest.class, UpdateCampaignRequest::builder, Builder::build)
+            .field("name", String.class, Builder::name, UpdateCampaignRequest::getName)
+            .field("text", String.class, Builder::text, UpdateCampaignRequest::getText)
+            .list("contact_list_ids", String.class, Builder::contactListIds, UpdateCampaignRequest::getContactListIds)
+            .field("template_id", String.class, Builder::templateId, UpdateCampaignRequest::getTemplateId)
+            .build();
+
     private UpdateCampaignRequest(Builder builder) {
         this.name = builder.name;
         this.text = builder.text;
@@ -4,6 +4,12 @@ public class UpdateContactListRequest {
     private final String name;
     private final String description;
 
+    static final ModelAdapter<UpdateContactListRequest, Builder> ADAPTER = ModelAdapter
+            .builder(UpdateContactListRequest.class, UpdateContactListRequest::builder, Builder::build)
+            .field("name", String.class, Builder::name, UpdateContactListRequest::getName)
+            .field("description", String.class, Builder::description, UpdateContactListRequest::getDescription)
+            .build();
+
     private UpdateContactListRequest(Builder builder) {
         this.name = builder.name;
         this.description = builder.description;
@@ -10,6 +10,14 @@ public class UpdateContactRequest {
     private final String email;
     private final Map<String, Object> metadata;
 
+    static final ModelAdapter<UpdateContactRequest, Builder> ADAPTER = ModelAdapter
+            .builder(UpdateContactRequest.class, UpdateContactRequest::builder, Builder::build)
+            .field("phone_number", String.class, Builder::phoneNumber, UpdateContactRequest::getPhoneNumber)
+            .field("name", String.class, Builder::name, UpdateContactRequest::getName)
+            .field("email", String.class, Builder::email, UpdateContactRequest::getEmail)
+            .map("metadata", Builder::metadata, UpdateContactRequest::getMetadata)
+            .build();
+
     private UpdateContactRequest(Builder builder) {
         this.phoneNumber = builder.phoneNumber;
         this.name = builder.name;
@@ -16,6 +16,15 @@ public class ValidateSessionResponse {
 
     private Map<String, Object> metadata;
 
+    static final ModelAdapter<ValidateSessionResponse, ValidateSessionResponse> ADAPTER = ModelAdapter
+            .builder(ValidateSessionResponse.class, ValidateSessionResponse::new)
+            .field("valid", boolean.class, (m, v) -> m.valid = v, m -> m.valid)
+            .field("session_id", String.class, (m, v) -> m.sessionId = v, m -> m.sessionId)
+            .field("phone", String.class, (m, v) -> m.phone = v, m -> m.phone)
+            .field("verified_at", String.class, (m, v) -> m.verifiedAt = v, m -> m.verifiedAt)
+            .map("metadata", (m, v) -> m.metadata = v, m -> m.metadata)
+            .build();
+
     public boolean isValid() { return valid; }
     public String getSessionId() { return sessionId; }
     public String getPhone() { return phone; }
@@ -25,6 +25,23 @@ public class Verification {
     @SerializedName("profile_id")
     private String profileId;
 
+    static final ModelAdapter<Verification, Verification> ADAPTER = ModelAdapter
+            .builder(Verification.class, Verification::new)
+            .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+            .field("status", String.class, (m, v) -> m.status = v, m -> m.status)
+            .field("phone", String.class, (m, v) -> m.phone = v, m -> m.phone)
+            .field("delivery_status", String.class, (m, v) -> m.deliveryStatus = v, m -> m.deliveryStatus)
+            .field("attempts", int.class, (m, v) -> m.attempts = v, m -> m.attempts)
+            .field("max_attempts", int.class, (m, v) -> m.maxAttempts = v, m -> m.maxAttempts)
+            .field("expires_at", String.class, (m, v) -> m.expiresAt = v, m -> m.expiresAt)
+            .field("verified_at", String.class, (m, v) -> m.verifiedAt = v, m -> m.verifiedAt)
+            .field("created_at", String.class, (m, v) -> m.createdAt = v, m -> m.createdAt)
+            .field("sandbox", boolean.class, (m, v) -> m.sandbox = v, m -> m.sandbox)
+            .field("app_name", String.class, (m, v) -> m.appName = v, m -> m.appName)
+            .field("template_id", String.class, (m, v) -> m.templateId = v, m -> m.templateId)
+            .field("profile_id", String.class, (m, v) -> m.profileId = v, m -> m.profileId)
+            .build();
+
     public String getId() { return id; }
     public String getStatus() { return status; }
     public String getPhone() { return phone; }
@@ -6,6 +6,12 @@ public class VerificationListResponse {
     private List<Verification> verifications;
     private Pagination pagination;
 
+    static final ModelAdapter<VerificationListResponse, VerificationListResponse> ADAPTER = ModelAdapter
+            .builder(VerificationListResponse.class, VerificationListResponse::new)
+            .list("verifications", Verification.class, (m, v) -> m.verifications = v, m -> m.verifications)
+            .field("pagination", Pagination.class, (m, v) -> m.pagination = v, m -> m.pagination)
+            .build();
+
     public List<Verification> getVerifications() { return verifications; }
     public Pagination getPagination() { return pagination; }
 
@@ -13,6 +19,12 @@ public class VerificationListResponse {
         private int limit;
         private boolean hasMore;
 
+        static final ModelAdapter<Pagination, Pagination> ADAPTER = ModelAdapter
+                .builder(Pagination.class, Pagination::new)
+                .field("limit", int.class, (m, v) -> m.limit = v, m -> m.limit)
+                .field("hasMore", boolean.class, (m, v) -> m.hasMore = v, m -> m.hasMore)
+                .build();
+
         public int getLimit() { return limit; }
         public boolean isHasMore() { return hasMore; }
     }
@@ -34,6 +34,23 @@ public class VerifySession {
     @SerializedName("created_at")
     private String createdAt;
 
+    static final ModelAdapter<VerifySession, VerifySession> ADAPTER = ModelAdapter
+            .builder(VerifySession.class, VerifySession::new)
+            .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+            .field("url", String.class, (m, v) -> m.url = v, m -> m.url)
+            .field("status", String.class, (m, v) -> m.status = v, m -> m.status)
+            .field("success_url", String.class, (m, v) -> m.successUrl = v, m -> m.successUrl)
+            .field("cancel_url", String.class, (m, v) -> m.cancelUrl = v, m -> m.cancelUrl)
+            .field("brand_name", String.class, (m, v) -> m.brandName = v, m -> m.brandName)
+            .field("brand_color", String.class, (m, v) -> m.brandColor = v, m -> m.brandColor)
+            .field("phone", String.class, (m, v) -> m.phone = v, m -> m.phone)
+            .field("verification_id", String.class, (m, v) -> m.verificationId = v, m -> m.verificationId)
+            .field("token", String.class, (m, v) -> m.token = v, m -> m.token)
+            .map("metadata", (m, v) -> m.metadata = v, m -> m.metadata)
+            .field("expires_at", String.class, (m, v) -> m.expiresAt = v, m -> m.expiresAt)
+            .field("created_at", String.class, (m, v) -> m.createdAt = v, m -> m.createdAt)
+            .build();
+
     public String getId() { return id; }
     public String getUrl() { return url; }
     public String getStatus() { return status; }
@@ -14,20 +14,43 @@ public class WebhookDelivery {
     public static final String STATUS_FAILED = "failed";
     public static final String STATUS_CANCELLED = "cancelled";
 
-    private final String id;
-    private final String webhookId;
-    private final String eventId;
-    private final String eventType;
-    private final int attemptNumber;
-    private final int maxAttempts;
-    private final String status;
-    private final Integer responseStatusCode;
-    private final Integer responseTimeMs;
-    private final String errorMessage;
-    private final String errorCode;
-    private final Instant nextRetryAt;
-    private final Instant createdAt;
-    private final Instant deliveredAt;
+    private String id;
+    private String webhookId;
+    private String eventId;
+    private String eventType;
+    private int attemptNumber;
+    private int maxAttempts;
+    private String status;
+    private Integer responseStatusCode;
+    private Integer responseTimeMs;
+    private String errorMessage;
+    private String errorCode;
+    private Instant nextRetryAt;
+    private Instant createdAt;
+    private Instant deliveredAt;
+
+    static final ModelAdapter<WebhookDelivery, WebhookDelivery> ADAPTER = ModelAdapter
+            .builder(WebhookDelivery.class, WebhookDelivery::new)
+            .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+            .field("webhook_id", String.class, (m, v) -> m.webhookId = v, m -> m.webhookId)
+            .field("event_id", String.class, (m, v) -> m.eventId = v, m -> m.eventId)
+            .field("event_type", String.class, (m, v) -> m.eventType = v, m -> m.eventType)
+            .field("attempt_number", int.class, (m, v) -> m.attemptNumber = v, m -> m.attemptNumber)
+            .field("max_attempts", int.class, (m, v) -> m.maxAttempts = v, m -> m.maxAttempts)
+            .field("status", String.class, (m, v) -> m.status = v, m -> m.status)
+            .field("response_status_code", Integer.class, (m, v) -> m.responseStatusCode = v, m -> m.responseStatusCode)
+            .field("response_time_ms", Integer.class, (m, v) -> m.responseTimeMs = v, m -> m.responseTimeMs)
+            .field("error_message", String.class, (m, v) -> m.errorMessage = v, m -> m.errorMessage)
+            .field("error_code", String.class, (m, v) -> m.errorCode = v, m -> m.errorCode)
+            .field("next_retry_at", String.class, (m, v) -> m.nextRetryAt = parseInstant(v), m -> format(m.nextRetryAt))
+            .field("created_at", String.class, (m, v) -> m.createdAt = parseInstant(v), m -> format(m.createdAt))
+            .field("delivered_at", String.class, (m, v) -> m.deliveredAt = parseInstant(v), m -> format(m.deliveredAt))
+            .build();
+
+    private WebhookDelivery() {
+        this.attemptNumber = 1;
+        this.maxAttempts = 6;
+    }
 
     public WebhookDelivery(JsonObject json) {
         this.id = getStringOrNull(json, "id");
@@ -68,7 +91,7 @@ public class WebhookDelivery {
         return null;
     }
 
-    private Instant parseInstant(String value) {
+    private static Instant parseInstant(String value) {
         if (value == null) return null;
         try {
             return Instant.parse(value);
@@ -77,6 +100,10 @@ public class WebhookDelivery {
         }
     }
 
+    private static String format(Instant value) {
+        return value != null ? value.toString() : null;
+    }
+
     // Getters
     public String getId() { return id; }
     public String getWebhookId() { return webhookId; }
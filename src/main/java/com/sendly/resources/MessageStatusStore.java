@@ -0,0 +1,395 @@
+package com.sendly.resources;
+
+import com.sendly.exceptions.SendlyException;
+import com.sendly.exceptions.ValidationException;
+import com.sendly.models.Message;
+import com.sendly.webhooks.Webhooks.LazyWebhookEvent;
+import com.sendly.webhooks.Webhooks.WebhookEvent;
+import com.sendly.webhooks.Webhooks.WebhookMessageData;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Local, memory-bounded view of the latest known status of each message.
+ * <p>
+ * Feed it webhook events as they arrive and the messages returned by sends or
+ * lookups; {@link #get(String)} then answers from memory and only calls
+ * {@link Messages#get(String)} for IDs it has never seen. Updates that arrive out
+ * of order never move a message backwards: statuses are ranked
+ * {@code queued < sent < delivered/failed/bounced}, and a lower-ranked update is
+ * ignored once a higher-ranked one has been recorded.
+ * </p>
+ *
+ * <pre>{@code
+ * MessageStatusStore statuses = MessageStatusStore.builder(client.messages())
+ *     .maxEntries(200_000)
+ *     .build();
+ *
+ * // In your webhook handler
+ * statuses.update(Webhooks.parseEventLazy(payload, signature, webhookSecret));
+ *
+ * // Anywhere else
+ * if (statuses.get(messageId).isTerminal()) { ... }
+ * }</pre>
+ */
+public class MessageStatusStore {
+    private static final int RANK_UNKNOWN = -1;
+
+    private final Messages messages;
+    private final int maxEntries;
+    private final long refreshPendingAfterNanos;
+
+    /** In insertion order, so the eldest entry is the first one evicted. */
+    private final LinkedHashMap<String, MessageStatus> entries = new LinkedHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private MessageStatusStore(Builder builder) {
+        this.messages = builder.messages;
+        this.maxEntries = builder.maxEntries;
+        this.refreshPendingAfterNanos = builder.refreshPendingAfter != null ?
+                builder.refreshPendingAfter.toNanos() : 0;
+    }
+
+    /**
+     * Create a builder for a store that falls back to the given Messages resource.
+     *
+     * @param messages Messages resource used on a cache miss
+     */
+    public static Builder builder(Messages messages) {
+        return new Builder(messages);
+    }
+
+    /**
+     * Get the latest known status of a message, fetching it from the API only if
+     * the store has no entry for it.
+     *
+     * @param messageId Message ID
+     * @return The latest known status
+     * @throws SendlyException if the fallback lookup fails
+     */
+    public MessageStatus get(String messageId) throws SendlyException {
+        if (messageId == null || messageId.isEmpty()) {
+            throw new ValidationException("Message ID is required");
+        }
+
+        MessageStatus current = peek(messageId);
+        if (current != null && !isStale(current)) {
+            hits.incrementAndGet();
+            return current;
+        }
+
+        misses.incrementAndGet();
+        Message message = messages.get(messageId);
+        MessageStatus updated = update(message);
+        return updated != null ? updated : peek(messageId);
+    }
+
+    /**
+     * Get the latest known status of a message without calling the API.
+     *
+     * @param messageId Message ID
+     * @return The latest known status, or null if the store has no entry
+     */
+    public MessageStatus peek(String messageId) {
+        if (messageId == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return entries.get(messageId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Record the status carried by a webhook event.
+     *
+     * @param event Verified webhook event
+     * @return The resulting entry, or null if the event carries no message ID
+     */
+    public MessageStatus update(WebhookEvent event) {
+        WebhookMessageData data = event.getData();
+        if (data == null) {
+            return null;
+        }
+        String status = data.getStatus() != null ? data.getStatus() : statusFromType(event.getType());
+        return merge(new MessageStatus(data.getMessageId(), status,
+                parseInstant(event.getCreatedAt()),
+                parseInstant(data.getDeliveredAt()),
+                parseInstant(data.getFailedAt()),
+                data.getErrorCode(),
+                System.nanoTime()));
+    }
+
+    /**
+     * Record the status carried by a lazily parsed webhook event, without decoding its data.
+     *
+     * @param event Verified webhook event
+     * @return The resulting entry, or null if the event carries no message ID
+     */
+    public MessageStatus update(LazyWebhookEvent event) {
+        String status = event.getStatus() != null ? event.getStatus() : statusFromType(event.getType());
+        Instant at = parseInstant(event.getCreatedAt());
+        return merge(new MessageStatus(event.getMessageId(), status, at,
+                Message.STATUS_DELIVERED.equals(status) ? at : null,
+                Message.STATUS_FAILED.equals(status) ? at : null,
+                null,
+                System.nanoTime()));
+    }
+
+    /**
+     * Record the status of a message returned by a send or lookup.
+     *
+     * @param message Message returned by the API
+     * @return The resulting entry, or null if the message has no ID
+     */
+    public MessageStatus update(Message message) {
+        return merge(new MessageStatus(message.getId(), message.getStatus(),
+                message.getUpdatedAt() != null ? message.getUpdatedAt() : message.getCreatedAt(),
+                message.getDeliveredAt(),
+                message.isFailed() ? message.getUpdatedAt() : null,
+                message.getErrorCode(),
+                System.nanoTime()));
+    }
+
+    /**
+     * Record a status observed through some other channel.
+     *
+     * @param messageId Message ID
+     * @param status    Message status (see {@link Message} status constants)
+     * @param at        When the status was reached, if known
+     * @return The resulting entry, or null if no message ID was given
+     */
+    public MessageStatus update(String messageId, String status, Instant at) {
+        return merge(new MessageStatus(messageId, status, at,
+                Message.STATUS_DELIVERED.equals(status) ? at : null,
+                Message.STATUS_FAILED.equals(status) ? at : null,
+                null,
+                System.nanoTime()));
+    }
+
+    /**
+     * Forget a message.
+     */
+    public void remove(String messageId) {
+        if (messageId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            entries.remove(messageId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of messages currently tracked.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of {@link #get(String)} calls answered from memory.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of {@link #get(String)} calls that fell back to the API.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private MessageStatus merge(MessageStatus incoming) {
+        if (incoming.messageId == null || incoming.messageId.isEmpty()) {
+            return null;
+        }
+
+        lock.writeLock().lock();
+        try {
+            MessageStatus current = entries.get(incoming.messageId);
+            if (current != null) {
+                // Replacing the value of an existing key keeps its place in the eviction order
+                MessageStatus merged = current.merge(incoming);
+                entries.put(incoming.messageId, merged);
+                return merged;
+            }
+            entries.put(incoming.messageId, incoming);
+            Iterator<String> eldest = entries.keySet().iterator();
+            while (entries.size() > maxEntries) {
+                eldest.next();
+                eldest.remove();
+            }
+            return incoming;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isStale(MessageStatus status) {
+        return refreshPendingAfterNanos > 0 && !status.isTerminal()
+                && System.nanoTime() - status.recordedAtNanos > refreshPendingAfterNanos;
+    }
+
+    private static String statusFromType(String type) {
+        return type != null && type.startsWith("message.") ? type.substring("message.".length()) : null;
+    }
+
+    private static Instant parseInstant(String value) {
+        if (value == null) return null;
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    static int rank(String status) {
+        if (status == null) {
+            return RANK_UNKNOWN;
+        }
+        switch (status) {
+            case Message.STATUS_QUEUED:
+                return 0;
+            case Message.STATUS_SENT:
+                return 1;
+            case Message.STATUS_DELIVERED:
+            case Message.STATUS_FAILED:
+            case Message.STATUS_BOUNCED:
+                return 2;
+            default:
+                return RANK_UNKNOWN;
+        }
+    }
+
+    /**
+     * Latest known status of a single message.
+     */
+    public static class MessageStatus {
+        private final String messageId;
+        private final String status;
+        private final Instant updatedAt;
+        private final Instant deliveredAt;
+        private final Instant failedAt;
+        private final String errorCode;
+        private final long recordedAtNanos;
+
+        MessageStatus(String messageId, String status, Instant updatedAt, Instant deliveredAt,
+                      Instant failedAt, String errorCode, long recordedAtNanos) {
+            this.messageId = messageId;
+            this.status = status;
+            this.updatedAt = updatedAt;
+            this.deliveredAt = deliveredAt;
+            this.failedAt = failedAt;
+            this.errorCode = errorCode;
+            this.recordedAtNanos = recordedAtNanos;
+        }
+
+        /**
+         * Combine with a newer observation. The higher-ranked status wins; between
+         * two terminal statuses the one with the later timestamp wins. Timestamps
+         * missing on the winner are filled in from the other observation.
+         */
+        MessageStatus merge(MessageStatus other) {
+            int thisRank = rank(status);
+            int otherRank = rank(other.status);
+
+            MessageStatus winner;
+            MessageStatus loser;
+            if (otherRank > thisRank) {
+                winner = other;
+                loser = this;
+            } else if (otherRank < thisRank) {
+                winner = this;
+                loser = other;
+            } else if (other.updatedAt != null && (updatedAt == null || other.updatedAt.isAfter(updatedAt))) {
+                winner = other;
+                loser = this;
+            } else if (status != null && status.equals(other.status)) {
+                winner = this;
+                loser = other;
+            } else {
+                return this;
+            }
+
+            return new MessageStatus(messageId, winner.status,
+                    winner.updatedAt != null ? winner.updatedAt : loser.updatedAt,
+                    winner.deliveredAt != null ? winner.deliveredAt : loser.deliveredAt,
+                    winner.failedAt != null ? winner.failedAt : loser.failedAt,
+                    winner.errorCode != null ? winner.errorCode : loser.errorCode,
+                    Math.max(recordedAtNanos, other.recordedAtNanos));
+        }
+
+        public String getMessageId() { return messageId; }
+        public String getStatus() { return status; }
+        public Instant getUpdatedAt() { return updatedAt; }
+        public Instant getDeliveredAt() { return deliveredAt; }
+        public Instant getFailedAt() { return failedAt; }
+        public String getErrorCode() { return errorCode; }
+
+        /**
+         * Check if the message has reached a final status (delivered, failed or bounced).
+         */
+        public boolean isTerminal() {
+            return rank(status) == 2;
+        }
+
+        @Override
+        public String toString() {
+            return "MessageStatus{messageId='" + messageId + "', status='" + status + "', updatedAt=" + updatedAt + '}';
+        }
+    }
+
+    /**
+     * Builder for MessageStatusStore.
+     */
+    public static class Builder {
+        private final Messages messages;
+        private int maxEntries = 100_000;
+        private Duration refreshPendingAfter;
+
+        private Builder(Messages messages) {
+            this.messages = messages;
+        }
+
+        /**
+         * Maximum number of messages tracked; the oldest entries are evicted first. Default 100,000.
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = Math.max(maxEntries, 1);
+            return this;
+        }
+
+        /**
+         * Re-fetch a message that is still queued or sent if nothing has been recorded
+         * for it in this long. Disabled by default, so only misses reach the API.
+         */
+        public Builder refreshPendingAfter(Duration refreshPendingAfter) {
+            this.refreshPendingAfter = refreshPendingAfter;
+            return this;
+        }
+
+        public MessageStatusStore build() {
+            return new MessageStatusStore(this);
+        }
+    }
+}
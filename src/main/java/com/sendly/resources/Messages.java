@@ -1,6 +1,7 @@
 package com.sendly.resources;
 
 import com.google.gson.JsonObject;
+import com.sendly.SendResult;
 import com.sendly.Sendly;
 import com.sendly.exceptions.SendlyException;
 import com.sendly.exceptions.ValidationException;
@@ -14,6 +15,7 @@ import com.sendly.models.ListMessagesRequest;
 import com.sendly.models.ListScheduledMessagesRequest;
 import com.sendly.models.Message;
 import com.sendly.models.MessageList;
+import com.sendly.models.MessageLookupResult;
 import com.sendly.models.ScheduledMessage;
 import com.sendly.models.ScheduledMessageList;
 import com.sendly.models.ScheduleMessageRequest;
@@ -23,10 +25,19 @@ import com.sendly.models.SendMessageRequest;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 /**
@@ -35,6 +46,7 @@ import java.util.regex.Pattern;
 public class Messages {
     private static final Pattern PHONE_PATTERN = Pattern.compile("^\\+[1-9]\\d{1,14}$");
     private static final int MAX_TEXT_LENGTH = 1600;
+    private static final int DEFAULT_LOOKUP_CONCURRENCY = 8;
 
     private final Sendly client;
 
@@ -65,12 +77,47 @@ public class Messages {
         validatePhone(request.getTo());
         validateText(request.getText());
 
-        JsonObject response = client.post("/messages", request);
+        return toMessage(client.post("/messages", request));
+    }
+
+    /**
+     * Send an SMS message, returning any error instead of throwing it.
+     *
+     * @param to   Recipient phone number in E.164 format
+     * @param text Message content
+     * @return The sent message, or the error
+     * @see SendResult
+     */
+    public SendResult<Message> trySend(String to, String text) {
+        return trySend(new SendMessageRequest(to, text));
+    }
+
+    /**
+     * Send an SMS message, returning any error instead of throwing it.
+     *
+     * @param request Send message request
+     * @return The sent message, or the error
+     * @see SendResult
+     */
+    public SendResult<Message> trySend(SendMessageRequest request) {
+        if (request == null) {
+            return SendResult.failure(new ValidationException("Request is required", false));
+        }
+        String invalid = phoneError(request.getTo());
+        if (invalid == null) {
+            invalid = textError(request.getText());
+        }
+        if (invalid != null) {
+            return SendResult.failure(new ValidationException(invalid, false));
+        }
+        return client.tryPost("/messages", request).map(this::toMessage);
+    }
+
+    private Message toMessage(JsonObject response) {
         JsonObject data = response.has("message") ?
                 response.getAsJsonObject("message") :
                 response.has("data") ? response.getAsJsonObject("data") : response;
-
-        return new Message(data);
+        return client.getCodec().bind(data, Message.class);
     }
 
     /**
@@ -92,7 +139,7 @@ public class Messages {
      */
     public MessageList list(ListMessagesRequest request) throws SendlyException {
         JsonObject response = client.get("/messages", request.toParams());
-        return new MessageList(response);
+        return client.getCodec().bind(response, MessageList.class);
     }
 
     /**
@@ -112,11 +159,129 @@ public class Messages {
                 response.getAsJsonObject("data") :
                 response.has("message") ? response.getAsJsonObject("message") : response;
 
-        return new Message(data);
+        return client.getCodec().bind(data, Message.class);
     }
 
     /**
-     * Iterate over all messages with automatic pagination.
+     * Get many messages by ID, looking them up in parallel.
+     *
+     * @param ids Message IDs (duplicates are looked up once)
+     * @return Found messages and per-ID errors
+     * @throws SendlyException if the calling thread is interrupted
+     */
+    public MessageLookupResult getAll(Collection<String> ids) throws SendlyException {
+        return getAll(ids, DEFAULT_LOOKUP_CONCURRENCY);
+    }
+
+    /**
+     * Get many messages by ID, looking them up in parallel.
+     * <p>
+     * A failed lookup does not abort the others; its error is reported under its ID
+     * in {@link MessageLookupResult#getErrors()}.
+     * </p>
+     *
+     * @param ids         Message IDs (duplicates are looked up once)
+     * @param concurrency Maximum number of lookups in flight at once
+     * @return Found messages and per-ID errors
+     * @throws SendlyException if the calling thread is interrupted
+     */
+    public MessageLookupResult getAll(Collection<String> ids, int concurrency) throws SendlyException {
+        Map<String, Message> found = new ConcurrentHashMap<>();
+        Map<String, SendlyException> errors = new ConcurrentHashMap<>();
+        List<String> unique = getAll(ids, concurrency, new LookupCallback() {
+            @Override
+            public void onMessage(String id, Message message) {
+                found.put(id, message);
+            }
+
+            @Override
+            public void onError(String id, SendlyException error) {
+                errors.put(id, error);
+            }
+        });
+        return new MessageLookupResult(unique, found, errors);
+    }
+
+    /**
+     * Get many messages by ID, streaming each result to a callback as it arrives.
+     * <p>
+     * The callback is invoked from several threads at once and must be thread-safe.
+     * The call returns once every ID has been reported.
+     * </p>
+     *
+     * @param ids         Message IDs (duplicates are looked up once)
+     * @param concurrency Maximum number of lookups in flight at once
+     * @param callback    Receives each message or error
+     * @return The deduplicated IDs, in request order
+     * @throws SendlyException if the calling thread is interrupted
+     */
+    public List<String> getAll(Collection<String> ids, int concurrency, LookupCallback callback) throws SendlyException {
+        if (ids == null) {
+            throw new ValidationException("Message IDs are required");
+        }
+
+        List<String> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+        unique.remove(null);
+        if (unique.isEmpty()) {
+            return unique;
+        }
+
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < unique.size()) {
+                String id = unique.get(index);
+                Message message;
+                try {
+                    message = get(id);
+                } catch (SendlyException e) {
+                    callback.onError(id, e);
+                    continue;
+                } catch (RuntimeException e) {
+                    // An unreadable response still has to be reported against its ID
+                    SendlyException error = new SendlyException("Message lookup failed: " + e.getMessage());
+                    error.initCause(e);
+                    callback.onError(id, error);
+                    continue;
+                }
+                callback.onMessage(id, message);
+            }
+        };
+
+        // The calling thread is one of the workers
+        int workers = Math.max(1, Math.min(concurrency, unique.size()));
+        ExecutorService executor = null;
+        if (workers > 1) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(workers - 1, task -> {
+                Thread thread = new Thread(task, "sendly-lookup-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            for (int i = 1; i < workers; i++) {
+                executor.execute(worker);
+            }
+            executor.shutdown();
+        }
+        worker.run();
+
+        if (executor != null) {
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                next.set(unique.size());
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new SendlyException("Message lookup interrupted");
+            }
+        }
+        return unique;
+    }
+
+    /**
+     * Iterate over all messages with automatic pagination. A page that cannot be fetched,
+     * including once the client has been shut down, fails the iteration with a
+     * {@link RuntimeException} whose cause is the {@link SendlyException}.
      *
      * @return Iterable over all messages
      */
@@ -131,7 +296,28 @@ public class Messages {
      * @return Iterable over all messages
      */
     public Iterable<Message> each(ListMessagesRequest request) {
-        return () -> new MessageIterator(this, request);
+        return () -> iterate(request);
+    }
+
+    /**
+     * Iterate over all messages like {@link #each()}, with an iterator that can be
+     * closed to stop fetching pages.
+     *
+     * @return Iterator over all messages
+     */
+    public MessageIterator iterate() {
+        return iterate(ListMessagesRequest.builder().build());
+    }
+
+    /**
+     * Iterate over all messages like {@link #each(ListMessagesRequest)}, with an
+     * iterator that can be closed to stop fetching pages.
+     *
+     * @param request List options (status, to filters)
+     * @return Iterator over all messages
+     */
+    public MessageIterator iterate(ListMessagesRequest request) {
+        return new MessageIterator(this, request);
     }
 
     // ==================== Scheduling Methods ====================
@@ -251,6 +437,33 @@ public class Messages {
         return new BatchMessageResponse(response);
     }
 
+    /**
+     * Send a batch of messages, returning any error instead of throwing it.
+     *
+     * @param request Batch send request
+     * @return The batch response with results, or the error
+     * @see SendResult
+     */
+    public SendResult<BatchMessageResponse> trySendBatch(SendBatchRequest request) {
+        if (request == null || request.getMessages() == null || request.getMessages().isEmpty()) {
+            return SendResult.failure(new ValidationException("At least one message is required", false));
+        }
+        for (BatchMessageItem item : request.getMessages()) {
+            if (item == null) {
+                return SendResult.failure(new ValidationException("Batch message is required", false));
+            }
+            String invalid = phoneError(item.getTo());
+            if (invalid == null) {
+                invalid = textError(item.getText());
+            }
+            if (invalid != null) {
+                return SendResult.failure(new ValidationException(invalid, false));
+            }
+        }
+
+        return client.tryPost("/messages/batch", request).map(BatchMessageResponse::new);
+    }
+
     /**
      * Get a batch by ID.
      *
@@ -315,22 +528,34 @@ public class Messages {
     // ==================== Validation Helpers ====================
 
     private void validatePhone(String phone) throws ValidationException {
-        if (phone == null || !PHONE_PATTERN.matcher(phone).matches()) {
-            throw new ValidationException(
-                "Invalid phone number format. Use E.164 format (e.g., +15551234567)"
-            );
+        String error = phoneError(phone);
+        if (error != null) {
+            throw new ValidationException(error);
         }
     }
 
     private void validateText(String text) throws ValidationException {
+        String error = textError(text);
+        if (error != null) {
+            throw new ValidationException(error);
+        }
+    }
+
+    private static String phoneError(String phone) {
+        if (phone == null || !PHONE_PATTERN.matcher(phone).matches()) {
+            return "Invalid phone number format. Use E.164 format (e.g., +15551234567)";
+        }
+        return null;
+    }
+
+    private static String textError(String text) {
         if (text == null || text.isEmpty()) {
-            throw new ValidationException("Message text is required");
+            return "Message text is required";
         }
         if (text.length() > MAX_TEXT_LENGTH) {
-            throw new ValidationException(
-                "Message text exceeds maximum length (" + MAX_TEXT_LENGTH + " characters)"
-            );
+            return "Message text exceeds maximum length (" + MAX_TEXT_LENGTH + " characters)";
         }
+        return null;
     }
 
     private void validateScheduledAt(String scheduledAt) throws ValidationException {
@@ -354,10 +579,30 @@ public class Messages {
         }
     }
 
+    /**
+     * Receives the results of {@link #getAll(Collection, int, LookupCallback)}.
+     */
+    public interface LookupCallback {
+        /**
+         * Called when a message was found.
+         */
+        void onMessage(String id, Message message);
+
+        /**
+         * Called when the lookup for an ID failed.
+         */
+        void onError(String id, SendlyException error);
+    }
+
     /**
      * Iterator for paginating through all messages.
+     * <p>
+     * {@link #close()} cancels this iterator alone, leaving the client and its other
+     * calls running. It may be called from another thread: a page fetch in progress
+     * completes, but no further page is requested and the iteration ends.
+     * </p>
      */
-    private static class MessageIterator implements Iterator<Message> {
+    public static final class MessageIterator implements Iterator<Message>, AutoCloseable {
         private final Messages messages;
         private final String status;
         private final String to;
@@ -366,6 +611,7 @@ public class Messages {
         private MessageList currentPage;
         private Iterator<Message> pageIterator;
         private int offset;
+        private volatile boolean closed;
 
         MessageIterator(Messages messages, ListMessagesRequest request) {
             this.messages = messages;
@@ -395,6 +641,9 @@ public class Messages {
 
         @Override
         public boolean hasNext() {
+            if (closed) {
+                return false;
+            }
             if (pageIterator.hasNext()) {
                 return true;
             }
@@ -412,5 +661,14 @@ public class Messages {
             }
             return pageIterator.next();
         }
+
+        /**
+         * Stop the iteration: {@link #hasNext()} returns false from now on and no more
+         * pages are fetched.
+         */
+        @Override
+        public void close() {
+            closed = true;
+        }
     }
 }
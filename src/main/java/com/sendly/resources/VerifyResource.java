@@ -1,5 +1,6 @@
 package com.sendly.resources;
 
+import com.sendly.SendResult;
 import com.sendly.Sendly;
 import com.sendly.models.*;
 import com.sendly.exceptions.*;
@@ -46,6 +47,18 @@ public class VerifyResource {
         return client.request("POST", "/verify/" + verificationId + "/check", body, CheckVerificationResponse.class);
     }
 
+    /**
+     * Check an OTP code, returning any error, such as a wrong or expired code, instead
+     * of throwing it.
+     *
+     * @see SendResult
+     */
+    public SendResult<CheckVerificationResponse> tryCheck(String verificationId, String code) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("code", code);
+        return client.tryPost("/verify/" + verificationId + "/check", body, CheckVerificationResponse.class);
+    }
+
     /**
      * Get a verification by ID.
      */
@@ -0,0 +1,329 @@
+package com.sendly.resources;
+
+import com.sendly.exceptions.SendlyException;
+import com.sendly.models.ListWebhookDeliveriesRequest;
+import com.sendly.models.WebhookDelivery;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Re-drives failed webhook deliveries with bounded concurrency and a rate limit.
+ * <p>
+ * A run first pages through the webhook's delivery history and collects failed
+ * deliveries that have no automatic retry scheduled before the cutoff (see
+ * {@link Builder#nextRetryBefore(Instant)}). It then retries them on a fixed pool
+ * of worker threads, never starting more than {@code maxRetriesPerSecond} retries
+ * per second. Collecting first keeps offset paging stable while retries move
+ * deliveries out of the failed state.
+ * </p>
+ *
+ * <pre>{@code
+ * WebhookDeliveryReconciler.Summary summary = client.webhooks().reconciler("whk_xxx")
+ *     .concurrency(8)
+ *     .maxRetriesPerSecond(20)
+ *     .onProgress(p -> System.out.println(p.getCompleted() + "/" + p.getMatched()))
+ *     .build()
+ *     .run();
+ *
+ * summary.getFailures().forEach((deliveryId, e) ->
+ *     System.err.println(deliveryId + ": " + e.getMessage()));
+ * }</pre>
+ */
+public class WebhookDeliveryReconciler {
+    private final WebhooksResource webhooks;
+    private final String webhookId;
+    private final int concurrency;
+    private final int pageSize;
+    private final long permitIntervalNanos;
+    private final Instant nextRetryBefore;
+    private final Consumer<Summary> progressListener;
+
+    private WebhookDeliveryReconciler(Builder builder) {
+        this.webhooks = builder.webhooks;
+        this.webhookId = builder.webhookId;
+        this.concurrency = builder.concurrency;
+        this.pageSize = builder.pageSize;
+        this.permitIntervalNanos = builder.maxRetriesPerSecond > 0 ?
+                TimeUnit.SECONDS.toNanos(1) / builder.maxRetriesPerSecond : 0;
+        this.nextRetryBefore = builder.nextRetryBefore;
+        this.progressListener = builder.progressListener;
+    }
+
+    static Builder builder(WebhooksResource webhooks, String webhookId) {
+        return new Builder(webhooks, webhookId);
+    }
+
+    /**
+     * Scan the delivery history and retry every eligible failed delivery.
+     * Blocks until all retries have finished.
+     *
+     * @return Summary of the run, including per-delivery failures
+     * @throws SendlyException if listing deliveries fails or the run is interrupted
+     */
+    public Summary run() throws SendlyException {
+        long startedAt = System.nanoTime();
+        Instant cutoff = nextRetryBefore != null ? nextRetryBefore : Instant.now();
+        Run run = new Run(startedAt);
+
+        List<WebhookDelivery> eligible = collect(cutoff, run);
+        run.matched.set(eligible.size());
+        if (eligible.isEmpty()) {
+            return run.snapshot(true);
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, eligible.size()), task -> {
+            Thread thread = new Thread(task, "sendly-reconciler-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        AtomicLong nextPermitAt = new AtomicLong(System.nanoTime());
+        try {
+            for (WebhookDelivery delivery : eligible) {
+                executor.execute(() -> {
+                    acquirePermit(nextPermitAt);
+                    retry(delivery, run);
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new SendlyException("Delivery reconciliation interrupted");
+        }
+
+        return run.snapshot(true);
+    }
+
+    private List<WebhookDelivery> collect(Instant cutoff, Run run) throws SendlyException {
+        List<WebhookDelivery> eligible = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        int offset = 0;
+
+        while (true) {
+            List<WebhookDelivery> page = webhooks.getDeliveries(webhookId,
+                    ListWebhookDeliveriesRequest.builder()
+                            .limit(pageSize)
+                            .offset(offset)
+                            .status(WebhookDelivery.STATUS_FAILED)
+                            .build());
+
+            boolean progressed = false;
+            for (WebhookDelivery delivery : page) {
+                if (delivery.getId() == null || !seen.add(delivery.getId())) {
+                    continue;
+                }
+                progressed = true;
+                run.scanned.incrementAndGet();
+                if (isEligible(delivery, cutoff)) {
+                    eligible.add(delivery);
+                } else {
+                    run.skipped.incrementAndGet();
+                }
+            }
+
+            // Stop on a short page, or if the server ignored paging and repeated itself
+            if (page.size() < pageSize || !progressed) {
+                return eligible;
+            }
+            offset += page.size();
+        }
+    }
+
+    private boolean isEligible(WebhookDelivery delivery, Instant cutoff) {
+        if (!delivery.isFailed()) {
+            return false;
+        }
+        Instant nextRetryAt = delivery.getNextRetryAt();
+        return nextRetryAt == null || nextRetryAt.isBefore(cutoff);
+    }
+
+    private void retry(WebhookDelivery delivery, Run run) {
+        try {
+            webhooks.retryDelivery(webhookId, delivery.getId());
+            run.retried.incrementAndGet();
+        } catch (SendlyException e) {
+            run.failures.put(delivery.getId(), e);
+        } catch (RuntimeException e) {
+            // e.g. an unparseable error page; still counted so the summary adds up
+            run.failures.put(delivery.getId(), new SendlyException(
+                    "Delivery retry failed: " + e.getMessage(), 0, null, e, true));
+        }
+        if (progressListener != null) {
+            try {
+                progressListener.accept(run.snapshot(false));
+            } catch (RuntimeException ignored) {
+                // A failing listener must not stop the run or change its counts
+            }
+        }
+    }
+
+    private void acquirePermit(AtomicLong nextPermitAt) {
+        if (permitIntervalNanos == 0) {
+            return;
+        }
+        long slot;
+        while (true) {
+            long next = nextPermitAt.get();
+            slot = Math.max(next, System.nanoTime());
+            if (nextPermitAt.compareAndSet(next, slot + permitIntervalNanos)) {
+                break;
+            }
+        }
+        long wait;
+        while ((wait = slot - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private static final class Run {
+        final long startedAt;
+        final AtomicInteger scanned = new AtomicInteger();
+        final AtomicInteger matched = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+        final AtomicInteger retried = new AtomicInteger();
+        final Map<String, SendlyException> failures = new ConcurrentHashMap<>();
+
+        Run(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        Summary snapshot(boolean withFailures) {
+            return new Summary(scanned.get(), matched.get(), skipped.get(), retried.get(), failures.size(),
+                    withFailures ? new LinkedHashMap<>(failures) : Collections.emptyMap(),
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    /**
+     * Progress and outcome of a reconciliation run.
+     */
+    public static class Summary {
+        private final int scanned;
+        private final int matched;
+        private final int skipped;
+        private final int retried;
+        private final int failed;
+        private final Map<String, SendlyException> failures;
+        private final Duration elapsed;
+
+        Summary(int scanned, int matched, int skipped, int retried, int failed,
+                Map<String, SendlyException> failures, Duration elapsed) {
+            this.scanned = scanned;
+            this.matched = matched;
+            this.skipped = skipped;
+            this.retried = retried;
+            this.failed = failed;
+            this.failures = Collections.unmodifiableMap(failures);
+            this.elapsed = elapsed;
+        }
+
+        /** Deliveries seen while paging. */
+        public int getScanned() { return scanned; }
+        /** Deliveries selected for retry. */
+        public int getMatched() { return matched; }
+        /** Deliveries left alone because they are not failed or an automatic retry is already scheduled. */
+        public int getSkipped() { return skipped; }
+        /** Deliveries successfully re-queued. */
+        public int getRetried() { return retried; }
+        /** Deliveries whose retry request failed. */
+        public int getFailed() { return failed; }
+        /**
+         * Errors for deliveries whose retry request failed, keyed by delivery ID.
+         * Only populated on the summary returned by {@link #run()}, not on progress snapshots.
+         */
+        public Map<String, SendlyException> getFailures() { return failures; }
+        /** Retries finished so far, successful or not. */
+        public int getCompleted() { return retried + failed; }
+        public Duration getElapsed() { return elapsed; }
+
+        @Override
+        public String toString() {
+            return "Summary{scanned=" + scanned + ", matched=" + matched + ", skipped=" + skipped +
+                    ", retried=" + retried + ", failed=" + failed + ", elapsed=" + elapsed + '}';
+        }
+    }
+
+    /**
+     * Builder for WebhookDeliveryReconciler.
+     */
+    public static class Builder {
+        private final WebhooksResource webhooks;
+        private final String webhookId;
+        private int concurrency = 4;
+        private int pageSize = 100;
+        private int maxRetriesPerSecond = 10;
+        private Instant nextRetryBefore;
+        private Consumer<Summary> progressListener;
+
+        private Builder(WebhooksResource webhooks, String webhookId) {
+            this.webhooks = webhooks;
+            this.webhookId = webhookId;
+        }
+
+        /**
+         * Maximum number of retry requests in flight at once. Default 4.
+         */
+        public Builder concurrency(int concurrency) {
+            this.concurrency = Math.max(concurrency, 1);
+            return this;
+        }
+
+        /**
+         * Number of deliveries requested per page while scanning. Default 100.
+         */
+        public Builder pageSize(int pageSize) {
+            this.pageSize = Math.max(1, Math.min(pageSize, 100));
+            return this;
+        }
+
+        /**
+         * Maximum number of retry requests started per second; 0 disables the limit. Default 10.
+         */
+        public Builder maxRetriesPerSecond(int maxRetriesPerSecond) {
+            this.maxRetriesPerSecond = Math.max(maxRetriesPerSecond, 0);
+            return this;
+        }
+
+        /**
+         * Only retry failed deliveries whose automatic retry is not scheduled, or is
+         * scheduled before this instant. Defaults to the start of the run, so
+         * deliveries the server is still going to retry on its own are skipped.
+         */
+        public Builder nextRetryBefore(Instant nextRetryBefore) {
+            this.nextRetryBefore = nextRetryBefore;
+            return this;
+        }
+
+        /**
+         * Called from worker threads with a snapshot after each retry finishes.
+         * Exceptions thrown by the listener are ignored.
+         */
+        public Builder onProgress(Consumer<Summary> progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        public WebhookDeliveryReconciler build() {
+            return new WebhookDeliveryReconciler(this);
+        }
+    }
+}
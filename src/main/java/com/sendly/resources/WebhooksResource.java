@@ -2,6 +2,7 @@ package com.sendly.resources;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.sendly.JsonCodec;
 import com.sendly.Sendly;
 import com.sendly.exceptions.SendlyException;
 import com.sendly.exceptions.ValidationException;
@@ -145,11 +146,26 @@ public class WebhooksResource {
      * Get delivery history for a webhook.
      */
     public List<WebhookDelivery> getDeliveries(String webhookId) throws SendlyException {
+        return getDeliveries(webhookId, null);
+    }
+
+    /**
+     * Get one page of delivery history for a webhook.
+     *
+     * @param webhookId Webhook ID
+     * @param request   Paging and status filter (can be null)
+     * @return Deliveries on the requested page
+     * @throws SendlyException if the request fails
+     */
+    public List<WebhookDelivery> getDeliveries(String webhookId, ListWebhookDeliveriesRequest request) throws SendlyException {
         validateWebhookId(webhookId);
-        JsonObject response = client.get("/webhooks/" + webhookId + "/deliveries", null);
+        Map<String, String> params = request != null ? request.toParams() : null;
+        JsonObject response = client.get("/webhooks/" + webhookId + "/deliveries",
+                params == null || params.isEmpty() ? null : params);
         List<WebhookDelivery> deliveries = new ArrayList<>();
         if (response.has("data") && response.get("data").isJsonArray()) {
-            response.getAsJsonArray("data").forEach(e -> deliveries.add(new WebhookDelivery(e.getAsJsonObject())));
+            JsonCodec codec = client.getCodec();
+            response.getAsJsonArray("data").forEach(e -> deliveries.add(codec.bind(e.getAsJsonObject(), WebhookDelivery.class)));
         }
         return deliveries;
     }
@@ -165,6 +181,25 @@ public class WebhooksResource {
         client.post("/webhooks/" + webhookId + "/deliveries/" + deliveryId + "/retry", new JsonObject());
     }
 
+    /**
+     * Create a reconciler that re-drives failed deliveries for a webhook in parallel.
+     *
+     * <pre>{@code
+     * WebhookDeliveryReconciler.Summary summary = client.webhooks().reconciler("whk_xxx")
+     *     .concurrency(8)
+     *     .maxRetriesPerSecond(20)
+     *     .build()
+     *     .run();
+     * }</pre>
+     *
+     * @param webhookId Webhook ID
+     * @return Reconciler builder
+     */
+    public WebhookDeliveryReconciler.Builder reconciler(String webhookId) {
+        validateWebhookId(webhookId);
+        return WebhookDeliveryReconciler.builder(this, webhookId);
+    }
+
     /**
      * List available webhook event types.
      *
@@ -0,0 +1,30 @@
+package com.sendly.webhooks;
+
+import com.sendly.webhooks.Webhooks.WebhookEvent;
+
+import java.util.List;
+
+/**
+ * Destination for batches of verified webhook events.
+ * <p>
+ * Implementations typically write the whole batch to storage in one round trip
+ * (a multi-row insert, a bulk index request, a single queue publish).
+ * </p>
+ *
+ * @see WebhookEventBatcher
+ */
+@FunctionalInterface
+public interface BatchSink {
+    /**
+     * Write a batch of events.
+     * <p>
+     * Returning normally acknowledges every event in the batch. Throwing causes
+     * the whole batch to be retried; the sink must therefore tolerate seeing the
+     * same events more than once (for example by upserting on event ID).
+     * </p>
+     *
+     * @param batch Events in arrival order, never empty
+     * @throws Exception if the batch could not be written
+     */
+    void write(List<WebhookEvent> batch) throws Exception;
+}
@@ -0,0 +1,407 @@
+package com.sendly.webhooks;
+
+import com.sendly.webhooks.Webhooks.WebhookEvent;
+import com.sendly.webhooks.Webhooks.WebhookMessageData;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Accumulates verified webhook events and hands them to a {@link BatchSink} in groups.
+ * <p>
+ * Receivers call {@link #add(WebhookEvent)} from any number of threads; events go
+ * onto a lock-free queue drained by a single flusher thread. A batch is flushed when
+ * it reaches {@code maxBatchSize} events, {@code maxBatchBytes} estimated bytes, or
+ * when its oldest event has waited {@code flushInterval}. A batch the sink rejects
+ * is retried as a whole with exponential backoff; once retries are exhausted it is
+ * passed to the failure handler.
+ * </p>
+ *
+ * <pre>{@code
+ * WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> receiptDao.insertAll(batch))
+ *     .maxBatchSize(500)
+ *     .flushInterval(Duration.ofMillis(250))
+ *     .build();
+ *
+ * // In your webhook handler
+ * WebhookEvent event = Webhooks.parseEvent(payload, signature, webhookSecret);
+ * if (!batcher.add(event, payload.length())) {
+ *     return ResponseEntity.status(503).body("Busy");
+ * }
+ *
+ * // On shutdown
+ * batcher.close();
+ * }</pre>
+ */
+public class WebhookEventBatcher implements AutoCloseable {
+    private final BatchSink sink;
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final long flushIntervalNanos;
+    private final int maxPendingEvents;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final BiConsumer<List<WebhookEvent>, Exception> failureHandler;
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong pendingBytes = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    /** Calls to add() between their closed check and their offer. */
+    private final AtomicInteger activeAdders = new AtomicInteger();
+    private final Thread flusher;
+
+    private volatile boolean closed;
+    private volatile boolean flushRequested;
+
+    private WebhookEventBatcher(Builder builder) {
+        this.sink = builder.sink;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxBatchBytes = builder.maxBatchBytes;
+        this.flushIntervalNanos = builder.flushInterval.toNanos();
+        this.maxPendingEvents = builder.maxPendingEvents;
+        this.maxRetries = builder.maxRetries;
+        this.retryBackoff = builder.retryBackoff;
+        this.failureHandler = builder.failureHandler;
+
+        this.flusher = new Thread(this::runFlusher, "sendly-webhook-batcher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Create a builder for a batcher writing to the given sink.
+     *
+     * @param sink Destination for flushed batches
+     */
+    public static Builder builder(BatchSink sink) {
+        return new Builder(sink);
+    }
+
+    /**
+     * Queue an event, estimating its size from its fields.
+     *
+     * @param event Verified webhook event
+     * @return true if queued, false if the batcher is closed or full
+     */
+    public boolean add(WebhookEvent event) {
+        return add(event, estimateSize(event));
+    }
+
+    /**
+     * Queue an event with a known size, typically the length of the raw payload.
+     *
+     * @param event     Verified webhook event
+     * @param sizeBytes Size counted towards {@code maxBatchBytes}
+     * @return true if queued, false if the batcher is closed or full
+     */
+    public boolean add(WebhookEvent event, int sizeBytes) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event is required");
+        }
+
+        // close() waits for this to drop back to zero before its final drain
+        activeAdders.incrementAndGet();
+        try {
+            if (closed) {
+                return false;
+            }
+
+            int count = pendingCount.incrementAndGet();
+            if (count > maxPendingEvents) {
+                pendingCount.decrementAndGet();
+                return false;
+            }
+
+            queue.offer(new Entry(event, Math.max(sizeBytes, 0), System.nanoTime()));
+            long bytes = pendingBytes.addAndGet(Math.max(sizeBytes, 0));
+
+            if (count >= maxBatchSize || bytes >= maxBatchBytes) {
+                LockSupport.unpark(flusher);
+            }
+            return true;
+        } finally {
+            activeAdders.decrementAndGet();
+        }
+    }
+
+    /**
+     * Ask the flusher to write whatever is pending without waiting for a threshold.
+     * Returns immediately.
+     */
+    public void flush() {
+        flushRequested = true;
+        LockSupport.unpark(flusher);
+    }
+
+    /**
+     * Stop accepting events, flush everything pending and wait for the flusher to finish.
+     * Every event for which {@link #add} returned true is handed to the sink or the
+     * failure handler before this returns.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // An add() that passed its closed check before this point is still offering its event
+        while (activeAdders.get() > 0) {
+            Thread.onSpinWait();
+        }
+        LockSupport.unpark(flusher);
+
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        // Anything the flusher left behind if it stopped on an error
+        List<WebhookEvent> batch;
+        while (!(batch = drain()).isEmpty()) {
+            deliver(batch);
+        }
+    }
+
+    /**
+     * Get the number of events queued but not yet handed to the sink.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Get the number of events acknowledged by the sink.
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Get the number of events passed to the failure handler after exhausting retries.
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void runFlusher() {
+        while (true) {
+            Entry head = queue.peek();
+            if (head == null) {
+                if (closed) {
+                    return;
+                }
+                flushRequested = false;
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+
+            long waited = System.nanoTime() - head.enqueuedAt;
+            boolean due = closed || flushRequested
+                    || pendingCount.get() >= maxBatchSize
+                    || pendingBytes.get() >= maxBatchBytes
+                    || waited >= flushIntervalNanos;
+
+            if (!due) {
+                LockSupport.parkNanos(this, flushIntervalNanos - waited);
+                continue;
+            }
+
+            flushRequested = false;
+            try {
+                deliver(drain());
+            } catch (Throwable t) {
+                // Keep flushing; deliver() already reported the batch if it got that far
+            }
+        }
+    }
+
+    private List<WebhookEvent> drain() {
+        List<WebhookEvent> batch = new ArrayList<>(Math.min(Math.max(pendingCount.get(), 1), maxBatchSize));
+        long bytes = 0;
+        Entry entry;
+        while (batch.size() < maxBatchSize && (entry = queue.peek()) != null) {
+            if (!batch.isEmpty() && bytes + entry.sizeBytes > maxBatchBytes) {
+                break;
+            }
+            queue.poll();
+            batch.add(entry.event);
+            bytes += entry.sizeBytes;
+        }
+        pendingCount.addAndGet(-batch.size());
+        pendingBytes.addAndGet(-bytes);
+        return batch;
+    }
+
+    private void deliver(List<WebhookEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<WebhookEvent> view = Collections.unmodifiableList(batch);
+        Exception lastException = null;
+
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (attempt > 0) {
+                try {
+                    Thread.sleep(retryBackoff.toMillis() * (1L << (attempt - 1)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            try {
+                sink.write(view);
+                deliveredCount.addAndGet(batch.size());
+                return;
+            } catch (Exception e) {
+                lastException = e;
+            } catch (Throwable t) {
+                // An Error from the sink fails the batch instead of killing the flusher
+                lastException = new RuntimeException("Batch sink failed: " + t, t);
+                break;
+            }
+        }
+
+        failedCount.addAndGet(batch.size());
+        try {
+            failureHandler.accept(view, lastException);
+        } catch (Throwable ignored) {
+            // A failing handler must not stop the flusher
+        }
+    }
+
+    private static int estimateSize(WebhookEvent event) {
+        int size = 96 + length(event.getId()) + length(event.getType())
+                + length(event.getCreatedAt()) + length(event.getApiVersion());
+        WebhookMessageData data = event.getData();
+        if (data != null) {
+            size += 160 + length(data.getMessageId()) + length(data.getStatus())
+                    + length(data.getTo()) + length(data.getFrom())
+                    + length(data.getError()) + length(data.getErrorCode())
+                    + length(data.getDeliveredAt()) + length(data.getFailedAt());
+        }
+        return size;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static final class Entry {
+        final WebhookEvent event;
+        final int sizeBytes;
+        final long enqueuedAt;
+
+        Entry(WebhookEvent event, int sizeBytes, long enqueuedAt) {
+            this.event = event;
+            this.sizeBytes = sizeBytes;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /**
+     * Builder for WebhookEventBatcher.
+     */
+    public static class Builder {
+        private final BatchSink sink;
+        private int maxBatchSize = 500;
+        private long maxBatchBytes = 1024 * 1024;
+        private Duration flushInterval = Duration.ofSeconds(1);
+        private int maxPendingEvents = 100_000;
+        private int maxRetries = 3;
+        private Duration retryBackoff = Duration.ofMillis(500);
+        private BiConsumer<List<WebhookEvent>, Exception> failureHandler = (batch, e) -> { };
+
+        private Builder(BatchSink sink) {
+            if (sink == null) {
+                throw new IllegalArgumentException("Batch sink is required");
+            }
+            this.sink = sink;
+        }
+
+        /**
+         * Flush once this many events are pending. Default 500.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("maxBatchSize must be at least 1");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Flush once this many estimated bytes are pending. Default 1 MiB.
+         */
+        public Builder maxBatchBytes(long maxBatchBytes) {
+            if (maxBatchBytes < 1) {
+                throw new IllegalArgumentException("maxBatchBytes must be at least 1");
+            }
+            this.maxBatchBytes = maxBatchBytes;
+            return this;
+        }
+
+        /**
+         * Flush once the oldest pending event has waited this long. Default 1 second.
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            if (flushInterval == null || flushInterval.isZero() || flushInterval.isNegative()) {
+                throw new IllegalArgumentException("flushInterval must be positive");
+            }
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * Reject new events once this many are pending, so a stalled sink cannot
+         * exhaust memory. Default 100,000.
+         */
+        public Builder maxPendingEvents(int maxPendingEvents) {
+            if (maxPendingEvents < 1) {
+                throw new IllegalArgumentException("maxPendingEvents must be at least 1");
+            }
+            this.maxPendingEvents = maxPendingEvents;
+            return this;
+        }
+
+        /**
+         * Number of times a rejected batch is retried before it is given up. Default 3.
+         */
+        public Builder maxRetries(int maxRetries) {
+            this.maxRetries = Math.max(maxRetries, 0);
+            return this;
+        }
+
+        /**
+         * Base delay between batch retries, doubled on each attempt. Default 500ms.
+         */
+        public Builder retryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        /**
+         * Called with a batch and the last sink error once retries are exhausted.
+         */
+        public Builder onFailure(BiConsumer<List<WebhookEvent>, Exception> failureHandler) {
+            this.failureHandler = failureHandler;
+            return this;
+        }
+
+        public WebhookEventBatcher build() {
+            return new WebhookEventBatcher(this);
+        }
+    }
+}
@@ -2,11 +2,20 @@ package com.sendly.webhooks;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.sendly.models.ModelAdapter;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.MessageDigest;
@@ -45,6 +54,7 @@ import java.security.NoSuchAlgorithmException;
 public class Webhooks {
     private static final Gson gson = new GsonBuilder()
             .setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+            .registerTypeAdapterFactory(ModelAdapter.factory(WebhookEvent.ADAPTER, WebhookMessageData.ADAPTER))
             .create();
 
     /**
@@ -56,8 +66,23 @@ public class Webhooks {
      * @return true if signature is valid, false otherwise
      */
     public static boolean verifySignature(String payload, String signature, String secret) {
+        if (payload == null || payload.isEmpty()) {
+            return false;
+        }
+        return verifySignature(payload.getBytes(StandardCharsets.UTF_8), signature, secret);
+    }
+
+    /**
+     * Verify webhook signature from Sendly against the raw request bytes.
+     *
+     * @param payload   Raw request body bytes
+     * @param signature X-Sendly-Signature header value
+     * @param secret    Your webhook secret from dashboard
+     * @return true if signature is valid, false otherwise
+     */
+    public static boolean verifySignature(byte[] payload, String signature, String secret) {
         if (payload == null || signature == null || secret == null ||
-            payload.isEmpty() || signature.isEmpty() || secret.isEmpty()) {
+            payload.length == 0 || signature.isEmpty() || secret.isEmpty()) {
             return false;
         }
 
@@ -68,7 +93,7 @@ public class Webhooks {
                 "HmacSHA256"
             );
             mac.init(secretKeySpec);
-            byte[] hash = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            byte[] hash = mac.doFinal(payload);
 
             StringBuilder hexString = new StringBuilder();
             for (byte b : hash) {
@@ -120,6 +145,48 @@ public class Webhooks {
         }
     }
 
+    /**
+     * Parse and validate a webhook event without binding the whole payload.
+     * <p>
+     * Only the top-level fields plus {@code data.message_id} and {@code data.status}
+     * are read; the rest of {@code data} is decoded on first call to
+     * {@link LazyWebhookEvent#getData()}. Use this for handlers that only route on
+     * event type and message status.
+     * </p>
+     *
+     * @param payload   Raw request body as string
+     * @param signature X-Sendly-Signature header value
+     * @param secret    Your webhook secret from dashboard
+     * @return Parsed and validated LazyWebhookEvent
+     * @throws WebhookSignatureException if signature is invalid or payload is malformed
+     */
+    public static LazyWebhookEvent parseEventLazy(String payload, String signature, String secret)
+            throws WebhookSignatureException {
+        if (!verifySignature(payload, signature, secret)) {
+            throw new WebhookSignatureException("Invalid webhook signature");
+        }
+        return LazyWebhookEvent.scan(payload, null);
+    }
+
+    /**
+     * Parse and validate a webhook event from the raw request bytes without binding
+     * the whole payload.
+     *
+     * @param payload   Raw request body bytes
+     * @param signature X-Sendly-Signature header value
+     * @param secret    Your webhook secret from dashboard
+     * @return Parsed and validated LazyWebhookEvent
+     * @throws WebhookSignatureException if signature is invalid or payload is malformed
+     * @see #parseEventLazy(String, String, String)
+     */
+    public static LazyWebhookEvent parseEventLazy(byte[] payload, String signature, String secret)
+            throws WebhookSignatureException {
+        if (!verifySignature(payload, signature, secret)) {
+            throw new WebhookSignatureException("Invalid webhook signature");
+        }
+        return LazyWebhookEvent.scan(null, payload);
+    }
+
     /**
      * Generate a webhook signature for testing purposes.
      *
@@ -172,6 +239,20 @@ public class Webhooks {
         @SerializedName("credits_used")
         private int creditsUsed;
 
+        static final ModelAdapter<WebhookMessageData, WebhookMessageData> ADAPTER = ModelAdapter
+                .builder(WebhookMessageData.class, WebhookMessageData::new)
+                .field("message_id", String.class, (m, v) -> m.messageId = v, m -> m.messageId)
+                .field("status", String.class, (m, v) -> m.status = v, m -> m.status)
+                .field("to", String.class, (m, v) -> m.to = v, m -> m.to)
+                .field("from", String.class, (m, v) -> m.from = v, m -> m.from)
+                .field("error", String.class, (m, v) -> m.error = v, m -> m.error)
+                .field("error_code", String.class, (m, v) -> m.errorCode = v, m -> m.errorCode)
+                .field("delivered_at", String.class, (m, v) -> m.deliveredAt = v, m -> m.deliveredAt)
+                .field("failed_at", String.class, (m, v) -> m.failedAt = v, m -> m.failedAt)
+                .field("segments", int.class, (m, v) -> m.segments = v, m -> m.segments)
+                .field("credits_used", int.class, (m, v) -> m.creditsUsed = v, m -> m.creditsUsed)
+                .build();
+
         public String getMessageId() { return messageId; }
         public String getStatus() { return status; }
         public String getTo() { return to; }
@@ -196,6 +277,15 @@ public class Webhooks {
         @SerializedName("api_version")
         private String apiVersion;
 
+        static final ModelAdapter<WebhookEvent, WebhookEvent> ADAPTER = ModelAdapter
+                .builder(WebhookEvent.class, WebhookEvent::new)
+                .field("id", String.class, (m, v) -> m.id = v, m -> m.id)
+                .field("type", String.class, (m, v) -> m.type = v, m -> m.type)
+                .field("data", WebhookMessageData.class, (m, v) -> m.data = v, m -> m.data)
+                .field("created_at", String.class, (m, v) -> m.createdAt = v, m -> m.createdAt)
+                .field("api_version", String.class, (m, v) -> m.apiVersion = v, m -> m.apiVersion)
+                .build();
+
         public String getId() { return id; }
         public String getType() { return type; }
         public WebhookMessageData getData() { return data; }
@@ -203,6 +293,173 @@ public class Webhooks {
         public String getApiVersion() { return apiVersion; }
     }
 
+    /**
+     * Webhook event with lazily decoded message data.
+     * <p>
+     * Created by {@link Webhooks#parseEventLazy(String, String, String)}. The
+     * signature has already been verified; {@link #getData()} streams over the
+     * same payload again to decode the full {@code data} object only when asked.
+     * </p>
+     */
+    public static class LazyWebhookEvent {
+        private final String payload;
+        private final byte[] payloadBytes;
+        private String id;
+        private String type;
+        private String createdAt;
+        private String apiVersion;
+        private String messageId;
+        private String status;
+        private volatile WebhookMessageData data;
+
+        private LazyWebhookEvent(String payload, byte[] payloadBytes) {
+            this.payload = payload;
+            this.payloadBytes = payloadBytes;
+        }
+
+        static LazyWebhookEvent scan(String payload, byte[] payloadBytes) throws WebhookSignatureException {
+            LazyWebhookEvent event = new LazyWebhookEvent(payload, payloadBytes);
+            try (JsonReader reader = event.openReader()) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "id":
+                            event.id = nextStringOrNull(reader);
+                            break;
+                        case "type":
+                            event.type = nextStringOrNull(reader);
+                            break;
+                        case "created_at":
+                            event.createdAt = nextStringOrNull(reader);
+                            break;
+                        case "api_version":
+                            event.apiVersion = nextStringOrNull(reader);
+                            break;
+                        case "data":
+                            event.scanData(reader);
+                            break;
+                        default:
+                            reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            } catch (IOException | IllegalStateException | NumberFormatException e) {
+                throw new WebhookSignatureException("Failed to parse webhook payload: " + e.getMessage());
+            }
+
+            // Basic validation
+            if (event.id == null || event.type == null || event.createdAt == null) {
+                throw new WebhookSignatureException("Invalid event structure");
+            }
+
+            return event;
+        }
+
+        private void scanData(JsonReader reader) throws IOException {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                return;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "message_id":
+                        messageId = nextStringOrNull(reader);
+                        break;
+                    case "status":
+                        status = nextStringOrNull(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        private static String nextStringOrNull(JsonReader reader) throws IOException {
+            JsonToken token = reader.peek();
+            if (token == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+            if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                return null;
+            }
+            return reader.nextString();
+        }
+
+        private JsonReader openReader() {
+            Reader source = payload != null ?
+                    new StringReader(payload) :
+                    new InputStreamReader(new ByteArrayInputStream(payloadBytes), StandardCharsets.UTF_8);
+            JsonReader reader = new JsonReader(source);
+            reader.setLenient(true);
+            return reader;
+        }
+
+        public String getId() { return id; }
+        public String getType() { return type; }
+        public String getCreatedAt() { return createdAt; }
+        public String getApiVersion() { return apiVersion; }
+
+        /**
+         * Get the message ID from {@code data.message_id} without decoding the rest of the data.
+         */
+        public String getMessageId() { return messageId; }
+
+        /**
+         * Get the message status from {@code data.status} without decoding the rest of the data.
+         */
+        public String getStatus() { return status; }
+
+        /**
+         * Decode and return the full message data. The result is cached after the first call.
+         *
+         * @return The message data, or null if the payload has no data object
+         * @throws JsonParseException if the data object cannot be decoded
+         */
+        public WebhookMessageData getData() {
+            WebhookMessageData result = data;
+            if (result == null) {
+                synchronized (this) {
+                    result = data;
+                    if (result == null) {
+                        result = decodeData();
+                        data = result;
+                    }
+                }
+            }
+            return result;
+        }
+
+        private WebhookMessageData decodeData() {
+            try (JsonReader reader = openReader()) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if ("data".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        return gson.fromJson(reader, WebhookMessageData.class);
+                    }
+                    reader.skipValue();
+                }
+                return null;
+            } catch (IOException | IllegalStateException e) {
+                throw new JsonParseException("Failed to decode webhook data: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Decode the full payload into a {@link WebhookEvent}.
+         *
+         * @return The fully bound event
+         */
+        public WebhookEvent toEvent() {
+            return payload != null ?
+                    gson.fromJson(payload, WebhookEvent.class) :
+                    gson.fromJson(openReader(), WebhookEvent.class);
+        }
+    }
+
     /**
      * Exception thrown when webhook signature verification fails.
      */
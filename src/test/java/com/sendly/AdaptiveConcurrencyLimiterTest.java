@@ -0,0 +1,238 @@
+package com.sendly;
+
+import com.sendly.exceptions.DeadlineExceededException;
+import com.sendly.exceptions.RateLimitException;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for AdaptiveConcurrencyLimiter growth, backoff and blocking.
+ */
+class AdaptiveConcurrencyLimiterTest {
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    void testSuccessWhileSaturated_growsLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(2).maxLimit(3).build();
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+            limiter.acquire();
+            limiter.onSuccess(RTT);
+            limiter.onSuccess(RTT);
+        }
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testSuccessWhileSaturated_growsByOnePerLimitOfCalls() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(4).build();
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire();
+            limiter.acquire();
+            limiter.onSuccess(RTT);
+            limiter.onIgnored();
+        }
+        assertEquals(4, limiter.getLimit(), "Three successes at limit 4 add less than one");
+
+        for (int i = 0; i < 2; i++) {
+            limiter.acquire();
+            limiter.acquire();
+            limiter.onSuccess(RTT);
+            limiter.onIgnored();
+        }
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void testSuccessWhileIdle_keepsLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(10).build();
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.onSuccess(RTT);
+        }
+
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void testDropAndLatencyGrowth_cutLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .initialLimit(10).backoffRatio(0.5).build();
+
+        limiter.acquire();
+        limiter.onDropped(RTT);
+        assertEquals(5, limiter.getLimit());
+
+        AdaptiveConcurrencyLimiter slow = AdaptiveConcurrencyLimiter.builder()
+                .initialLimit(10).backoffRatio(0.5).build();
+        slow.acquire();
+        slow.onSuccess(RTT);
+        slow.acquire();
+        slow.onSuccess(RTT * 5);
+        assertEquals(5, slow.getLimit());
+        assertEquals(2, slow.getSuccessCount());
+
+        slow.acquire();
+        slow.onIgnored();
+        assertEquals(5, slow.getLimit());
+        assertEquals(1, limiter.getDropCount());
+    }
+
+    @Test
+    void testDropBurst_cutsOncePerRoundTrip() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder()
+                .initialLimit(16).backoffRatio(0.5).build();
+        for (int i = 0; i < 8; i++) {
+            limiter.acquire();
+        }
+
+        // Eight calls that were all in flight together come back rate limited
+        for (int i = 0; i < 8; i++) {
+            limiter.onDropped(TimeUnit.MILLISECONDS.toNanos(500));
+        }
+
+        assertEquals(8, limiter.getLimit());
+        assertEquals(8, limiter.getDropCount());
+
+        // A call started after the cut may cut again
+        Thread.sleep(5);
+        limiter.acquire();
+        limiter.onDropped(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void testLatency_comparedPerOperation() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(10).build();
+
+        limiter.acquire();
+        limiter.onSuccess("GET messages", RTT);
+        limiter.acquire();
+        limiter.onSuccess("POST messages", RTT * 10);
+        limiter.acquire();
+        limiter.onSuccess("POST messages", RTT * 11);
+
+        assertEquals(10, limiter.getLimit());
+        assertEquals(RTT, limiter.getBaselineRtt("GET messages").toNanos());
+        assertEquals(RTT * 10, limiter.getBaselineRtt("POST messages").toNanos());
+        assertEquals(RTT, limiter.getBaselineRtt().toNanos());
+    }
+
+    @Test
+    void testTryAcquire_timesOutAtLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(1).build();
+        assertTrue(limiter.tryAcquire(10, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        assertFalse(limiter.tryAcquire(50, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    void testAcquire_blocksAtLimitUntilReleased() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = AdaptiveConcurrencyLimiter.builder().initialLimit(1).build();
+        limiter.acquire();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        waiter.start();
+
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+        limiter.onIgnored();
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        waiter.join();
+    }
+
+    @Test
+    void testClient_rateLimitsCutLimitAndReleaseSlots() throws Exception {
+        MockWebServer mockServer = new MockWebServer();
+        mockServer.start();
+        try {
+            Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                    .baseUrl(mockServer.url("/").toString())
+                    .adaptiveConcurrency(AdaptiveConcurrencyLimiter.builder().initialLimit(8).backoffRatio(0.5))
+                    .retryOnRateLimit(false)
+                    .maxRetries(0));
+            mockServer.enqueue(TestHelpers.mockRateLimit(0));
+            mockServer.enqueue(TestHelpers.mockRateLimit(0));
+            for (int i = 0; i < 3; i++) {
+                mockServer.enqueue(TestHelpers.mockSuccess("{}"));
+            }
+
+            assertThrows(RateLimitException.class, () -> client.get("/account", null));
+            assertThrows(RateLimitException.class, () -> client.get("/account", null));
+            AdaptiveConcurrencyLimiter limiter = client.getConcurrencyLimiter(Bulkhead.DEFAULT);
+            assertEquals(2, limiter.getLimit());
+
+            // Successes that use the limit let it grow again, by one per limit's worth of calls
+            for (int i = 0; i < 3; i++) {
+                client.get("/account", null);
+            }
+            assertEquals(3, limiter.getLimit());
+            assertEquals(0, limiter.getInFlight());
+            assertNull(new Sendly("sk_test_123").getConcurrencyLimiter(Bulkhead.DEFAULT));
+            // Bulkheads get independent limiters
+            assertEquals(8, client.getConcurrencyLimiter(Bulkhead.VERIFY).getLimit());
+        } finally {
+            mockServer.shutdown();
+        }
+    }
+
+    @Test
+    void testClient_waitingForSlotRespectsCallTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        MockWebServer mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return TestHelpers.mockSuccess("{}");
+            }
+        });
+        mockServer.start();
+        try {
+            Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                    .baseUrl(mockServer.url("/").toString())
+                    .adaptiveConcurrency(AdaptiveConcurrencyLimiter.builder().initialLimit(1).maxLimit(1))
+                    .maxRetries(0));
+            Thread holder = new Thread(() -> client.get("/account", null));
+            holder.start();
+            while (client.getConcurrencyLimiter(Bulkhead.DEFAULT).getInFlight() == 0) {
+                Thread.sleep(5);
+            }
+
+            long start = System.nanoTime();
+            assertThrows(DeadlineExceededException.class,
+                    () -> client.withCallTimeout(Duration.ofMillis(200)).get("/credits", null));
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            release.countDown();
+            holder.join();
+            assertTrue(elapsed < 2000, "Waited " + elapsed + "ms for a slot");
+        } finally {
+            release.countDown();
+            mockServer.shutdown();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.sendly;
+
+import com.sendly.models.SendBatchRequest;
+import com.sendly.models.SendVerificationRequest;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bulkhead routing and isolation between traffic classes.
+ */
+class BulkheadTest {
+    private MockWebServer mockServer;
+    private final CountDownLatch batchArrived = new CountDownLatch(1);
+    private final CountDownLatch releaseBatch = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getPath().endsWith("/messages/batch")) {
+                    batchArrived.countDown();
+                    releaseBatch.await(10, TimeUnit.SECONDS);
+                    return TestHelpers.mockSuccess(TestHelpers.batchResponseJson("batch_1", 1, 1, 0));
+                }
+                return TestHelpers.mockSuccess("{}");
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        releaseBatch.countDown();
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testVerifyTraffic_doesNotWaitBehindBulkSends() throws Exception {
+        SendlyTransport transport = SendlyTransport.builder().build();
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .sharedTransport(transport)
+                .maxConcurrentRequests(1)
+                .bulkhead(Bulkhead.builder(Bulkhead.BULK).maxConcurrentRequests(1).build())
+                .maxRetries(0));
+
+        Thread bulk = new Thread(() -> client.messages().sendBatch(
+                SendBatchRequest.builder().addMessage("+15551234567", "Sale!").build()));
+        bulk.start();
+        assertTrue(batchArrived.await(5, TimeUnit.SECONDS));
+
+        // The batch holds the only bulk slot; verify and default traffic still go through
+        assertNotNull(client.verify().send(new SendVerificationRequest("+15551234567")));
+        assertNotNull(client.get("/account", null));
+
+        releaseBatch.countDown();
+        bulk.join();
+        assertEquals(1, transport.getConnectionCount(Bulkhead.BULK));
+        assertEquals(1, transport.getConnectionCount(Bulkhead.VERIFY));
+        assertEquals(1, transport.getConnectionCount(Bulkhead.DEFAULT));
+    }
+
+    @Test
+    void testRouteAndWithBulkhead_selectLane() throws Exception {
+        SendlyTransport transport = SendlyTransport.builder().build();
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .sharedTransport(transport)
+                .bulkhead(Bulkhead.builder("reports").build())
+                .route("GET /credits/**", "reports")
+                .maxRetries(0));
+
+        client.get("/credits/transactions", null);
+        assertEquals(1, transport.getConnectionCount("reports"));
+        assertEquals(0, transport.getConnectionCount(Bulkhead.DEFAULT));
+
+        client.withBulkhead(Bulkhead.VERIFY).get("/account", null);
+        assertEquals(1, transport.getConnectionCount(Bulkhead.VERIFY));
+        assertEquals(0, transport.getConnectionCount(Bulkhead.DEFAULT));
+    }
+
+    @Test
+    void testUnknownBulkhead_throwsIllegalArgumentException() {
+        Sendly.Builder builder = new Sendly.Builder().route("/contacts/**", "missing");
+        assertThrows(IllegalArgumentException.class, () -> new Sendly("sk_test_123", builder));
+
+        Sendly client = new Sendly("sk_test_123");
+        assertThrows(IllegalArgumentException.class, () -> client.withBulkhead("missing"));
+    }
+}
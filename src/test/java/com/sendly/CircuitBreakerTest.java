@@ -0,0 +1,225 @@
+package com.sendly;
+
+import com.google.gson.JsonParser;
+import com.sendly.exceptions.CircuitOpenException;
+import com.sendly.exceptions.NotFoundException;
+import com.sendly.exceptions.SendlyException;
+import com.sendly.models.Message;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per endpoint group circuit breakers.
+ */
+class CircuitBreakerTest {
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private Sendly.Builder builder(Duration openDuration) {
+        return new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxRetries(0)
+                .circuitBreaker(CircuitBreaker.builder()
+                        .minimumCalls(4)
+                        .window(10)
+                        .failureRateThreshold(0.5)
+                        .openDuration(openDuration));
+    }
+
+    private void failMessages(Sendly client, int calls) {
+        for (int i = 0; i < calls; i++) {
+            mockServer.enqueue(TestHelpers.mockServerError());
+            assertThrows(SendlyException.class, () -> client.messages().get("msg_1"));
+        }
+    }
+
+    @Test
+    void testOpensAtFailureRate_failsFastWithoutRequest() {
+        Sendly client = new Sendly("sk_test_123", builder(Duration.ofMinutes(1)));
+
+        failMessages(client, 4);
+        CircuitOpenException e = assertThrows(CircuitOpenException.class, () -> client.messages().get("msg_1"));
+
+        assertEquals("messages", e.getGroup());
+        assertEquals("CIRCUIT_OPEN", e.getErrorCode());
+        assertEquals(4, mockServer.getRequestCount());
+        CircuitBreaker breaker = client.getCircuitBreaker("messages");
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getRejectedCount());
+    }
+
+    @Test
+    void testOpenCircuit_doesNotAffectOtherGroups() {
+        Sendly client = new Sendly("sk_test_123", builder(Duration.ofMinutes(1)));
+        failMessages(client, 4);
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"balance\":100}"));
+
+        assertEquals(100, client.account().getCredits().getBalance());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker("credits").getState());
+    }
+
+    @Test
+    void testClientErrors_doNotOpenCircuit() {
+        Sendly client = new Sendly("sk_test_123", builder(Duration.ofMinutes(1)));
+
+        for (int i = 0; i < 5; i++) {
+            mockServer.enqueue(TestHelpers.mockNotFound());
+            assertThrows(NotFoundException.class, () -> client.messages().get("msg_1"));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker("messages").getState());
+        assertEquals(0.0, client.getCircuitBreaker("messages").getFailureRate());
+    }
+
+    @Test
+    void testHalfOpenProbe_closesOnSuccess() throws InterruptedException {
+        Sendly client = new Sendly("sk_test_123", builder(Duration.ofMillis(100)));
+        failMessages(client, 4);
+        Thread.sleep(150);
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.messageJson("msg_1", "+15551234567", "Hi", "delivered")));
+
+        assertEquals("msg_1", client.messages().get("msg_1").getId());
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker("messages").getState());
+    }
+
+    @Test
+    void testHalfOpenProbe_reopensOnFailure() throws InterruptedException {
+        Sendly client = new Sendly("sk_test_123", builder(Duration.ofMillis(100)));
+        failMessages(client, 4);
+        Thread.sleep(150);
+
+        failMessages(client, 1);
+
+        assertEquals(CircuitBreaker.State.OPEN, client.getCircuitBreaker("messages").getState());
+        assertThrows(CircuitOpenException.class, () -> client.messages().get("msg_1"));
+        assertEquals(5, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testFallback_handlesRejectedSend() {
+        List<String> outbox = new ArrayList<>();
+        Sendly client = new Sendly("sk_test_123", builder(Duration.ofMinutes(1))
+                .circuitBreakerFallback((method, path, body) -> {
+                    outbox.add(method + " " + path);
+                    return JsonParser.parseString(
+                            TestHelpers.messageJson("msg_later", "+15551234567", "Hi", "queued")).getAsJsonObject();
+                }));
+        failMessages(client, 4);
+
+        Message message = client.messages().send("+15551234567", "Hi");
+
+        assertEquals("msg_later", message.getId());
+        assertEquals(List.of("POST /messages"), outbox);
+        assertEquals(4, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testTrySend_returnsStacklessCircuitOpen() {
+        Sendly client = new Sendly("sk_test_123", builder(Duration.ofMinutes(1)));
+        failMessages(client, 4);
+
+        SendResult<Message> result = client.messages().trySend("+15551234567", "Hi");
+
+        CircuitOpenException e = assertInstanceOf(CircuitOpenException.class, result.getError());
+        assertEquals(0, e.getStackTrace().length);
+    }
+
+    @Test
+    void testLocalSlotTimeouts_doNotOpenCircuit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return TestHelpers.mockSuccess(TestHelpers.messageJson("msg_1", "+15551234567", "Hi", "delivered"));
+            }
+        });
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxRetries(0)
+                .maxConcurrentRequests(1)
+                .circuitBreaker(CircuitBreaker.builder().minimumCalls(1)));
+        Thread holder = new Thread(() -> client.messages().get("msg_1"));
+        holder.start();
+        while (mockServer.getRequestCount() == 0) {
+            Thread.sleep(5);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(SendlyException.class,
+                    () -> client.withCallTimeout(Duration.ofMillis(50)).messages().get("msg_1"));
+        }
+        release.countDown();
+        holder.join();
+
+        assertEquals(CircuitBreaker.State.CLOSED, client.getCircuitBreaker("messages").getState());
+        assertEquals(0.0, client.getCircuitBreaker("messages").getFailureRate());
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder().baseUrl(mockServer.url("/api/v1").toString()));
+
+        assertNull(client.getCircuitBreaker("messages"));
+    }
+
+    @Test
+    void testWindow_forgetsOldFailures() {
+        CircuitBreaker breaker = CircuitBreaker.builder().minimumCalls(4).window(4).failureRateThreshold(0.5).build();
+
+        breaker.onFailure(breaker.tryAcquire());
+        for (int i = 0; i < 3; i++) {
+            breaker.onSuccess(breaker.tryAcquire());
+        }
+        assertEquals(0.25, breaker.getFailureRate());
+
+        breaker.onSuccess(breaker.tryAcquire());
+        assertEquals(0.0, breaker.getFailureRate());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void testHalfOpen_limitsProbes() {
+        CircuitBreaker breaker = CircuitBreaker.builder().minimumCalls(1).openDuration(Duration.ZERO).build();
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        int probe = breaker.tryAcquire();
+        assertEquals(CircuitBreaker.PROBE, probe);
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+
+        breaker.onSuccess(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(CircuitBreaker.PERMITTED, breaker.tryAcquire());
+    }
+
+    @Test
+    void testBuilder_rejectsInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder().failureRateThreshold(1.5));
+    }
+}
@@ -0,0 +1,108 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+import com.sendly.exceptions.DeadlineExceededException;
+import com.sendly.exceptions.RateLimitException;
+import com.sendly.exceptions.SendlyException;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for call deadlines spanning retries.
+ */
+class DeadlineTest {
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private Sendly.Builder builder() {
+        return new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxRetries(3);
+    }
+
+    @Test
+    void testBackoffPastDeadline_failsFastWithLastError() {
+        Sendly client = new Sendly("sk_test_123", builder().callTimeout(Duration.ofMillis(1500)));
+        for (int i = 0; i < 4; i++) {
+            mockServer.enqueue(TestHelpers.mockServerError());
+        }
+
+        long start = System.nanoTime();
+        DeadlineExceededException e = assertThrows(DeadlineExceededException.class,
+                () -> client.messages().send("+15551234567", "Hi"));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // The first 1s backoff fits; the following 2s one would not, so no third attempt
+        assertEquals(2, mockServer.getRequestCount());
+        assertTrue(elapsed < 1500, "took " + elapsed + "ms");
+        assertEquals(Duration.ofMillis(1500), e.getTimeout());
+        assertEquals(500, ((SendlyException) e.getCause()).getStatusCode());
+    }
+
+    @Test
+    void testSlowResponse_cutAtDeadline() {
+        Sendly client = new Sendly("sk_test_123", builder().callTimeout(Duration.ofMillis(300)));
+        mockServer.enqueue(TestHelpers.mockSuccess("{}").setHeadersDelay(3, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        assertThrows(DeadlineExceededException.class, () -> client.get("/account", null));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsed < 2000, "took " + elapsed + "ms");
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testRetryAfterPastDeadline_failsWithoutWaiting() {
+        Sendly client = new Sendly("sk_test_123", builder().callTimeout(Duration.ofSeconds(2)));
+        mockServer.enqueue(TestHelpers.mockRateLimit(30));
+
+        long start = System.nanoTime();
+        DeadlineExceededException e = assertThrows(DeadlineExceededException.class,
+                () -> client.messages().send("+15551234567", "Hi"));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertInstanceOf(RateLimitException.class, e.getCause());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testWithCallTimeout_appliesPerCallOnly() throws Exception {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockSuccess("{}").setHeadersDelay(2, TimeUnit.SECONDS));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"ok\":true}").setHeadersDelay(500, TimeUnit.MILLISECONDS));
+
+        Sendly bounded = client.withCallTimeout(Duration.ofMillis(200));
+
+        assertThrows(DeadlineExceededException.class, () -> bounded.get("/account", null));
+        assertNull(client.getCallTimeout());
+        assertEquals(Duration.ofMillis(200), bounded.getCallTimeout());
+        assertEquals(Duration.ofMillis(200), bounded.withBulkhead(Bulkhead.VERIFY).getCallTimeout());
+        assertTrue(client.post("/ping", new JsonObject()).get("ok").getAsBoolean());
+    }
+
+    @Test
+    void testCallTimeout_mustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new Sendly.Builder().callTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Sendly("sk_test_123").withCallTimeout(Duration.ofSeconds(-1)));
+    }
+}
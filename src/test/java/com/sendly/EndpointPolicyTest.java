@@ -0,0 +1,134 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+import com.sendly.exceptions.DeadlineExceededException;
+import com.sendly.exceptions.SendlyException;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-endpoint policies.
+ */
+class EndpointPolicyTest {
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private Sendly.Builder builder() {
+        return new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxRetries(1);
+    }
+
+    @Test
+    void testCampaignSend_notRetriedAfterServerError() {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockServerError());
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":\"cmp_1\",\"status\":\"sending\"}"));
+
+        SendlyException e = assertThrows(SendlyException.class, () -> client.campaigns().send("cmp_1"));
+
+        assertEquals(500, e.getStatusCode());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testNonIdempotent_stillRetriedAfterRateLimit() {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockRateLimit(0));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":\"cmp_1\",\"status\":\"sending\"}"));
+
+        assertEquals("cmp_1", client.campaigns().send("cmp_1").getId());
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testMaxRetries_overriddenPerEndpoint() {
+        Sendly client = new Sendly("sk_test_123", builder()
+                .endpoint("GET /account", EndpointPolicy.builder().maxRetries(0).build()));
+        mockServer.enqueue(TestHelpers.mockServerError());
+        mockServer.enqueue(TestHelpers.mockServerError());
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"ok\":true}"));
+
+        assertThrows(SendlyException.class, () -> client.get("/account", null));
+        assertEquals(1, mockServer.getRequestCount());
+        assertTrue(client.get("/credits", null).get("ok").getAsBoolean());
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testAttemptTimeout_cutsSlowAttemptAndRetries() {
+        Sendly client = new Sendly("sk_test_123", builder()
+                .endpoint("/verify/*", EndpointPolicy.builder().attemptTimeout(Duration.ofMillis(200)).build()));
+        mockServer.enqueue(TestHelpers.mockSuccess("{}").setHeadersDelay(3, TimeUnit.SECONDS));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"ok\":true}"));
+
+        long start = System.nanoTime();
+        JsonObject response = client.get("/verify/ver_1", null);
+
+        assertTrue(response.get("ok").getAsBoolean());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2500);
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testCallTimeout_perEndpointYieldsToPerCallView() {
+        Sendly client = new Sendly("sk_test_123", builder()
+                .endpoint("GET /account", EndpointPolicy.builder().callTimeout(Duration.ofMillis(200)).build()));
+        mockServer.enqueue(TestHelpers.mockSuccess("{}").setHeadersDelay(2, TimeUnit.SECONDS));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"ok\":true}").setHeadersDelay(500, TimeUnit.MILLISECONDS));
+
+        DeadlineExceededException e = assertThrows(DeadlineExceededException.class,
+                () -> client.get("/account", null));
+
+        assertEquals(Duration.ofMillis(200), e.getTimeout());
+        assertTrue(client.withCallTimeout(Duration.ofSeconds(5)).get("/account", null).get("ok").getAsBoolean());
+    }
+
+    @Test
+    void testUnsetSettings_fallThroughToBuiltInPolicies() {
+        Sendly client = new Sendly("sk_test_123", builder()
+                .responseCache(new LruResponseCache(10))
+                .endpoint("GET /templates/**", EndpointPolicy.builder().maxRetries(0).build()));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":\"tpl_1\"}"));
+
+        client.get("/templates/tpl_1", null);
+        client.get("/templates/tpl_1", null);
+
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testRequest_rejectsUnknownMethod() {
+        Sendly client = new Sendly("sk_test_123", builder());
+
+        assertThrows(SendlyException.class, () -> client.request("PUT", "/account", null, JsonObject.class));
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testBuilder_validatesSettings() {
+        assertThrows(IllegalArgumentException.class, () -> EndpointPolicy.builder().maxRetries(-1));
+        assertThrows(IllegalArgumentException.class, () -> EndpointPolicy.builder().callTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> EndpointPolicy.builder().bulkhead(""));
+        assertThrows(IllegalArgumentException.class, () -> new Sendly("sk_test_123", builder()
+                .endpoint("/contacts/**", EndpointPolicy.builder().bulkhead("missing").build())));
+    }
+}
@@ -0,0 +1,96 @@
+package com.sendly;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for hedged GET requests.
+ */
+class HedgingPolicyTest {
+    private MockWebServer mockServer;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final CountDownLatch releaseSlow = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                // The first request is stuck on a slow connection
+                if (requestCount.incrementAndGet() == 1) {
+                    releaseSlow.await(1, TimeUnit.SECONDS);
+                }
+                return TestHelpers.mockSuccess(TestHelpers.messageJson("msg_1", "+15551234567", "Hi", "delivered"));
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        releaseSlow.countDown();
+        mockServer.shutdown();
+    }
+
+    private Sendly client(HedgingPolicy hedging) {
+        return new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .hedging(hedging)
+                .maxRetries(0));
+    }
+
+    @Test
+    void testSlowGet_hedgeAnswersFirst() {
+        HedgingPolicy hedging = HedgingPolicy.builder().initialDelay(Duration.ofMillis(50)).build();
+        Sendly client = client(hedging);
+
+        long start = System.nanoTime();
+        assertEquals("delivered", client.messages().get("msg_1").getStatus());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs < 800, "Hedge should answer long before the slow copy: " + elapsedMs + "ms");
+        assertEquals(2, requestCount.get());
+        assertEquals(1, hedging.getHedgeCount());
+        assertEquals(1, hedging.getHedgeWinCount());
+    }
+
+    @Test
+    void testExhaustedBudget_doesNotHedge() {
+        HedgingPolicy hedging = HedgingPolicy.builder()
+                .initialDelay(Duration.ofMillis(50))
+                .budget(0)
+                .maxBurst(0)
+                .build();
+        Sendly client = client(hedging);
+
+        assertEquals("delivered", client.messages().get("msg_1").getStatus());
+
+        assertEquals(1, requestCount.get());
+        assertEquals(0, hedging.getHedgeCount());
+    }
+
+    @Test
+    void testDelay_followsRollingPercentile() {
+        HedgingPolicy hedging = HedgingPolicy.builder().percentile(0.9).minSamples(16).window(16)
+                .minDelay(Duration.ZERO).build();
+        for (int i = 1; i <= 16; i++) {
+            hedging.record(TimeUnit.MILLISECONDS.toNanos(i * 10));
+        }
+
+        assertEquals(Duration.ofMillis(150), hedging.getHedgeDelay());
+    }
+}
@@ -0,0 +1,157 @@
+package com.sendly;
+
+import com.sendly.models.MessageLookupResult;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for protocol selection and HTTP/2 stream limits.
+ */
+class HttpProtocolTest {
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.setProtocols(List.of(Protocol.H2_PRIOR_KNOWLEDGE));
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String id = request.getPath().substring(request.getPath().lastIndexOf('/') + 1);
+                return TestHelpers.mockSuccess(TestHelpers.messageJson(id, "+15551234567", "Hi", "sent"))
+                        .setHeadersDelay(50, TimeUnit.MILLISECONDS);
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testPriorKnowledge_multiplexesFanOutOnOneConnection() {
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .protocol(HttpProtocol.H2_PRIOR_KNOWLEDGE)
+                .maxConcurrentRequests(32));
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            ids.add("msg_" + i);
+        }
+
+        MessageLookupResult result = client.messages().getAll(ids, 32);
+
+        assertEquals(32, result.getMessages().size());
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(1, client.getTransport().getConnectionCount());
+        assertEquals(HttpProtocol.H2_PRIOR_KNOWLEDGE, client.getTransport().getProtocol());
+    }
+
+    @Test
+    void testOkHttpEngine_appliesProtocolAndStreamLimit() {
+        SendlyTransport transport = SendlyTransport.builder()
+                .protocol(HttpProtocol.HTTP_1_1)
+                .maxRequests(200)
+                .maxConcurrentStreams(16)
+                .build();
+        OkHttpClient client = ((OkHttpTransport) transport.getHttpTransport()).getClient();
+
+        assertEquals(List.of(Protocol.HTTP_1_1), client.protocols());
+        assertEquals(16, client.dispatcher().getMaxRequestsPerHost());
+        assertEquals(200, client.dispatcher().getMaxRequests());
+    }
+
+    @Test
+    void testStreamLimitAboveMaxRequests_rejected() {
+        SendlyTransport.Builder builder = SendlyTransport.builder().maxRequests(16).maxConcurrentStreams(200);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void testClientStreamLimit_isWholeLimitOfPrivateTransport() {
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxConcurrentStreams(256));
+        OkHttpClient http = ((OkHttpTransport) client.getTransport().getHttpTransport()).getClient();
+
+        assertEquals(256, http.dispatcher().getMaxRequestsPerHost());
+        assertEquals(256, http.dispatcher().getMaxRequests());
+    }
+
+    @Test
+    void testPriorKnowledge_rejectsHttpsBaseUrl() {
+        Sendly.Builder builder = new Sendly.Builder()
+                .baseUrl("https://sendly.live/api/v1")
+                .protocol(HttpProtocol.H2_PRIOR_KNOWLEDGE);
+
+        assertThrows(IllegalArgumentException.class, () -> new Sendly("sk_test_123", builder));
+    }
+
+    @Test
+    void testDefaults_negotiateHttp2AndCapStreamsAtMaxRequests() {
+        SendlyTransport transport = SendlyTransport.builder().maxRequests(16).build();
+        OkHttpClient client = ((OkHttpTransport) transport.getHttpTransport()).getClient();
+
+        assertEquals(HttpProtocol.HTTP_2, transport.getProtocol());
+        assertEquals(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1), client.protocols());
+        assertEquals(16, client.dispatcher().getMaxRequestsPerHost());
+    }
+
+    @Test
+    void testJdkEngine_rejectsPriorKnowledge() {
+        SendlyTransport.Builder builder = SendlyTransport.builder()
+                .httpTransport(JdkHttpTransport.FACTORY)
+                .protocol(HttpProtocol.H2_PRIOR_KNOWLEDGE);
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+        assertThrows(IllegalArgumentException.class, () -> SendlyTransport.builder().maxConcurrentStreams(0));
+    }
+
+    @Test
+    void testStreamLimit_doesNotLimitGetAll() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(100);
+                inFlight.decrementAndGet();
+                String id = request.getPath().substring(request.getPath().lastIndexOf('/') + 1);
+                return TestHelpers.mockSuccess(TestHelpers.messageJson(id, "+15551234567", "Hi", "sent"));
+            }
+        });
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .protocol(HttpProtocol.H2_PRIOR_KNOWLEDGE)
+                .maxConcurrentStreams(2));
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add("msg_" + i);
+        }
+
+        MessageLookupResult result = client.messages().getAll(ids, 8);
+
+        assertEquals(8, result.getMessages().size());
+        // getAll runs synchronous calls, which the dispatcher's stream limit does not cover
+        assertTrue(maxInFlight.get() > 2, "max in flight " + maxInFlight.get());
+    }
+}
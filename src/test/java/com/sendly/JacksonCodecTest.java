@@ -0,0 +1,116 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sendly.models.BatchMessageItem;
+import com.sendly.models.BatchMessageResponse;
+import com.sendly.models.MessageList;
+import com.sendly.models.SendBatchRequest;
+import com.sendly.models.SendMessageRequest;
+import com.sendly.models.SendVerificationRequest;
+import com.sendly.models.SendVerificationResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Jackson codec, checked against the default Gson codec.
+ */
+class JacksonCodecTest {
+    private final JsonCodec jackson = new JacksonCodec();
+    private final JsonCodec gson = new GsonCodec(SendlyTransport.newGson());
+
+    @Test
+    void testDecode_matchesGsonOnListPayloads() {
+        for (String json : Arrays.asList(
+                TestHelpers.messageListJson(20, 40, true),
+                TestHelpers.batchResponseJson("batch_1", 50, 45, 5),
+                "{\"a\":[1,2.5,-3e2,12345678901234,null,true],\"b\":{\"c\":\"\\u00e9\\n\"},\"d\":null}")) {
+            assertEquals(gson.decode(json), jackson.decode(json));
+        }
+
+        MessageList list = new MessageList(jackson.decode(TestHelpers.messageListJson(20, 40, true)));
+        assertEquals(20, list.getData().size());
+        assertEquals("msg_40", list.getData().get(0).getId());
+        assertTrue(list.hasMore());
+        BatchMessageResponse batch = new BatchMessageResponse(jackson.decode(TestHelpers.batchResponseJson("batch_1", 50, 45, 5)));
+        assertEquals(5, batch.getFailed());
+        assertEquals(50, batch.getMessages().size());
+    }
+
+    @Test
+    void testEncode_matchesGsonWireFormat() {
+        List<Object> bodies = Arrays.asList(
+                SendMessageRequest.builder().to("+15551234567").text("<b>Hi</b> & bye").build(),
+                new SendBatchRequest(Arrays.asList(
+                        new BatchMessageItem("+15551234567", "One"),
+                        new BatchMessageItem("+15551234568", "Two")), "+15550000000"),
+                new SendVerificationRequest("+15551234567").setAppName("Acme"),
+                Map.of("limit", 5, "ratio", 0.5, "tags", List.of("a", "b")));
+
+        for (Object body : bodies) {
+            assertEquals(parse(gson.encode(body)), parse(jackson.encode(body)));
+        }
+        JsonObject tree = new JsonObject();
+        tree.addProperty("name", "key");
+        tree.add("missing", null);
+        assertEquals("{\"name\":\"key\"}", new String(jackson.encode(tree), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testDecode_malformedJson_throwsJsonParseException() {
+        assertThrows(JsonParseException.class, () -> jackson.decode("{\"data\":[1,2"));
+        assertThrows(JsonParseException.class, () -> jackson.decode("[1,2]"));
+    }
+
+    @Test
+    void testClient_sendsAndBindsThroughCodec() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                    .baseUrl(server.url("/api/v1").toString())
+                    .codec(jackson)
+                    .maxRetries(0));
+            server.enqueue(TestHelpers.mockSuccess(
+                    "{\"id\":\"ver_1\",\"status\":\"pending\",\"phone\":\"+15551234567\",\"sandbox\":true,\"sandbox_code\":\"123456\"}"));
+            server.enqueue(TestHelpers.mockSuccess(TestHelpers.batchResponseJson("batch_1", 2, 2, 0)));
+
+            SendVerificationResponse verification = client.verify().send(new SendVerificationRequest("+15551234567"));
+            BatchMessageResponse batch = client.messages().sendBatch(new SendBatchRequest(Arrays.asList(
+                    new BatchMessageItem("+15551234567", "One"), new BatchMessageItem("+15551234568", "Two"))));
+
+            assertSame(jackson, client.getCodec());
+            assertEquals("123456", verification.getSandboxCode());
+            assertEquals(2, batch.getQueued());
+            RecordedRequest first = server.takeRequest();
+            assertEquals("+15551234567", parse(first.getBody().readByteArray()).get("to").getAsString());
+            RecordedRequest second = server.takeRequest();
+            assertEquals(2, parse(second.getBody().readByteArray()).getAsJsonArray("messages").size());
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    void testDefaultCodec_isGsonOnTransportGson() {
+        SendlyTransport transport = SendlyTransport.builder().build();
+
+        GsonCodec codec = (GsonCodec) transport.getCodec();
+
+        assertSame(transport.getGson(), codec.getGson());
+        assertSame(codec, new Sendly("sk_test_123", new Sendly.Builder().sharedTransport(transport)).getCodec());
+    }
+
+    private static JsonObject parse(byte[] json) {
+        return JsonParser.parseString(new String(json, StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+}
@@ -0,0 +1,134 @@
+package com.sendly;
+
+import com.google.gson.Gson;
+import com.sendly.exceptions.RateLimitException;
+import com.sendly.models.ListMessagesRequest;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for sending requests through the java.net.http engine.
+ */
+class JdkHttpTransportTest {
+    private MockWebServer mockServer;
+    private Sendly client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .httpTransport(JdkHttpTransport.FACTORY)
+                .maxRetries(0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testSend_postsJsonWithHeaders() throws Exception {
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.messageJson("msg_1", "+15551234567", "Hi", "queued")));
+
+        assertEquals("msg_1", client.messages().send("+15551234567", "Hi").getId());
+
+        RecordedRequest request = mockServer.takeRequest();
+        assertEquals("POST", request.getMethod());
+        assertEquals("/api/v1/messages", request.getPath());
+        assertEquals("Bearer sk_test_123", request.getHeader("Authorization"));
+        assertTrue(request.getHeader("Content-Type").startsWith("application/json"));
+        assertTrue(request.getHeader("User-Agent").startsWith("sendly-java/"));
+        assertTrue(request.getBody().readUtf8().contains("\"to\":\"+15551234567\""));
+    }
+
+    @Test
+    void testGet_encodesQueryParameters() throws Exception {
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"data\":[],\"count\":0}"));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"data\":[],\"count\":0}"));
+
+        client.messages().list(ListMessagesRequest.builder().limit(5).build());
+        client.get("/messages", Map.of("to", "+1 555"));
+
+        assertEquals("/api/v1/messages?limit=5", mockServer.takeRequest().getPath());
+        assertEquals("/api/v1/messages?to=%2B1%20555", mockServer.takeRequest().getPath());
+    }
+
+    @Test
+    void testErrorResponse_mapsHeadersCaseInsensitively() {
+        mockServer.enqueue(new MockResponse().setResponseCode(429)
+                .setHeader("retry-after", "7")
+                .setBody("{\"message\":\"Slow down\"}"));
+
+        RateLimitException e = assertThrows(RateLimitException.class,
+                () -> client.messages().send("+15551234567", "Hi"));
+        assertEquals(7, e.getRetryAfter());
+    }
+
+    @Test
+    void testExecuteAsync_completesWithResponse() throws Exception {
+        mockServer.enqueue(TestHelpers.mockSuccess("{}").setHeader("ETag", "\"v1\""));
+        HttpTransport engine = client.getTransport().getHttpTransport();
+
+        HttpTransport.Response response = engine.executeAsync(new HttpTransport.Request(
+                "GET", mockServer.url("/ping").toString(), Map.of(), null)).get(5, TimeUnit.SECONDS);
+
+        assertEquals(200, response.getCode());
+        assertEquals("\"v1\"", response.header("etag"));
+        assertEquals(-1, engine.getConnectionCount());
+    }
+
+    @Test
+    void testSharedTransport_derivesTimeoutsWithoutNewClient() {
+        SendlyTransport transport = SendlyTransport.builder().httpTransport(JdkHttpTransport.FACTORY).build();
+        JdkHttpTransport engine = (JdkHttpTransport) transport.getHttpTransport();
+
+        JdkHttpTransport derived = (JdkHttpTransport) engine.withTimeouts(
+                Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(3));
+
+        assertSame(engine.getClient(), derived.getClient());
+    }
+
+    @Test
+    void testWithoutOkHttpOnClasspath_sendsThroughJdkEngine() throws Exception {
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"balance\":100}"));
+        URL sdk = Sendly.class.getProtectionDomain().getCodeSource().getLocation();
+        URL gson = Gson.class.getProtectionDomain().getCodeSource().getLocation();
+
+        // Only the SDK and Gson: OkHttp and Kotlin are not reachable from this loader
+        try (URLClassLoader isolated = new URLClassLoader(new URL[]{sdk, gson}, ClassLoader.getPlatformClassLoader())) {
+            assertThrows(ClassNotFoundException.class, () -> isolated.loadClass("okhttp3.OkHttpClient"));
+
+            Class<?> sendlyClass = isolated.loadClass("com.sendly.Sendly");
+            Class<?> builderClass = isolated.loadClass("com.sendly.Sendly$Builder");
+            Class<?> factoryClass = isolated.loadClass("com.sendly.HttpTransport$Factory");
+            Object factory = isolated.loadClass("com.sendly.JdkHttpTransport").getField("FACTORY").get(null);
+            Object builder = builderClass.getConstructor().newInstance();
+            builderClass.getMethod("baseUrl", String.class).invoke(builder, mockServer.url("/api/v1").toString());
+            builderClass.getMethod("httpTransport", factoryClass).invoke(builder, factory);
+            Object isolatedClient = sendlyClass.getConstructor(String.class, builderClass)
+                    .newInstance("sk_test_123", builder);
+
+            Object response = sendlyClass.getMethod("get", String.class, Map.class)
+                    .invoke(isolatedClient, "/credits", null);
+            sendlyClass.getMethod("close").invoke(isolatedClient);
+
+            assertEquals("{\"balance\":100}", response.toString());
+            assertEquals("/api/v1/credits", mockServer.takeRequest().getPath());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.sendly;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sendly.webhooks.Webhooks;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the bundled native-image metadata covers every class Gson binds by reflection.
+ */
+class NativeImageConfigTest {
+    private static final String CONFIG_DIR = "META-INF/native-image/live.sendly/sendly-java/";
+
+    private static JsonElement load(String name) throws Exception {
+        try (InputStream in = NativeImageConfigTest.class.getClassLoader().getResourceAsStream(CONFIG_DIR + name)) {
+            assertNotNull(in, name + " missing from classpath");
+            return JsonParser.parseReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testReflectConfig_coversEveryReflectivelyBoundModel() throws Exception {
+        Set<String> registered = new HashSet<>();
+        for (JsonElement element : load("reflect-config.json").getAsJsonArray()) {
+            JsonObject entry = element.getAsJsonObject();
+            String name = entry.get("name").getAsString();
+            Class.forName(name);
+            assertTrue(entry.get("allDeclaredFields").getAsBoolean(), name);
+            assertTrue(entry.get("unsafeAllocated").getAsBoolean(), name);
+            registered.add(name);
+        }
+
+        List<Class<?>> roots = new ArrayList<>(ModelTypes.REQUESTS);
+        roots.addAll(ModelTypes.RESPONSES);
+        roots.add(Webhooks.WebhookEvent.class);
+        Set<String> missing = new TreeSet<>();
+        for (Class<?> type : reachableModels(roots)) {
+            if (!registered.contains(type.getName())) {
+                missing.add(type.getName());
+            }
+        }
+        assertTrue(missing.isEmpty(), "Not in reflect-config.json: " + missing);
+    }
+
+    @Test
+    void testClientGson_bindsEveryModelWithoutReflection() {
+        Gson gson = new Sendly("sk_test_123").getGson();
+        List<Class<?>> models = new ArrayList<>(ModelTypes.REQUESTS);
+        models.addAll(ModelTypes.RESPONSES);
+
+        for (Class<?> type : reachableModels(models)) {
+            String adapter = gson.getAdapter(type).getClass().getName();
+            assertFalse(adapter.contains("Reflective"), type.getName() + " bound by " + adapter);
+        }
+    }
+
+    @Test
+    void testResourceConfig_includesOkHttpPublicSuffixList() throws Exception {
+        JsonArray includes = load("resource-config.json").getAsJsonObject()
+                .getAsJsonObject("resources").getAsJsonArray("includes");
+
+        assertTrue(includes.toString().contains("okhttp3/internal/publicsuffix/publicsuffixes.gz"));
+        assertNotNull(getClass().getClassLoader().getResource("okhttp3/internal/publicsuffix/publicsuffixes.gz"));
+    }
+
+    private static Set<Class<?>> reachableModels(List<Class<?>> roots) {
+        Set<Class<?>> seen = new HashSet<>();
+        List<Class<?>> pending = new ArrayList<>(roots);
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.remove(pending.size() - 1);
+            if (!seen.add(type)) {
+                continue;
+            }
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                    continue;
+                }
+                collectModels(field.getGenericType(), pending);
+            }
+        }
+        return seen;
+    }
+
+    private static void collectModels(Type type, List<Class<?>> out) {
+        if (type instanceof ParameterizedType) {
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                collectModels(argument, out);
+            }
+        } else if (type instanceof Class && ((Class<?>) type).getName().startsWith("com.sendly.")) {
+            out.add((Class<?>) type);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sendly.exceptions.DeadlineExceededException;
+import com.sendly.models.BatchMessageItem;
+import com.sendly.models.SendBatchRequest;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for gzip compression of request bodies.
+ */
+class RequestCompressionTest {
+    private MockWebServer mockServer;
+    private Sendly client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .compressRequests(1024)
+                .maxRetries(0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testLargeBody_sentGzipped() throws Exception {
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.batchResponseJson("batch_1", 500, 500, 0)));
+
+        client.messages().sendBatch(batch(500));
+
+        RecordedRequest request = mockServer.takeRequest();
+        assertEquals("gzip", request.getHeader("Content-Encoding"));
+        byte[] compressed = request.getBody().readByteArray();
+        String json = gunzip(compressed);
+        assertEquals(500, JsonParser.parseString(json).getAsJsonObject().getAsJsonArray("messages").size());
+        assertTrue(compressed.length < json.length() / 5);
+    }
+
+    @Test
+    void testSmallBody_sentAsIs() throws Exception {
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.messageJson("msg_1", "+15551234567", "Hi", "queued")));
+
+        client.messages().send("+15551234567", "Hi");
+
+        RecordedRequest request = mockServer.takeRequest();
+        assertNull(request.getHeader("Content-Encoding"));
+        assertTrue(request.getBody().readUtf8().contains("\"text\":\"Hi\""));
+    }
+
+    @Test
+    void testUnsupportedMediaType_resendsUncompressedAndStopsCompressing() throws Exception {
+        mockServer.enqueue(new MockResponse().setResponseCode(415).setBody("{\"message\":\"Unsupported encoding\"}"));
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.batchResponseJson("batch_1", 200, 200, 0)));
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.batchResponseJson("batch_2", 200, 200, 0)));
+
+        assertEquals(200, client.messages().sendBatch(batch(200)).getQueued());
+        client.messages().sendBatch(batch(200));
+
+        assertEquals("gzip", mockServer.takeRequest().getHeader("Content-Encoding"));
+        RecordedRequest resent = mockServer.takeRequest();
+        assertNull(resent.getHeader("Content-Encoding"));
+        JsonObject body = JsonParser.parseString(resent.getBody().readUtf8()).getAsJsonObject();
+        assertEquals(200, body.getAsJsonArray("messages").size());
+        assertNull(mockServer.takeRequest().getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void testUnsupportedMediaType_isNotRetriedCompressed() throws Exception {
+        Sendly retrying = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .compressRequests(1024)
+                .maxRetries(3));
+        mockServer.enqueue(new MockResponse().setResponseCode(415).setBody("{\"message\":\"Unsupported encoding\"}"));
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.batchResponseJson("batch_1", 200, 200, 0)));
+
+        retrying.messages().sendBatch(batch(200));
+
+        assertEquals(2, mockServer.getRequestCount());
+        assertEquals("gzip", mockServer.takeRequest().getHeader("Content-Encoding"));
+        assertNull(mockServer.takeRequest().getHeader("Content-Encoding"));
+    }
+
+    @Test
+    void testUnsupportedMediaType_resendKeepsCallDeadline() {
+        Sendly limited = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .compressRequests(1024)
+                .callTimeout(Duration.ofMillis(1000))
+                .maxRetries(0));
+        mockServer.enqueue(new MockResponse().setResponseCode(415).setBody("{\"message\":\"Unsupported encoding\"}")
+                .setHeadersDelay(600, TimeUnit.MILLISECONDS));
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.batchResponseJson("batch_1", 200, 200, 0))
+                .setHeadersDelay(600, TimeUnit.MILLISECONDS));
+
+        assertThrows(DeadlineExceededException.class, () -> limited.messages().sendBatch(batch(200)));
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testThresholdStream_switchesToGzipPastThreshold() throws IOException {
+        ThresholdGzipOutputStream small = new ThresholdGzipOutputStream(8);
+        small.write("12345678".getBytes(StandardCharsets.UTF_8));
+        small.close();
+        ThresholdGzipOutputStream large = new ThresholdGzipOutputStream(8);
+        large.write("1234".getBytes(StandardCharsets.UTF_8));
+        large.write('5');
+        large.write("6789".getBytes(StandardCharsets.UTF_8));
+        large.close();
+
+        assertFalse(small.isCompressed());
+        assertEquals("12345678", new String(small.toByteArray(), StandardCharsets.UTF_8));
+        assertTrue(large.isCompressed());
+        assertEquals("123456789", gunzip(large.toByteArray()));
+    }
+
+    private static SendBatchRequest batch(int size) {
+        List<BatchMessageItem> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(new BatchMessageItem(String.format("+1555%07d", i), "Your order has shipped"));
+        }
+        return new SendBatchRequest(items);
+    }
+
+    private static String gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for GET response caching, ETag revalidation and invalidation.
+ */
+class ResponseCacheTest {
+    private static final String TEMPLATE = "{\"id\":\"tpl_1\",\"name\":\"Welcome\",\"text\":\"Hi {{name}}\"}";
+
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private Sendly.Builder builder() {
+        return new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .responseCache(new LruResponseCache())
+                .maxRetries(0);
+    }
+
+    @Test
+    void testTemplateGet_servedFromCacheUntilUpdated() throws Exception {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockSuccess(TEMPLATE));
+        mockServer.enqueue(TestHelpers.mockSuccess(TEMPLATE));
+        mockServer.enqueue(TestHelpers.mockSuccess(TEMPLATE.replace("Welcome", "Hello")));
+
+        assertEquals("Welcome", client.templates().get("tpl_1").getName());
+        assertEquals("Welcome", client.templates().get("tpl_1").getName());
+        assertEquals(1, mockServer.getRequestCount());
+
+        client.templates().update("tpl_1", "Hello", "Hi {{name}}");
+        assertEquals("Hello", client.templates().get("tpl_1").getName());
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testExpiredEntry_revalidatesWithETag() throws Exception {
+        Sendly client = new Sendly("sk_test_123", builder().cacheTtl("/account", Duration.ofMillis(1)));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":\"acc_1\"}").setHeader("ETag", "\"v1\""));
+        mockServer.enqueue(new MockResponse().setResponseCode(304).setHeader("ETag", "\"v1\""));
+
+        JsonObject first = client.get("/account", null);
+        Thread.sleep(20);
+        JsonObject second = client.get("/account", null);
+
+        assertNull(mockServer.takeRequest().getHeader("If-None-Match"));
+        RecordedRequest revalidation = mockServer.takeRequest();
+        assertEquals("\"v1\"", revalidation.getHeader("If-None-Match"));
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void testCachedBody_isNotChangedByCallers() {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":\"acc_1\",\"name\":\"Acme\"}"));
+
+        JsonObject first = client.get("/account", null);
+        first.addProperty("name", "changed");
+        JsonObject second = client.get("/account", null);
+        second.remove("id");
+        JsonObject third = client.get("/account", null);
+
+        assertEquals("Acme", second.get("name").getAsString());
+        assertEquals("acc_1", third.get("id").getAsString());
+        assertEquals("Acme", third.get("name").getAsString());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testCache_isPerApiKeyAndSkipsUncachedPaths() throws Exception {
+        LruResponseCache cache = new LruResponseCache();
+        Sendly.Builder builder = builder().responseCache(cache);
+        Sendly tenantA = new Sendly("sk_test_a", builder);
+        Sendly tenantB = new Sendly("sk_test_b", builder);
+        for (int i = 0; i < 4; i++) {
+            mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":\"acc_1\"}"));
+        }
+
+        tenantA.get("/account", null);
+        tenantB.get("/account", null);
+        tenantA.get("/credits", null);
+        tenantA.get("/credits", null);
+
+        assertEquals(4, mockServer.getRequestCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testLruResponseCache_evictsLeastRecentlyUsed() {
+        LruResponseCache cache = new LruResponseCache(2);
+        ResponseCache.Entry entry = new ResponseCache.Entry(new JsonObject(), null, Long.MAX_VALUE);
+
+        cache.put("a", entry);
+        cache.put("b", entry);
+        cache.get("a");
+        cache.put("c", entry);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testContactListUpdate_dropsCachedCampaignPreview() throws Exception {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"recipients\":10}"));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":\"lst_1\"}"));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"recipients\":12}"));
+
+        assertEquals(10, client.get("/campaigns/cmp_1/preview", null).get("recipients").getAsInt());
+        client.patch("/contact-lists/lst_1", new JsonObject());
+
+        assertEquals(12, client.get("/campaigns/cmp_1/preview", null).get("recipients").getAsInt());
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testReadInFlightDuringUpdate_isNotCached() throws Exception {
+        CountDownLatch readArrived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (request.getMethod().equals("GET") && reads.incrementAndGet() == 1) {
+                    readArrived.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return TestHelpers.mockSuccess(TEMPLATE);
+                }
+                return TestHelpers.mockSuccess(TEMPLATE.replace("Welcome", "Hello"));
+            }
+        });
+        Sendly client = new Sendly("sk_test_123", builder());
+
+        Thread staleRead = new Thread(() -> client.templates().get("tpl_1"));
+        staleRead.start();
+        assertTrue(readArrived.await(5, TimeUnit.SECONDS));
+        client.templates().update("tpl_1", "Hello", "Hi {{name}}");
+        release.countDown();
+        staleRead.join();
+
+        assertEquals("Hello", client.templates().get("tpl_1").getName());
+        assertEquals(2, reads.get());
+    }
+}
@@ -0,0 +1,191 @@
+package com.sendly;
+
+import com.sendly.exceptions.NetworkException;
+import com.sendly.exceptions.RateLimitException;
+import com.sendly.exceptions.SendlyException;
+import com.sendly.exceptions.ValidationException;
+import com.sendly.models.BatchMessageItem;
+import com.sendly.models.BatchMessageResponse;
+import com.sendly.models.CheckVerificationResponse;
+import com.sendly.models.Message;
+import com.sendly.models.SendBatchRequest;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the result-returning send methods.
+ */
+class SendResultTest {
+    private MockWebServer mockServer;
+    private Sendly client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+        client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxRetries(1));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    @Test
+    void testTrySend_success() {
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.messageJson("msg_1", "+15551234567", "Hi", "queued")));
+
+        SendResult<Message> result = client.messages().trySend("+15551234567", "Hi");
+
+        assertTrue(result.isSuccess());
+        assertEquals("msg_1", result.getValue().getId());
+        assertNull(result.getError());
+    }
+
+    @Test
+    void testTrySend_invalidPhone_failsWithoutRequest() {
+        SendResult<Message> result = client.messages().trySend("555-1234", "Hi");
+
+        assertFalse(result.isSuccess());
+        assertNull(result.getValue());
+        assertInstanceOf(ValidationException.class, result.getError());
+        assertEquals(0, result.getError().getStackTrace().length);
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testTrySend_rateLimited_returnsTypedStacklessError() {
+        Sendly failFast = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .retryOnRateLimit(false));
+        mockServer.enqueue(TestHelpers.mockRateLimit(30));
+
+        SendResult<Message> result = failFast.messages().trySend("+15551234567", "Hi");
+
+        RateLimitException error = assertInstanceOf(RateLimitException.class, result.getError());
+        assertEquals(30, error.getRetryAfter());
+        assertEquals(429, error.getStatusCode());
+        assertEquals(0, error.getStackTrace().length);
+    }
+
+    @Test
+    void testTrySend_retriesServerErrors() {
+        mockServer.enqueue(TestHelpers.mockServerError());
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.messageJson("msg_1", "+15551234567", "Hi", "queued")));
+
+        SendResult<Message> result = client.messages().trySend("+15551234567", "Hi");
+
+        assertTrue(result.isSuccess());
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testTrySendBatch_invalidItem_fails() {
+        SendBatchRequest request = new SendBatchRequest(List.of(
+                new BatchMessageItem("+15551234567", "Hi"),
+                new BatchMessageItem("+15551234568", "")));
+
+        SendResult<BatchMessageResponse> result = client.messages().trySendBatch(request);
+
+        assertInstanceOf(ValidationException.class, result.getError());
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testTryCheck_wrongCode_returnsValidationError() {
+        mockServer.enqueue(TestHelpers.mockValidationError("Invalid code"));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":\"ver_1\",\"status\":\"verified\"}"));
+
+        SendResult<CheckVerificationResponse> wrong = client.verify().tryCheck("ver_1", "000000");
+        SendResult<CheckVerificationResponse> right = client.verify().tryCheck("ver_1", "123456");
+
+        assertEquals("Invalid code", wrong.getError().getMessage());
+        assertInstanceOf(ValidationException.class, wrong.getError());
+        assertEquals("verified", right.getValue().getStatus());
+    }
+
+    @Test
+    void testTrySend_networkFailure_returnedNotThrown() throws IOException {
+        Sendly noRetries = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxRetries(0));
+        mockServer.shutdown();
+
+        SendResult<Message> result = noRetries.messages().trySend("+15551234567", "Hi");
+
+        assertInstanceOf(NetworkException.class, result.getError());
+        assertEquals(0, result.getError().getStackTrace().length);
+        assertInstanceOf(IOException.class, result.getError().getCause());
+    }
+
+    @Test
+    void testSend_networkFailure_stillThrowsWithStackTrace() throws IOException {
+        Sendly noRetries = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxRetries(0));
+        mockServer.shutdown();
+
+        NetworkException e = assertThrows(NetworkException.class, () -> noRetries.messages().send("+15551234567", "Hi"));
+
+        assertTrue(e.getStackTrace().length > 0);
+    }
+
+    @Test
+    void testTryCheck_unreadableResponse_returnedNotThrown() {
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"id\":[1,2],\"status\":{}}"));
+
+        SendResult<CheckVerificationResponse> result = client.verify().tryCheck("ver_1", "123456");
+
+        assertFalse(result.isSuccess());
+        assertEquals(0, result.getError().getStackTrace().length);
+        assertNotNull(result.getError().getCause());
+    }
+
+    @Test
+    void testTrySend_nullRequest_failsWithoutRequest() {
+        assertInstanceOf(ValidationException.class, client.messages().trySend(null).getError());
+        assertInstanceOf(ValidationException.class, client.messages().trySendBatch(null).getError());
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testSend_stillThrowsWithStackTrace() {
+        mockServer.enqueue(TestHelpers.mockServerError());
+        mockServer.enqueue(TestHelpers.mockServerError());
+
+        SendlyException e = assertThrows(SendlyException.class, () -> client.messages().send("+15551234567", "Hi"));
+
+        assertEquals(500, e.getStatusCode());
+        assertTrue(e.getStackTrace().length > 0);
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testMap_passesFailureThrough() {
+        SendResult<String> failed = SendResult.failure(new SendlyException("boom", 500, null, false));
+
+        assertSame(failed.getError(), failed.map(String::length).getError());
+        assertEquals(2, SendResult.success("hi").map(String::length).getValue());
+        assertThrows(IllegalArgumentException.class, () -> SendResult.failure(null));
+    }
+
+    @Test
+    void testMap_throwingMapper_becomesStacklessFailure() {
+        SendResult<Integer> result = SendResult.success("hi").map(value -> {
+            throw new IllegalStateException("bad binder");
+        });
+
+        assertFalse(result.isSuccess());
+        assertInstanceOf(IllegalStateException.class, result.getError().getCause());
+        assertEquals(0, result.getError().getStackTrace().length);
+    }
+}
@@ -1,9 +1,13 @@
 package com.sendly;
 
+import com.google.gson.JsonObject;
 import com.sendly.exceptions.AuthenticationException;
+import com.sendly.exceptions.DeadlineExceededException;
 import com.sendly.exceptions.NetworkException;
+import com.sendly.exceptions.NotFoundException;
 import com.sendly.exceptions.RateLimitException;
 import com.sendly.exceptions.SendlyException;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -13,6 +17,15 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -322,4 +335,366 @@ class SendlyTest {
             client.get("/test", null);
         });
     }
+
+    // ==================== Shared Transport Tests ====================
+
+    @Test
+    void testSharedTransport_clientsShareConnectionsButNotKeys() throws Exception {
+        SendlyTransport transport = SendlyTransport.builder().build();
+        Sendly.Builder builder = new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .sharedTransport(transport)
+                .maxRetries(0);
+
+        Sendly tenantA = new Sendly("sk_test_a", builder);
+        Sendly tenantB = new Sendly("sk_test_b", builder);
+
+        mockServer.enqueue(TestHelpers.mockSuccess("{}"));
+        mockServer.enqueue(TestHelpers.mockSuccess("{}"));
+        tenantA.get("/account", null);
+        tenantB.get("/account", null);
+
+        assertEquals("Bearer sk_test_a", mockServer.takeRequest().getHeader("Authorization"));
+        RecordedRequest second = mockServer.takeRequest();
+        assertEquals("Bearer sk_test_b", second.getHeader("Authorization"));
+        assertEquals(1, second.getSequenceNumber());
+        assertEquals(1, transport.getConnectionCount());
+        assertSame(tenantA.getGson(), tenantB.getGson());
+        assertSame(transport, tenantB.getTransport());
+    }
+
+    @Test
+    void testMaxConcurrentRequests_capsInFlightCallsPerClient() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(50);
+                inFlight.decrementAndGet();
+                return TestHelpers.mockSuccess("{}");
+            }
+        });
+
+        SendlyTransport transport = SendlyTransport.builder().maxConcurrentRequestsPerClient(2).build();
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .sharedTransport(transport)
+                .maxRetries(0));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Thread thread = new Thread(() -> client.get("/account", null));
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(6, mockServer.getRequestCount());
+        assertTrue(maxInFlight.get() <= 2, "At most 2 requests should run at once");
+    }
+
+    @Test
+    void testPerClientCap_spansEveryBulkhead() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                Thread.sleep(50);
+                inFlight.decrementAndGet();
+                return TestHelpers.mockSuccess("{}");
+            }
+        });
+
+        SendlyTransport transport = SendlyTransport.builder().maxConcurrentRequestsPerClient(2).build();
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .sharedTransport(transport)
+                .maxRetries(0));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            for (Runnable call : List.<Runnable>of(
+                    () -> client.get("/account", null),
+                    () -> client.get("/verify/ver_1", null),
+                    () -> client.post("/messages/batch", Map.of()))) {
+                Thread thread = new Thread(call);
+                threads.add(thread);
+                thread.start();
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(9, mockServer.getRequestCount());
+        assertTrue(maxInFlight.get() <= 2, "At most 2 requests should run at once, saw " + maxInFlight.get());
+    }
+
+    // ==================== Credential Rotation Tests ====================
+
+    @Test
+    void testRotatingCredentials_nextRequestUsesNewKeyOnSameConnection() throws Exception {
+        RotatingCredentials credentials = new RotatingCredentials("sk_test_old");
+        Sendly client = new Sendly(credentials, new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .maxRetries(0));
+
+        mockServer.enqueue(TestHelpers.mockSuccess("{}"));
+        mockServer.enqueue(TestHelpers.mockSuccess("{}"));
+        client.get("/account", null);
+        assertEquals("sk_test_old", credentials.rotate("sk_test_new"));
+        client.get("/account", null);
+
+        assertEquals("Bearer sk_test_old", mockServer.takeRequest().getHeader("Authorization"));
+        assertEquals("Bearer sk_test_new", mockServer.takeRequest().getHeader("Authorization"));
+        assertEquals(1, client.getTransport().getConnectionCount());
+    }
+
+    @Test
+    void testRotatingCredentials_inFlightRequestRejectedAfterRotationIsResent() throws Exception {
+        RotatingCredentials credentials = new RotatingCredentials("sk_test_old");
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if ("Bearer sk_test_old".equals(request.getHeader("Authorization"))) {
+                    // Old key is revoked while this request is in flight
+                    credentials.rotate("sk_test_new");
+                    return new MockResponse().setResponseCode(401).setBody("{\"message\":\"Key revoked\"}");
+                }
+                return TestHelpers.mockSuccess("{}");
+            }
+        });
+        Sendly client = new Sendly(credentials, new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .maxRetries(0));
+
+        assertNotNull(client.get("/account", null));
+
+        assertEquals(2, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testRotatingCredentials_unchangedKeyStillFailsOn401() {
+        mockServer.enqueue(new MockResponse().setResponseCode(401).setBody("{\"message\":\"Invalid API key\"}"));
+        Sendly client = new Sendly(new RotatingCredentials("sk_test_bad"), new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .maxRetries(0));
+
+        assertThrows(AuthenticationException.class, () -> client.get("/account", null));
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    // ==================== Read Coalescing Tests ====================
+
+    @Test
+    void testConcurrentIdenticalGets_shareOneRequest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return TestHelpers.mockSuccess("{\"balance\":100}");
+            }
+        });
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .coalesceReads(true)
+                .maxRetries(0));
+
+        List<JsonObject> results = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Thread thread = new Thread(() -> results.add(client.get("/credits", null)));
+            threads.add(thread);
+            thread.start();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (client.getCoalescedReadCount() < 4 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, mockServer.getRequestCount());
+        assertEquals(4, client.getCoalescedReadCount());
+        assertEquals(5, results.size());
+        assertEquals(100, results.get(4).get("balance").getAsInt());
+        assertEquals(5, results.stream().map(System::identityHashCode).distinct().count(),
+                "Every caller gets its own copy");
+    }
+
+    @Test
+    void testCoalescing_offByDefault() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return TestHelpers.mockSuccess("{\"balance\":100}");
+            }
+        });
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .maxRetries(0));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Thread thread = new Thread(() -> client.get("/credits", null));
+            threads.add(thread);
+            thread.start();
+        }
+        Thread.sleep(200);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(3, mockServer.getRequestCount());
+        assertEquals(0, client.getCoalescedReadCount());
+    }
+
+    @Test
+    void testCoalescing_viewsWithOtherTimeoutsDoNotShare() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return TestHelpers.mockSuccess("{\"balance\":100}");
+            }
+        });
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .coalesceReads(true)
+                .maxRetries(0));
+        Sendly impatient = client.withCallTimeout(Duration.ofMillis(300));
+
+        Thread slow = new Thread(() -> client.get("/credits", null));
+        slow.start();
+        Thread.sleep(100);
+        long start = System.nanoTime();
+        assertThrows(DeadlineExceededException.class, () -> impatient.get("/credits", null));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        slow.join();
+
+        assertTrue(elapsed < 2000, "The view kept its own deadline, took " + elapsed + "ms");
+        assertEquals(0, client.getCoalescedReadCount());
+    }
+
+    @Test
+    void testCoalescing_keysOnParamsAndApiKey() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return TestHelpers.mockNotFound();
+            }
+        });
+        SendlyTransport transport = SendlyTransport.builder().build();
+        Sendly.Builder builder = new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .sharedTransport(transport)
+                .coalesceReads(true)
+                .maxRetries(0);
+        Sendly tenantA = new Sendly("sk_test_a", builder);
+        Sendly tenantB = new Sendly("sk_test_b", builder);
+
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger notFound = new AtomicInteger();
+        for (Runnable call : List.<Runnable>of(
+                () -> tenantA.get("/messages", Map.of("limit", "10")),
+                () -> tenantA.get("/messages", Map.of("limit", "20")),
+                () -> tenantB.get("/messages", Map.of("limit", "10")))) {
+            Thread thread = new Thread(() -> {
+                try {
+                    call.run();
+                } catch (NotFoundException e) {
+                    notFound.incrementAndGet();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        Thread.sleep(200);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(3, mockServer.getRequestCount());
+        assertEquals(3, notFound.get());
+        assertEquals(0, tenantA.getCoalescedReadCount());
+    }
+
+    // ==================== Warm-Up Tests ====================
+
+    @Test
+    void testWarmUp_opensConnectionsInEveryPoolWithoutCredentials() throws Exception {
+        List<RecordedRequest> requests = Collections.synchronizedList(new ArrayList<>());
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                requests.add(request);
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        SendlyTransport transport = SendlyTransport.builder().build();
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .sharedTransport(transport)
+                .maxRetries(0));
+
+        client.warmUp(2);
+
+        // Two connections for each of the default, verify and bulk pools
+        assertEquals(6, requests.size());
+        for (RecordedRequest request : requests) {
+            assertEquals("HEAD", request.getMethod());
+            assertNull(request.getHeader("Authorization"));
+        }
+        assertTrue(transport.getConnectionCount(Bulkhead.DEFAULT) >= 1);
+        assertTrue(transport.getConnectionCount(Bulkhead.VERIFY) >= 1);
+    }
+
+    @Test
+    void testWarmUp_primesModelsThroughConfiguredCodec() {
+        Set<Class<?>> bound = ConcurrentHashMap.newKeySet();
+        GsonCodec gson = new GsonCodec(SendlyTransport.newGson());
+        JsonCodec recording = new JsonCodec() {
+            @Override
+            public byte[] encode(Object value) {
+                return gson.encode(value);
+            }
+
+            @Override
+            public JsonObject decode(String json) {
+                return gson.decode(json);
+            }
+
+            @Override
+            public <T> T bind(JsonObject json, Class<T> type) {
+                bound.add(type);
+                return gson.bind(json, type);
+            }
+        };
+        Sendly client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .codec(recording)
+                .maxRetries(0));
+
+        client.warmUp(0);
+
+        assertTrue(bound.containsAll(ModelTypes.REQUESTS));
+        assertTrue(bound.containsAll(ModelTypes.RESPONSES));
+    }
 }
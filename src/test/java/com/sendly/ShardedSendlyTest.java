@@ -0,0 +1,223 @@
+package com.sendly;
+
+import com.sendly.exceptions.RateLimitException;
+import com.sendly.exceptions.SendlyException;
+import com.sendly.exceptions.ValidationException;
+import com.sendly.models.BatchMessageItem;
+import com.sendly.models.SendBatchRequest;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ShardedSendly key selection and rate-limit failover.
+ */
+class ShardedSendlyTest {
+    private MockWebServer mockServer;
+    private final Set<String> limitedKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, AtomicInteger> requestsByKey = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String key = request.getHeader("Authorization").substring("Bearer ".length());
+                requestsByKey.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+                if (limitedKeys.contains(key)) {
+                    return TestHelpers.mockRateLimit(60);
+                }
+                if (key.startsWith("sk_test_garbled")) {
+                    return TestHelpers.mockSuccess("{\"batchId\":[],\"queued\":\"many\"}");
+                }
+                if (request.getPath().contains("/batch")) {
+                    int count = request.getBody().readUtf8().split("\"to\"").length - 1;
+                    return TestHelpers.mockSuccess(TestHelpers.batchResponseJson("batch_" + key, count, count, 0));
+                }
+                return TestHelpers.mockSuccess(TestHelpers.messageJson("msg_" + key, "+15551234567", "Hi", "queued"));
+            }
+        });
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private ShardedSendly sharded(ShardedSendly.Strategy strategy, String... keys) {
+        return new ShardedSendly(List.of(keys), new ShardedSendly.Builder()
+                .strategy(strategy)
+                .client(new Sendly.Builder()
+                        .baseUrl(mockServer.url("/").toString())
+                        .maxRetries(0)));
+    }
+
+    @Test
+    void testRoundRobin_spreadsRequestsEvenly() {
+        ShardedSendly sharded = sharded(ShardedSendly.Strategy.ROUND_ROBIN, "sk_test_a", "sk_test_b", "sk_test_c");
+
+        for (int i = 0; i < 9; i++) {
+            sharded.send("+15551234567", "Hi");
+        }
+
+        assertEquals(3, requestsByKey.get("sk_test_a").get());
+        assertEquals(3, requestsByKey.get("sk_test_b").get());
+        assertEquals(3, requestsByKey.get("sk_test_c").get());
+    }
+
+    @Test
+    void testRateLimitedKey_failsOverAndIsBenched() {
+        limitedKeys.add("sk_test_a");
+        ShardedSendly sharded = sharded(ShardedSendly.Strategy.ROUND_ROBIN, "sk_test_a", "sk_test_b");
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals("msg_sk_test_b", sharded.send("+15551234567", "Hi").getId());
+        }
+
+        // Key A answered 429 once, then sat out its Retry-After
+        assertEquals(1, requestsByKey.get("sk_test_a").get());
+        assertEquals(4, requestsByKey.get("sk_test_b").get());
+        ShardedSendly.ShardStats statsA = sharded.getStats().get(0);
+        assertTrue(statsA.isRateLimited());
+        assertEquals(1, statsA.getRateLimitCount());
+        assertEquals("...st_a", statsA.getKeyHint());
+    }
+
+    @Test
+    void testAllKeysRateLimited_throwsRateLimitException() {
+        limitedKeys.add("sk_test_a");
+        ShardedSendly sharded = sharded(ShardedSendly.Strategy.LEAST_OUTSTANDING, "sk_test_a");
+
+        RateLimitException first = assertThrows(RateLimitException.class, () ->
+            sharded.execute(client -> client.messages().send("+15551234567", "Hi")));
+        RateLimitException second = assertThrows(RateLimitException.class, () ->
+            sharded.execute(client -> client.messages().send("+15551234567", "Hi")));
+
+        assertEquals(60, first.getRetryAfter());
+        assertTrue(second.getRetryAfter() > 55);
+        // The second call failed fast without touching the benched key
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testSendBatch_chunksAcrossKeys() {
+        ShardedSendly sharded = sharded(ShardedSendly.Strategy.LEAST_OUTSTANDING, "sk_test_a", "sk_test_b");
+        SendBatchRequest.Builder batch = SendBatchRequest.builder();
+        for (int i = 0; i < 25; i++) {
+            batch.addMessage(String.format("+155512345%02d", i), "Hello " + i);
+        }
+
+        ShardedSendly.BatchResult result = sharded.sendBatch(batch.build(), 10);
+
+        assertTrue(result.isComplete());
+        assertEquals(3, result.getResponses().size());
+        assertEquals(25, result.getQueued());
+        assertEquals(3, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testSendBatch_unexpectedFailureIsReported() {
+        ShardedSendly sharded = sharded(ShardedSendly.Strategy.ROUND_ROBIN, "sk_test_garbled");
+
+        ShardedSendly.BatchResult result = sharded.sendBatch(SendBatchRequest.builder()
+                .addMessage("+15551234567", "Hello")
+                .build(), 10);
+
+        assertEquals(1, result.getFailures().size());
+        assertNotNull(result.getFailures().get(0).getError());
+    }
+
+    @Test
+    void testSendBatch_missingMessagesIsValidationError() {
+        ShardedSendly sharded = sharded(ShardedSendly.Strategy.ROUND_ROBIN, "sk_test_a");
+
+        assertThrows(ValidationException.class, () -> sharded.sendBatch(null));
+        assertThrows(ValidationException.class, () -> sharded.sendBatch(new SendBatchRequest(null)));
+        assertThrows(ValidationException.class, () -> sharded.sendBatch(
+                new SendBatchRequest(Arrays.asList(new BatchMessageItem("+15551234567", "Hi"), null))));
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testSendBatch_reusesBoundedThreadsAndStopsThemOnClose() throws InterruptedException {
+        Set<Thread> before = batchThreads();
+        ShardedSendly sharded = sharded(ShardedSendly.Strategy.ROUND_ROBIN, "sk_test_a", "sk_test_b", "sk_test_c");
+        SendBatchRequest.Builder batch = SendBatchRequest.builder();
+        for (int i = 0; i < 30; i++) {
+            batch.addMessage(String.format("+155512345%02d", i), "Hello " + i);
+        }
+        SendBatchRequest request = batch.build();
+
+        for (int call = 0; call < 10; call++) {
+            assertTrue(sharded.sendBatch(request, 5).isComplete());
+        }
+        Set<Thread> started = batchThreads();
+        started.removeAll(before);
+        assertTrue(started.size() <= 2, "started " + started.size() + " batch threads");
+
+        sharded.close();
+        for (Thread thread : started) {
+            thread.join(5000);
+            assertFalse(thread.isAlive());
+        }
+    }
+
+    private static Set<Thread> batchThreads() {
+        Set<Thread> threads = new HashSet<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("sendly-shard-batch-")) {
+                threads.add(thread);
+            }
+        }
+        return threads;
+    }
+
+    @Test
+    void testClientBuilder_isCopiedNotChanged() {
+        Sendly.Builder clientBuilder = new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .maxRetries(0);
+
+        ShardedSendly sharded = new ShardedSendly(List.of("sk_test_a", "sk_test_b"),
+                new ShardedSendly.Builder().client(clientBuilder));
+
+        assertFalse(clientBuilder.hasSharedTransport());
+        Sendly plain = new Sendly("sk_test_c", clientBuilder);
+        assertNotSame(sharded.getClients().get(0).getTransport(), plain.getTransport());
+        assertSame(sharded.getClients().get(0).getTransport(), sharded.getClients().get(1).getTransport());
+        sharded.close();
+        plain.close();
+    }
+
+    @Test
+    void testClose_shutsDownEveryKey() {
+        ShardedSendly sharded = sharded(ShardedSendly.Strategy.ROUND_ROBIN, "sk_test_a", "sk_test_b");
+        sharded.send("+15551234567", "Hi");
+
+        assertTrue(sharded.shutdown(Duration.ofSeconds(1)));
+
+        for (Sendly client : sharded.getClients()) {
+            assertTrue(client.isShutdown());
+        }
+        SendlyException e = assertThrows(SendlyException.class, () -> sharded.send("+15551234567", "Hi"));
+        assertEquals("CLIENT_SHUT_DOWN", e.getErrorCode());
+    }
+}
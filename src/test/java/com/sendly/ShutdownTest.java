@@ -0,0 +1,131 @@
+package com.sendly;
+
+import com.google.gson.JsonObject;
+import com.sendly.exceptions.SendlyException;
+import com.sendly.models.Message;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for closing and shutting down clients.
+ */
+class ShutdownTest {
+    private MockWebServer mockServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private Sendly.Builder builder() {
+        return new Sendly.Builder()
+                .baseUrl(mockServer.url("/api/v1").toString())
+                .maxRetries(3);
+    }
+
+    @Test
+    void testClose_drainsCallsInFlight() throws Exception {
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"ok\":true}").setHeadersDelay(500, TimeUnit.MILLISECONDS));
+        CompletableFuture<JsonObject> call;
+        try (Sendly client = new Sendly("sk_test_123", builder())) {
+            call = CompletableFuture.supplyAsync(() -> client.post("/ping", new JsonObject()));
+            mockServer.takeRequest();
+        }
+
+        assertTrue(call.get(100, TimeUnit.MILLISECONDS).get("ok").getAsBoolean());
+    }
+
+    @Test
+    void testShutdown_rejectsNewCallsWithoutSending() {
+        Sendly client = new Sendly("sk_test_123", builder());
+
+        assertTrue(client.shutdown(Duration.ofSeconds(1)));
+
+        SendlyException e = assertThrows(SendlyException.class, () -> client.get("/account", null));
+        assertEquals("CLIENT_SHUT_DOWN", e.getErrorCode());
+        assertTrue(client.isShutdown());
+        assertTrue(client.withBulkhead(Bulkhead.VERIFY).isShutdown());
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testShutdown_cancelsCallsStillRunningAfterTimeout() throws Exception {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockSuccess("{}").setHeadersDelay(5, TimeUnit.SECONDS));
+        CompletableFuture<JsonObject> call = CompletableFuture.supplyAsync(() -> client.get("/account", null));
+        mockServer.takeRequest();
+
+        long start = System.nanoTime();
+        assertFalse(client.shutdown(Duration.ofMillis(200)));
+        ExecutionException e = assertThrows(ExecutionException.class, () -> call.get(2, TimeUnit.SECONDS));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+        assertInstanceOf(SendlyException.class, e.getCause());
+        assertEquals(1, mockServer.getRequestCount());
+        assertEquals(0, client.getTransport().getConnectionCount());
+    }
+
+    @Test
+    void testShutdown_cutsRetryBackoffShort() throws Exception {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockServerError());
+        CompletableFuture<JsonObject> call = CompletableFuture.supplyAsync(
+                () -> client.post("/ping", new JsonObject()));
+        mockServer.takeRequest();
+        Thread.sleep(200); // Let the 500 arrive and the 1s backoff start
+
+        client.shutdown(Duration.ZERO);
+        ExecutionException e = assertThrows(ExecutionException.class, () -> call.get(500, TimeUnit.MILLISECONDS));
+
+        SendlyException error = (SendlyException) e.getCause();
+        assertEquals("CLIENT_SHUT_DOWN", error.getErrorCode());
+        assertEquals(500, ((SendlyException) error.getCause()).getStatusCode());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testShutdown_stopsPaginator() {
+        Sendly client = new Sendly("sk_test_123", builder());
+        mockServer.enqueue(TestHelpers.mockSuccess(TestHelpers.messageListJson(100, 0, true)));
+
+        Iterator<Message> messages = client.messages().each().iterator();
+        for (int i = 0; i < 100; i++) {
+            messages.next();
+        }
+        client.shutdown(Duration.ZERO);
+
+        RuntimeException e = assertThrows(RuntimeException.class, messages::hasNext);
+        assertEquals("CLIENT_SHUT_DOWN", ((SendlyException) e.getCause()).getErrorCode());
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testShutdown_leavesSharedTransportOpen() {
+        SendlyTransport transport = SendlyTransport.builder().build();
+        Sendly first = new Sendly("sk_test_123", builder().sharedTransport(transport));
+        Sendly second = new Sendly("sk_test_456", builder().sharedTransport(transport));
+        mockServer.enqueue(TestHelpers.mockSuccess("{\"ok\":true}"));
+
+        first.close();
+
+        assertTrue(second.get("/account", null).get("ok").getAsBoolean());
+        transport.close();
+    }
+}
@@ -148,6 +148,16 @@ class ExceptionsTest {
         assertEquals(0, exception.getRetryAfter());
     }
 
+    @Test
+    void testRateLimitException_withoutStackTrace() {
+        RateLimitException exception = new RateLimitException("Rate limit exceeded", 30, false);
+
+        assertEquals(429, exception.getStatusCode());
+        assertEquals("RATE_LIMIT_EXCEEDED", exception.getErrorCode());
+        assertEquals(30, exception.getRetryAfter());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
     @Test
     void testRateLimitException_withMessageAndRetryAfter() {
         RateLimitException exception = new RateLimitException("Rate limit exceeded", 60);
@@ -0,0 +1,131 @@
+package com.sendly.models;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming model adapters.
+ */
+class ModelAdapterTest {
+    private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(ModelAdapters.FACTORY).create();
+
+    @Test
+    void testDecode_acceptsSnakeAndCamelCaseAndSkipsUnknownFields() {
+        String json = "{\"templates\":["
+                + "{\"id\":\"tpl_1\",\"is_preset\":true,\"published_at\":\"2025-01-01\",\"version\":3,"
+                + "\"variables\":[{\"key\":\"name\",\"fallback\":null}],\"extra\":{\"nested\":[1,2]}},"
+                + "{\"id\":\"tpl_2\",\"isPreset\":true,\"presetSlug\":\"otp\",\"createdAt\":\"2025-02-02\"}]}";
+
+        List<Template> templates = gson.fromJson(json, TemplateListResponse.class).getTemplates();
+
+        assertEquals(2, templates.size());
+        Template first = templates.get(0);
+        assertTrue(first.isPreset());
+        assertEquals("2025-01-01", first.getPublishedAt());
+        assertEquals(3, first.getVersion());
+        assertEquals("name", first.getVariables().get(0).getKey());
+        assertNull(first.getVariables().get(0).getFallback());
+        Template second = templates.get(1);
+        assertTrue(second.isPreset());
+        assertEquals("otp", second.getPresetSlug());
+        assertEquals("2025-02-02", second.getCreatedAt());
+    }
+
+    @Test
+    void testDecode_nullableAndFreeFormFields() {
+        CheckVerificationResponse check = gson.fromJson(
+                "{\"id\":\"ver_1\",\"status\":\"pending\",\"remaining_attempts\":null}", CheckVerificationResponse.class);
+        VerifySession session = gson.fromJson(
+                "{\"id\":\"vs_1\",\"success_url\":\"https://x\",\"metadata\":{\"order\":\"42\",\"n\":1}}", VerifySession.class);
+
+        assertNull(check.getRemainingAttempts());
+        assertEquals("pending", check.getStatus());
+        assertEquals("https://x", session.getSuccessUrl());
+        Map<String, Object> metadata = session.getMetadata();
+        assertEquals("42", metadata.get("order"));
+        assertEquals(1.0, metadata.get("n"));
+    }
+
+    @Test
+    void testEncode_matchesReflectiveWireFormat() {
+        Gson reflective = new Gson();
+        List<Object> requests = Arrays.asList(
+                SendMessageRequest.builder().to("+15551234567").text("Hi").messageType("transactional").build(),
+                new ScheduleMessageRequest("+15551234567", "Later", "2030-01-01T00:00:00Z", "ACME"),
+                SendBatchRequest.builder().addMessage("+15551234567", "A").addMessage("+15557654321", "B").build(),
+                CreateCampaignRequest.builder().name("Launch").text("Hi").contactListIds(List.of("cl_1")).templateId("tpl_1").build(),
+                ScheduleCampaignRequest.builder().scheduledAt("2030-01-01T00:00:00Z").build(),
+                CreateContactRequest.builder().phoneNumber("+15551234567").metadata(Map.of("plan", "pro")).build(),
+                UpdateContactListRequest.builder().name("VIP").build(),
+                new AddContactsRequest(List.of("ct_1", "ct_2")));
+
+        for (Object request : requests) {
+            assertEquals(reflective.toJson(request), gson.toJson(request), request.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    void testRoundTrip_readsRequestsBackThroughTheirBuilders() {
+        SendBatchRequest batch = SendBatchRequest.builder().addMessage("+15551234567", "A").from("ACME").build();
+        AddContactsRequest add = new AddContactsRequest(List.of("ct_1"));
+
+        SendBatchRequest batchCopy = gson.fromJson(gson.toJson(batch), SendBatchRequest.class);
+        AddContactsRequest addCopy = gson.fromJson(gson.toJson(add), AddContactsRequest.class);
+
+        assertEquals("ACME", batchCopy.getFrom());
+        assertEquals("+15551234567", batchCopy.getMessages().get(0).getTo());
+        assertEquals(List.of("ct_1"), addCopy.getContactIds());
+    }
+
+    @Test
+    void testDecode_pagedModelsMatchTheirJsonObjectConstructors() {
+        String message = "{\"id\":\"msg_1\",\"to\":\"+15551234567\",\"status\":\"delivered\","
+                + "\"creditsUsed\":2,\"is_sandbox\":true,\"created_at\":\"2025-01-01T00:00:00Z\","
+                + "\"delivered_at\":\"not a date\",\"error_code\":null}";
+        String list = "{\"data\":[" + message + "],\"pagination\":{\"limit\":50,\"has_more\":true}}";
+        String delivery = "{\"id\":\"del_1\",\"webhookId\":\"whk_1\",\"status\":\"failed\","
+                + "\"response_status_code\":502,\"next_retry_at\":\"2025-01-01T00:05:00Z\"}";
+
+        Message bound = gson.fromJson(message, Message.class);
+        Message built = new Message(JsonParser.parseString(message).getAsJsonObject());
+        assertEquals(built.toString(), bound.toString());
+        assertEquals(built.getCreditsUsed(), bound.getCreditsUsed());
+        assertEquals(built.isSandbox(), bound.isSandbox());
+        assertEquals(built.getSegments(), bound.getSegments());
+        assertEquals(built.getCreatedAt(), bound.getCreatedAt());
+        assertNull(bound.getDeliveredAt());
+        assertNull(bound.getErrorCode());
+
+        MessageList boundList = gson.fromJson(list, MessageList.class);
+        MessageList builtList = new MessageList(JsonParser.parseString(list).getAsJsonObject());
+        assertEquals(builtList.size(), boundList.size());
+        assertEquals(builtList.getTotal(), boundList.getTotal());
+        assertEquals(builtList.getLimit(), boundList.getLimit());
+        assertEquals(builtList.hasMore(), boundList.hasMore());
+        assertEquals("msg_1", boundList.first().getId());
+
+        WebhookDelivery boundDelivery = gson.fromJson(delivery, WebhookDelivery.class);
+        WebhookDelivery builtDelivery = new WebhookDelivery(JsonParser.parseString(delivery).getAsJsonObject());
+        assertEquals(builtDelivery.getWebhookId(), boundDelivery.getWebhookId());
+        assertEquals(builtDelivery.getAttemptNumber(), boundDelivery.getAttemptNumber());
+        assertEquals(builtDelivery.getMaxAttempts(), boundDelivery.getMaxAttempts());
+        assertEquals(builtDelivery.getResponseStatusCode(), boundDelivery.getResponseStatusCode());
+        assertNull(boundDelivery.getResponseTimeMs());
+        assertEquals(builtDelivery.getNextRetryAt(), boundDelivery.getNextRetryAt());
+    }
+
+    @Test
+    void testAlias_convertsBetweenSnakeAndCamelCase() {
+        assertEquals("createdAt", ModelAdapter.alias("created_at"));
+        assertEquals("message_type", ModelAdapter.alias("messageType"));
+        assertEquals("id", ModelAdapter.alias("id"));
+    }
+}
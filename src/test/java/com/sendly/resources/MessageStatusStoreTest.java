@@ -0,0 +1,134 @@
+package com.sendly.resources;
+
+import com.sendly.Sendly;
+import com.sendly.TestHelpers;
+import com.sendly.webhooks.Webhooks;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for MessageStatusStore ordering, eviction and API fallback.
+ */
+class MessageStatusStoreTest {
+    private static final String SECRET = "whsec_test_123";
+
+    private MockWebServer mockServer;
+    private Sendly client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.start();
+
+        client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .maxRetries(0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private static String event(String messageId, String status, String createdAt) {
+        return String.format(
+            "{\"id\":\"evt_%s_%s\",\"type\":\"message.%s\",\"data\":{\"message_id\":\"%s\",\"status\":\"%s\"},\"created_at\":\"%s\"}",
+            messageId, status, status, messageId, status, createdAt
+        );
+    }
+
+    @Test
+    void testGet_missFallsBackToApiThenHits() throws Exception {
+        mockServer.enqueue(TestHelpers.mockSuccess(
+            TestHelpers.messageJson("msg_1", "+15551234567", "Hi", "sent")
+        ));
+        MessageStatusStore store = MessageStatusStore.builder(client.messages()).build();
+
+        assertEquals("sent", store.get("msg_1").getStatus());
+        assertEquals("sent", store.get("msg_1").getStatus());
+
+        assertEquals(1, mockServer.getRequestCount());
+        assertEquals(1, store.getMissCount());
+        assertEquals(1, store.getHitCount());
+    }
+
+    @Test
+    void testUpdate_outOfOrderEventsNeverMoveBackwards() throws Exception {
+        MessageStatusStore store = MessageStatusStore.builder(client.messages()).build();
+
+        String delivered = event("msg_2", "delivered", "2025-01-15T10:00:05.000Z");
+        String queued = event("msg_2", "queued", "2025-01-15T10:00:00.000Z");
+        String sent = event("msg_2", "sent", "2025-01-15T10:00:01.000Z");
+
+        store.update(Webhooks.parseEvent(delivered, Webhooks.generateSignature(delivered, SECRET), SECRET));
+        store.update(Webhooks.parseEventLazy(queued, Webhooks.generateSignature(queued, SECRET), SECRET));
+        store.update(Webhooks.parseEvent(sent, Webhooks.generateSignature(sent, SECRET), SECRET));
+
+        MessageStatusStore.MessageStatus status = store.peek("msg_2");
+        assertEquals("delivered", status.getStatus());
+        assertTrue(status.isTerminal());
+        assertEquals(Instant.parse("2025-01-15T10:00:05.000Z"), status.getUpdatedAt());
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
+    @Test
+    void testUpdate_laterTerminalStatusWins() {
+        MessageStatusStore store = MessageStatusStore.builder(client.messages()).build();
+
+        store.update("msg_3", "failed", Instant.parse("2025-01-15T10:00:05Z"));
+        store.update("msg_3", "delivered", Instant.parse("2025-01-15T10:00:01Z"));
+        assertEquals("failed", store.peek("msg_3").getStatus());
+
+        store.update("msg_3", "delivered", Instant.parse("2025-01-15T10:00:09Z"));
+        assertEquals("delivered", store.peek("msg_3").getStatus());
+        assertEquals(Instant.parse("2025-01-15T10:00:05Z"), store.peek("msg_3").getFailedAt());
+    }
+
+    @Test
+    void testMaxEntries_evictsOldest() {
+        MessageStatusStore store = MessageStatusStore.builder(client.messages()).maxEntries(2).build();
+
+        store.update("msg_a", "queued", null);
+        store.update("msg_b", "queued", null);
+        store.update("msg_c", "queued", null);
+
+        assertEquals(2, store.size());
+        assertNull(store.peek("msg_a"));
+        assertNotNull(store.peek("msg_c"));
+    }
+
+    @Test
+    void testRemoveThenReinsert_evictsInInsertionOrder() {
+        MessageStatusStore store = MessageStatusStore.builder(client.messages()).maxEntries(2).build();
+
+        store.update("msg_a", "queued", null);
+        store.remove("msg_a");
+        store.update("msg_b", "queued", null);
+        store.update("msg_a", "sent", null);
+        store.update("msg_c", "queued", null);
+
+        assertEquals(2, store.size());
+        assertNull(store.peek("msg_b"), "msg_b is now the oldest entry");
+        assertEquals("sent", store.peek("msg_a").getStatus());
+        assertNotNull(store.peek("msg_c"));
+    }
+
+    @Test
+    void testRemoveChurn_staysWithinMaxEntries() {
+        MessageStatusStore store = MessageStatusStore.builder(client.messages()).maxEntries(3).build();
+
+        for (int i = 0; i < 1000; i++) {
+            store.update("msg_" + (i % 5), "queued", null);
+            store.remove("msg_" + ((i + 2) % 5));
+        }
+
+        assertTrue(store.size() <= 3);
+    }
+}
@@ -5,8 +5,11 @@ import com.sendly.TestHelpers;
 import com.sendly.exceptions.*;
 import com.sendly.models.Message;
 import com.sendly.models.MessageList;
+import com.sendly.models.MessageLookupResult;
 import com.sendly.models.ListMessagesRequest;
 import com.sendly.models.SendMessageRequest;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
@@ -16,6 +19,10 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -372,6 +379,87 @@ class MessagesTest {
         });
     }
 
+    // ==================== getAll() Method Tests ====================
+
+    private void dispatchMessagesById() {
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String id = request.getPath().substring(request.getPath().lastIndexOf('/') + 1);
+                if (id.startsWith("missing")) {
+                    return TestHelpers.mockNotFound();
+                }
+                if (id.startsWith("broken")) {
+                    return TestHelpers.mockSuccess("{\"id\":[1,2],\"status\":{}}");
+                }
+                return TestHelpers.mockSuccess(TestHelpers.messageJson(id, "+15551234567", "Test", "delivered"));
+            }
+        });
+    }
+
+    @Test
+    void testGetAll_dedupesAndReportsPartialFailures() throws Exception {
+        dispatchMessagesById();
+
+        MessageLookupResult result = client.messages().getAll(
+            List.of("msg_1", "missing_1", "msg_2", "msg_1", "msg_3"), 3);
+
+        assertEquals(4, mockServer.getRequestCount());
+        assertEquals(List.of("msg_1", "msg_2", "msg_3"), new ArrayList<>(result.getMessages().keySet()));
+        assertEquals("delivered", result.get("msg_2").getStatus());
+        assertFalse(result.isComplete());
+        assertInstanceOf(NotFoundException.class, result.getErrors().get("missing_1"));
+    }
+
+    @Test
+    void testGetAll_streamsToCallback() throws Exception {
+        dispatchMessagesById();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add("msg_" + i);
+        }
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        AtomicInteger errors = new AtomicInteger();
+
+        List<String> unique = client.messages().getAll(ids, 8, new Messages.LookupCallback() {
+            @Override
+            public void onMessage(String id, Message message) {
+                assertEquals(id, message.getId());
+                seen.add(id);
+            }
+
+            @Override
+            public void onError(String id, SendlyException error) {
+                errors.incrementAndGet();
+            }
+        });
+
+        assertEquals(50, unique.size());
+        assertEquals(50, seen.size());
+        assertEquals(0, errors.get());
+    }
+
+    @Test
+    void testGetAll_unreadableResponse_reportedAsError() {
+        dispatchMessagesById();
+
+        MessageLookupResult result = client.messages().getAll(List.of("msg_1", "broken_1", "msg_2", "broken_2"), 4);
+
+        assertEquals(2, result.getMessages().size());
+        assertEquals(2, result.getErrors().size());
+        assertNotNull(result.getErrors().get("broken_1").getCause());
+        assertFalse(result.isComplete());
+    }
+
+    @Test
+    void testGetAll_emptyInput_makesNoRequests() {
+        MessageLookupResult result = client.messages().getAll(List.of());
+
+        assertTrue(result.getMessages().isEmpty());
+        assertTrue(result.isComplete());
+        assertEquals(0, mockServer.getRequestCount());
+    }
+
     // ==================== each() Method Tests ====================
 
     @Test
@@ -495,6 +583,33 @@ class MessagesTest {
         });
     }
 
+    @Test
+    void testEach_pageError_wrapsSendlyException() {
+        mockServer.enqueue(TestHelpers.mockServerError());
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> client.messages().each().iterator());
+
+        assertInstanceOf(SendlyException.class, e.getCause());
+        assertEquals(500, ((SendlyException) e.getCause()).getStatusCode());
+    }
+
+    @Test
+    void testIterate_close_stopsFetchingPages() {
+        mockServer.enqueue(TestHelpers.mockSuccess(
+            TestHelpers.messageListJson(100, 0, true)
+        ));
+
+        Messages.MessageIterator iterator = client.messages().iterate();
+        for (int i = 0; i < 10; i++) {
+            iterator.next();
+        }
+        iterator.close();
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(1, mockServer.getRequestCount());
+    }
+
     // ==================== Message Model Helper Tests ====================
 
     @Test
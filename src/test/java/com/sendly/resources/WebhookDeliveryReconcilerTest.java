@@ -0,0 +1,165 @@
+package com.sendly.resources;
+
+import com.sendly.Sendly;
+import com.sendly.TestHelpers;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for WebhookDeliveryReconciler paging, filtering and retry reporting.
+ */
+class WebhookDeliveryReconcilerTest {
+    private MockWebServer mockServer;
+    private Sendly client;
+    private final List<String> retriedIds = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockServer = new MockWebServer();
+        mockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String path = request.getPath();
+                if (path.contains("/retry")) {
+                    String deliveryId = path.replaceAll(".*/deliveries/([^/]+)/retry.*", "$1");
+                    retriedIds.add(deliveryId);
+                    if (deliveryId.equals("del_bad")) {
+                        return TestHelpers.mockNotFound();
+                    }
+                    if (deliveryId.equals("del_html")) {
+                        return new MockResponse()
+                                .setResponseCode(502)
+                                .setHeader("Content-Type", "text/html")
+                                .setBody("<html><body>502 Bad Gateway</body></html>");
+                    }
+                    return TestHelpers.mockSuccess("{}");
+                }
+                int offset = Integer.parseInt(request.getRequestUrl().queryParameter("offset"));
+                if (path.contains("whk_html")) {
+                    return TestHelpers.mockSuccess("{\"data\":[" + delivery("del_1", "failed", null) + ","
+                        + delivery("del_html", "failed", null) + "]}");
+                }
+                return TestHelpers.mockSuccess(offset == 0 ? pageOne() : pageTwo());
+            }
+        });
+        mockServer.start();
+
+        client = new Sendly("sk_test_123", new Sendly.Builder()
+                .baseUrl(mockServer.url("/").toString())
+                .maxRetries(0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockServer.shutdown();
+    }
+
+    private static String delivery(String id, String status, String nextRetryAt) {
+        return String.format(
+            "{\"id\":\"%s\",\"webhook_id\":\"whk_1\",\"event_type\":\"message.delivered\",\"status\":\"%s\",\"next_retry_at\":%s}",
+            id, status, nextRetryAt == null ? "null" : "\"" + nextRetryAt + "\""
+        );
+    }
+
+    private static String pageOne() {
+        return "{\"data\":[" + delivery("del_1", "failed", null) + ","
+            + delivery("del_2", "failed", "2020-01-01T00:00:00Z") + "]}";
+    }
+
+    private static String pageTwo() {
+        return "{\"data\":[" + delivery("del_3", "failed", "2999-01-01T00:00:00Z") + ","
+            + delivery("del_bad", "failed", null) + "," + delivery("del_4", "delivered", null) + "]}";
+    }
+
+    @Test
+    void testRun_retriesEligibleFailedDeliveries() {
+        AtomicInteger progressCalls = new AtomicInteger();
+
+        WebhookDeliveryReconciler.Summary summary = client.webhooks().reconciler("whk_1")
+                .pageSize(2)
+                .concurrency(2)
+                .maxRetriesPerSecond(0)
+                .onProgress(p -> progressCalls.incrementAndGet())
+                .build()
+                .run();
+
+        assertEquals(5, summary.getScanned());
+        assertEquals(3, summary.getMatched());
+        assertEquals(2, summary.getSkipped());
+        assertEquals(2, summary.getRetried());
+        assertEquals(1, summary.getFailed());
+        assertEquals(3, summary.getCompleted());
+        assertTrue(summary.getFailures().containsKey("del_bad"));
+        assertEquals(3, progressCalls.get());
+        assertTrue(retriedIds.containsAll(List.of("del_1", "del_2", "del_bad")));
+        assertFalse(retriedIds.contains("del_3"));
+    }
+
+    @Test
+    void testRun_requestsFailedStatusWithPaging() throws Exception {
+        client.webhooks().reconciler("whk_1").pageSize(2).maxRetriesPerSecond(0).build().run();
+
+        RecordedRequest first = mockServer.takeRequest();
+        assertEquals("failed", first.getRequestUrl().queryParameter("status"));
+        assertEquals("2", first.getRequestUrl().queryParameter("limit"));
+        assertEquals("0", first.getRequestUrl().queryParameter("offset"));
+    }
+
+    @Test
+    void testRun_rateLimitSpacesRetries() {
+        long started = System.nanoTime();
+
+        client.webhooks().reconciler("whk_1")
+                .pageSize(2)
+                .concurrency(4)
+                .maxRetriesPerSecond(20)
+                .build()
+                .run();
+
+        // Three retries at 20/s need at least two 50ms gaps
+        assertTrue(System.nanoTime() - started >= 100_000_000L);
+    }
+
+    @Test
+    void testRun_nonJsonErrorIsCountedAsFailure() {
+        WebhookDeliveryReconciler.Summary summary = client.webhooks().reconciler("whk_html")
+                .maxRetriesPerSecond(0)
+                .build()
+                .run();
+
+        assertEquals(2, summary.getMatched());
+        assertEquals(1, summary.getRetried());
+        assertEquals(1, summary.getFailed());
+        assertEquals(summary.getMatched(), summary.getCompleted());
+        assertNotNull(summary.getFailures().get("del_html"));
+    }
+
+    @Test
+    void testRun_failingListenerDoesNotChangeCounts() {
+        WebhookDeliveryReconciler.Summary summary = client.webhooks().reconciler("whk_1")
+                .pageSize(2)
+                .maxRetriesPerSecond(0)
+                .onProgress(p -> {
+                    throw new IllegalStateException("listener bug");
+                })
+                .build()
+                .run();
+
+        assertEquals(3, summary.getMatched());
+        assertEquals(2, summary.getRetried());
+        assertEquals(1, summary.getFailed());
+        assertEquals(1, summary.getFailures().size());
+    }
+}
@@ -0,0 +1,223 @@
+package com.sendly.webhooks;
+
+import com.sendly.webhooks.Webhooks.WebhookEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for WebhookEventBatcher grouping, retry and shutdown behavior.
+ */
+class WebhookEventBatcherTest {
+    private static final String SECRET = "whsec_test_123";
+
+    private static WebhookEvent event(int i) throws Exception {
+        String payload = WebhooksTest.eventJson("evt_" + i, "message.delivered", "msg_" + i, "delivered");
+        return Webhooks.parseEvent(payload, Webhooks.generateSignature(payload, SECRET), SECRET);
+    }
+
+    @Test
+    void testFlushesBySize() throws Exception {
+        List<List<WebhookEvent>> batches = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch flushed = new CountDownLatch(2);
+
+        WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> {
+                    batches.add(new ArrayList<>(batch));
+                    flushed.countDown();
+                })
+                .maxBatchSize(5)
+                .flushInterval(Duration.ofMinutes(1))
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(batcher.add(event(i)));
+        }
+
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        assertEquals(2, batches.size());
+        assertEquals(5, batches.get(0).size());
+        assertEquals("evt_0", batches.get(0).get(0).getId());
+        batcher.close();
+        assertEquals(10, batcher.getDeliveredCount());
+    }
+
+    @Test
+    void testFlushesByBytes() throws Exception {
+        List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+
+        WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> sizes.add(batch.size()))
+                .maxBatchBytes(250)
+                .flushInterval(Duration.ofMinutes(1))
+                .build();
+
+        for (int i = 0; i < 6; i++) {
+            batcher.add(event(i), 100);
+        }
+        batcher.close();
+
+        assertEquals(6, sizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(sizes.stream().allMatch(size -> size <= 2));
+    }
+
+    @Test
+    void testFlushesByTime() throws Exception {
+        CountDownLatch flushed = new CountDownLatch(1);
+
+        WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> flushed.countDown())
+                .maxBatchSize(1000)
+                .flushInterval(Duration.ofMillis(50))
+                .build();
+
+        batcher.add(event(1));
+
+        assertTrue(flushed.await(5, TimeUnit.SECONDS));
+        batcher.close();
+    }
+
+    @Test
+    void testRetriesWholeBatchThenReportsFailure() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        List<WebhookEvent> failed = Collections.synchronizedList(new ArrayList<>());
+
+        WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalStateException("storage down");
+                })
+                .maxRetries(2)
+                .retryBackoff(Duration.ofMillis(1))
+                .onFailure((batch, e) -> failed.addAll(batch))
+                .build();
+
+        batcher.add(event(1));
+        batcher.add(event(2));
+        batcher.close();
+
+        assertEquals(3, attempts.get());
+        assertEquals(2, failed.size());
+        assertEquals(2, batcher.getFailedCount());
+        assertEquals(0, batcher.getDeliveredCount());
+    }
+
+    @Test
+    void testRejectsWhenFullOrClosed() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> release.await())
+                .maxBatchSize(1000)
+                .maxPendingEvents(2)
+                .flushInterval(Duration.ofMinutes(1))
+                .build();
+
+        assertTrue(batcher.add(event(1)));
+        assertTrue(batcher.add(event(2)));
+        assertFalse(batcher.add(event(3)));
+
+        release.countDown();
+        batcher.close();
+        assertFalse(batcher.add(event(4)));
+        assertEquals(2, batcher.getDeliveredCount());
+    }
+
+    @Test
+    void testConcurrentProducersDeliverEveryEvent() throws Exception {
+        AtomicInteger received = new AtomicInteger();
+        WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> received.addAndGet(batch.size()))
+                .maxBatchSize(64)
+                .flushInterval(Duration.ofMillis(10))
+                .build();
+
+        WebhookEvent event = event(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    batcher.add(event);
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        batcher.close();
+
+        assertEquals(4000, received.get());
+        assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    void testSinkError_failsBatchAndFlusherKeepsRunning() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> {
+                    if (calls.incrementAndGet() == 1) {
+                        throw new AssertionError("sink bug");
+                    }
+                    delivered.countDown();
+                })
+                .maxBatchSize(1)
+                .maxRetries(3)
+                .retryBackoff(Duration.ofMillis(1))
+                .onFailure((batch, e) -> errors.add(e))
+                .build();
+
+        batcher.add(event(1));
+        batcher.add(event(2));
+
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        batcher.close();
+        assertEquals(1, batcher.getFailedCount());
+        assertEquals(1, batcher.getDeliveredCount());
+        assertInstanceOf(AssertionError.class, errors.get(0).getCause());
+    }
+
+    @Test
+    void testAddRacingClose_neverLosesAcceptedEvent() throws Exception {
+        WebhookEvent event = event(1);
+        for (int round = 0; round < 200; round++) {
+            AtomicInteger received = new AtomicInteger();
+            WebhookEventBatcher batcher = WebhookEventBatcher.builder(batch -> received.addAndGet(batch.size()))
+                    .flushInterval(Duration.ofMinutes(1))
+                    .build();
+            AtomicInteger accepted = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> producers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread producer = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 50; i++) {
+                        if (batcher.add(event)) {
+                            accepted.incrementAndGet();
+                        }
+                    }
+                });
+                producers.add(producer);
+                producer.start();
+            }
+
+            start.countDown();
+            batcher.close();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            assertEquals(accepted.get(), received.get());
+            assertEquals(0, batcher.getPendingCount());
+        }
+    }
+}
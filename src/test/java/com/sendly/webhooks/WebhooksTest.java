@@ -0,0 +1,130 @@
+package com.sendly.webhooks;
+
+import com.sendly.webhooks.Webhooks.LazyWebhookEvent;
+import com.sendly.webhooks.Webhooks.WebhookEvent;
+import com.sendly.webhooks.Webhooks.WebhookSignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for webhook signature verification and event parsing.
+ */
+class WebhooksTest {
+    private static final String SECRET = "whsec_test_123";
+
+    static String eventJson(String id, String type, String messageId, String status) {
+        return String.format(
+            "{\"id\":\"%s\",\"type\":\"%s\",\"data\":{\"message_id\":\"%s\",\"status\":\"%s\",\"to\":\"+15551234567\",\"from\":\"Sendly\",\"error\":null,\"segments\":2,\"credits_used\":2},\"created_at\":\"2025-01-15T10:00:00.000Z\",\"api_version\":\"2024-01\"}",
+            id, type, messageId, status
+        );
+    }
+
+    // ==================== parseEvent() Tests ====================
+
+    @Test
+    void testParseEvent_happyPath() throws Exception {
+        String payload = eventJson("evt_1", "message.delivered", "msg_1", "delivered");
+        String signature = Webhooks.generateSignature(payload, SECRET);
+
+        WebhookEvent event = Webhooks.parseEvent(payload, signature, SECRET);
+
+        assertEquals("evt_1", event.getId());
+        assertEquals("message.delivered", event.getType());
+        assertEquals("msg_1", event.getData().getMessageId());
+        assertEquals(2, event.getData().getSegments());
+    }
+
+    @Test
+    void testParseEvent_invalidSignature_throws() {
+        String payload = eventJson("evt_1", "message.delivered", "msg_1", "delivered");
+
+        assertThrows(WebhookSignatureException.class, () ->
+            Webhooks.parseEvent(payload, "sha256=deadbeef", SECRET));
+    }
+
+    @Test
+    void testVerifySignature_bytesMatchString() {
+        String payload = eventJson("evt_1", "message.sent", "msg_1", "sent");
+        String signature = Webhooks.generateSignature(payload, SECRET);
+
+        assertTrue(Webhooks.verifySignature(payload, signature, SECRET));
+        assertTrue(Webhooks.verifySignature(payload.getBytes(StandardCharsets.UTF_8), signature, SECRET));
+        assertFalse(Webhooks.verifySignature(new byte[0], signature, SECRET));
+    }
+
+    // ==================== parseEventLazy() Tests ====================
+
+    @Test
+    void testParseEventLazy_readsTopLevelAndStatusFields() throws Exception {
+        String payload = eventJson("evt_2", "message.failed", "msg_2", "failed");
+        String signature = Webhooks.generateSignature(payload, SECRET);
+
+        LazyWebhookEvent event = Webhooks.parseEventLazy(payload, signature, SECRET);
+
+        assertEquals("evt_2", event.getId());
+        assertEquals("message.failed", event.getType());
+        assertEquals("2025-01-15T10:00:00.000Z", event.getCreatedAt());
+        assertEquals("2024-01", event.getApiVersion());
+        assertEquals("msg_2", event.getMessageId());
+        assertEquals("failed", event.getStatus());
+    }
+
+    @Test
+    void testParseEventLazy_decodesDataOnDemand() throws Exception {
+        String payload = eventJson("evt_3", "message.delivered", "msg_3", "delivered");
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        String signature = Webhooks.generateSignature(payload, SECRET);
+
+        LazyWebhookEvent event = Webhooks.parseEventLazy(bytes, signature, SECRET);
+        Webhooks.WebhookMessageData data = event.getData();
+
+        assertNotNull(data);
+        assertEquals("msg_3", data.getMessageId());
+        assertEquals("+15551234567", data.getTo());
+        assertEquals(2, data.getCreditsUsed());
+        assertSame(data, event.getData());
+        assertEquals("evt_3", event.toEvent().getId());
+    }
+
+    @Test
+    void testParseEventLazy_fieldOrderDoesNotMatter() throws Exception {
+        String payload = "{\"data\":{\"extra\":{\"nested\":[1,2]},\"status\":\"sent\",\"message_id\":\"msg_4\"},"
+            + "\"created_at\":\"2025-01-15T10:00:00.000Z\",\"unknown\":[true],\"type\":\"message.sent\",\"id\":\"evt_4\"}";
+        String signature = Webhooks.generateSignature(payload, SECRET);
+
+        LazyWebhookEvent event = Webhooks.parseEventLazy(payload, signature, SECRET);
+
+        assertEquals("evt_4", event.getId());
+        assertEquals("msg_4", event.getMessageId());
+        assertEquals("sent", event.getStatus());
+    }
+
+    @Test
+    void testParseEventLazy_missingFields_throws() {
+        String payload = "{\"id\":\"evt_5\",\"data\":{}}";
+        String signature = Webhooks.generateSignature(payload, SECRET);
+
+        assertThrows(WebhookSignatureException.class, () ->
+            Webhooks.parseEventLazy(payload, signature, SECRET));
+    }
+
+    @Test
+    void testParseEventLazy_malformedPayload_throws() {
+        String payload = "{\"id\":\"evt_6\",\"type\":";
+        String signature = Webhooks.generateSignature(payload, SECRET);
+
+        assertThrows(WebhookSignatureException.class, () ->
+            Webhooks.parseEventLazy(payload, signature, SECRET));
+    }
+
+    @Test
+    void testParseEventLazy_invalidSignature_throws() {
+        String payload = eventJson("evt_7", "message.sent", "msg_7", "sent");
+
+        assertThrows(WebhookSignatureException.class, () ->
+            Webhooks.parseEventLazy(payload, "sha256=00", SECRET));
+    }
+}